@@ -0,0 +1,48 @@
+// 가계부 홈(/api/ledger/home) 부하 테스트 - p99 지연 시간 / 처리량 측정
+// 실행: k6 run -e BASE_URL=http://localhost:8081 -e EMAIL=... -e PASSWORD=... loadtest/ledger-home.js
+import http from 'k6/http';
+import { check, fail } from 'k6';
+
+const BASE_URL = __ENV.BASE_URL || 'http://localhost:8081';
+const EMAIL = __ENV.EMAIL;
+const PASSWORD = __ENV.PASSWORD;
+const VUS = Number(__ENV.VUS || 1000);
+const DURATION = __ENV.DURATION || '3m';
+// 합격 기준: 홈 조회 p99 지연(ms)과 실패율. 넘으면 k6가 0이 아닌 코드로 끝난다
+const P99_MS = Number(__ENV.P99_MS || 500);
+const MAX_FAILED_RATE = Number(__ENV.MAX_FAILED_RATE || 0.01);
+
+export const options = {
+    scenarios: {
+        ledger_home: {
+            executor: 'constant-vus',
+            vus: VUS,
+            duration: DURATION,
+            gracefulStop: '30s',
+        },
+    },
+    summaryTrendStats: ['avg', 'med', 'p(90)', 'p(95)', 'p(99)', 'max'],
+    // 로그인 요청을 뺀 홈 조회 요청만 기준으로 한다
+    thresholds: {
+        'http_req_duration{name:ledger_home}': [`p(99)<${P99_MS}`],
+        'http_req_failed{name:ledger_home}': [`rate<${MAX_FAILED_RATE}`],
+    },
+};
+
+// VU마다 쿠키 저장소가 따로 있으므로 첫 반복에서 로그인하면 VU 수만큼 세션이 생긴다
+export default function () {
+    if (__ITER === 0) {
+        if (!EMAIL || !PASSWORD) {
+            fail('EMAIL, PASSWORD 환경 변수가 필요합니다.');
+        }
+        const login = http.post(
+            `${BASE_URL}/api/auth/login`,
+            JSON.stringify({ email: EMAIL, password: PASSWORD }),
+            { headers: { 'Content-Type': 'application/json' }, tags: { name: 'login' } },
+        );
+        check(login, { 'login 200': (r) => r.status === 200 }) || fail('로그인 실패');
+    }
+
+    const res = http.get(`${BASE_URL}/api/ledger/home`, { tags: { name: 'ledger_home' } });
+    check(res, { 'ledger home 200': (r) => r.status === 200 });
+}
@@ -0,0 +1,52 @@
+package com.ll.finhabit.benchmark;
+
+import com.ll.finhabit.domain.ledger.entity.Category;
+import com.ll.finhabit.domain.ledger.entity.Ledger;
+import com.ll.finhabit.domain.ledger.entity.PaymentType;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+
+// 벤치마크용 가계부 데이터 (시드 고정: 실행마다 같은 분포)
+public final class LedgerFixtures {
+
+    private static final String[] EXPENSE_CATEGORIES = {
+        "식비", "카페", "교통", "쇼핑", "주거", "통신", "의료", "문화", "교육", "경조사", "여행", "기타"
+    };
+
+    private LedgerFixtures() {}
+
+    public static List<Category> expenseCategories() {
+        List<Category> categories = new ArrayList<>(EXPENSE_CATEGORIES.length);
+        for (int i = 0; i < EXPENSE_CATEGORIES.length; i++) {
+            categories.add(
+                    Category.builder()
+                            .categoryId((long) i + 1)
+                            .categoryName(EXPENSE_CATEGORIES[i])
+                            .type("expense")
+                            .build());
+        }
+        return categories;
+    }
+
+    // start부터 days일 범위에 size건을 고르게 흩뿌린 지출 내역
+    public static List<Ledger> expenseLedgers(int size, LocalDate start, int days, long seed) {
+        SplittableRandom random = new SplittableRandom(seed);
+        List<Category> categories = expenseCategories();
+        PaymentType[] payments = PaymentType.values();
+        List<Ledger> ledgers = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            ledgers.add(
+                    Ledger.builder()
+                            .ledgerId((long) i + 1)
+                            .category(categories.get(random.nextInt(categories.size())))
+                            .amount(1_000 + random.nextInt(99_000))
+                            .merchant("merchant-" + random.nextInt(500))
+                            .date(start.plusDays(random.nextInt(days)))
+                            .payment(payments[random.nextInt(payments.length)])
+                            .build());
+        }
+        return ledgers;
+    }
+}
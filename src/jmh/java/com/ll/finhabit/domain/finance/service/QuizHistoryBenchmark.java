@@ -0,0 +1,74 @@
+package com.ll.finhabit.domain.finance.service;
+
+import com.ll.finhabit.domain.finance.dto.QuizHistoryDto;
+import com.ll.finhabit.domain.finance.dto.QuizHistoryRow;
+import java.time.LocalDate;
+import java.time.temporal.WeekFields;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Locale;
+import java.util.SplittableRandom;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// QuizService.getQuizHistory: 이번 달 풀이 기록(조인 프로젝션, 최신순)을 주차별로 한 번에 나누기
+@State(Scope.Benchmark)
+public class QuizHistoryBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int quizCount;
+
+    private final LocalDate now = LocalDate.of(2025, 12, 18);
+    private final int currentWeekOfMonth = now.get(WeekFields.of(Locale.KOREA).weekOfMonth());
+    private List<QuizHistoryRow> rows;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        // DB에서 이번 달 범위로 걸러 온 기록 (하루 여러 건이 있는 극단적인 경우까지)
+        SplittableRandom random = new SplittableRandom(42L);
+        rows = new ArrayList<>(quizCount);
+        for (int i = 0; i < quizCount; i++) {
+            rows.add(
+                    new Row(
+                            random.nextInt(1, 300),
+                            now.minusDays(random.nextInt(now.getDayOfMonth())),
+                            random.nextBoolean(),
+                            "card-" + i % 300));
+        }
+        rows.sort(Comparator.comparing(QuizHistoryRow::getAttemptedDate).reversed());
+    }
+
+    @Benchmark
+    public List<List<QuizHistoryDto.QuizHistoryItem>> groupByWeekOfMonth() {
+        return QuizService.groupByWeekOfMonth(rows, currentWeekOfMonth);
+    }
+
+    private record Row(Integer quizId, LocalDate attemptedDate, Boolean isCorrect, String cardTitle)
+            implements QuizHistoryRow {
+
+        @Override
+        public Integer getQuizId() {
+            return quizId;
+        }
+
+        @Override
+        public LocalDate getAttemptedDate() {
+            return attemptedDate;
+        }
+
+        @Override
+        public Boolean getIsCorrect() {
+            return isCorrect;
+        }
+
+        @Override
+        public String getCardTitle() {
+            return cardTitle;
+        }
+    }
+}
@@ -0,0 +1,99 @@
+package com.ll.finhabit.domain.ledger.service;
+
+import com.ll.finhabit.benchmark.LedgerFixtures;
+import com.ll.finhabit.domain.ledger.dto.LedgerCategorySummary;
+import com.ll.finhabit.domain.ledger.dto.LedgerHomeResponse;
+import com.ll.finhabit.domain.ledger.dto.LedgerResponse;
+import com.ll.finhabit.domain.ledger.entity.Category;
+import com.ll.finhabit.domain.ledger.entity.Ledger;
+import java.time.LocalDate;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// LedgerService.getLedgerHome의 인메모리 구간: 지출 내역 DTO 변환 + 카테고리 합계/비율 계산
+@State(Scope.Benchmark)
+public class LedgerHomeBenchmark {
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int ledgerCount;
+
+    private List<Ledger> ledgers;
+    private List<LedgerCategorySummary> summaries;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ledgers = LedgerFixtures.expenseLedgers(ledgerCount, LocalDate.of(2025, 12, 1), 31, 42L);
+
+        // DB GROUP BY 결과와 같은 모양으로 미리 집계해 둔다
+        Map<Category, long[]> totals = new LinkedHashMap<>();
+        for (Ledger ledger : ledgers) {
+            long[] total = totals.computeIfAbsent(ledger.getCategory(), c -> new long[2]);
+            total[0] += ledger.getAmount();
+            total[1]++;
+        }
+        summaries =
+                totals.entrySet().stream()
+                        .map(e -> (LedgerCategorySummary) new Summary(e.getKey(), e.getValue()))
+                        .toList();
+    }
+
+    @Benchmark
+    public List<LedgerResponse> ledgerResponses() {
+        return ledgers.stream().map(LedgerService::toLedgerResponse).toList();
+    }
+
+    // 가계부 엔티티를 한 번 순회해 카테고리별 합계/건수/비율까지 계산
+    @Benchmark
+    public List<LedgerAggregator.Entry> aggregateLedgers() {
+        LedgerAggregator aggregator = new LedgerAggregator();
+        for (Ledger ledger : ledgers) {
+            aggregator.add(ledger);
+        }
+        return aggregator.entries();
+    }
+
+    @Benchmark
+    public List<LedgerHomeResponse.TodayCategory> todayCategories() {
+        return LedgerService.toTodayCategories(LedgerService.aggregate(summaries, "expense"));
+    }
+
+    @Benchmark
+    public List<LedgerHomeResponse.CategoryRatio> categoryRatios() {
+        return LedgerService.toCategoryRatios(LedgerService.aggregate(summaries, "expense"));
+    }
+
+    private record Summary(Category category, long[] total) implements LedgerCategorySummary {
+
+        @Override
+        public Long getCategoryId() {
+            return category.getCategoryId();
+        }
+
+        @Override
+        public String getCategoryName() {
+            return category.getCategoryName();
+        }
+
+        @Override
+        public String getType() {
+            return category.getType();
+        }
+
+        @Override
+        public Long getTotalAmount() {
+            return total[0];
+        }
+
+        @Override
+        public Long getEntryCount() {
+            return total[1];
+        }
+    }
+}
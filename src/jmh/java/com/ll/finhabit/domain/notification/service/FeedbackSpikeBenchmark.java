@@ -0,0 +1,47 @@
+package com.ll.finhabit.domain.notification.service;
+
+import com.ll.finhabit.benchmark.LedgerFixtures;
+import com.ll.finhabit.domain.ledger.entity.Ledger;
+import com.ll.finhabit.domain.ledger.service.LedgerAggregator;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+
+// NotificationService 피드백 카드: 카테고리별 합계 + 지난주 대비 소비 급증 탐지
+// 운영 코드와 같이 2주치를 한 번에 조회한 목록에서 기간별로 나눠 집계한다
+@State(Scope.Benchmark)
+public class FeedbackSpikeBenchmark {
+
+    private static final LocalDate THIS_MONDAY = LocalDate.of(2025, 12, 15);
+    private static final LocalDate LAST_MONDAY = THIS_MONDAY.minusWeeks(1);
+
+    @Param({"100", "1000", "10000", "100000"})
+    public int ledgerCount;
+
+    private List<Ledger> ledgers;
+
+    @Setup(Level.Trial)
+    public void setUp() {
+        ledgers = new ArrayList<>(ledgerCount * 2);
+        ledgers.addAll(LedgerFixtures.expenseLedgers(ledgerCount, LAST_MONDAY, 7, 7L));
+        ledgers.addAll(LedgerFixtures.expenseLedgers(ledgerCount, THIS_MONDAY, 7, 42L));
+    }
+
+    @Benchmark
+    public LedgerAggregator sumByCategory() {
+        return NotificationService.sumByCategory(ledgers, THIS_MONDAY, THIS_MONDAY.plusDays(6));
+    }
+
+    @Benchmark
+    public NotificationService.SpikeResult detectSpike() {
+        return NotificationService.detectSpike(
+                NotificationService.sumByCategory(ledgers, THIS_MONDAY, THIS_MONDAY.plusDays(6)),
+                NotificationService.sumByCategory(ledgers, LAST_MONDAY, LAST_MONDAY.plusDays(6)));
+    }
+}
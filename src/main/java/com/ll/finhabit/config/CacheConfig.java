@@ -0,0 +1,60 @@
+package com.ll.finhabit.config;
+
+import com.github.benmanes.caffeine.cache.Caffeine;
+import com.ll.finhabit.global.common.CacheNames;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.EnableCaching;
+import org.springframework.cache.caffeine.CaffeineCacheManager;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+@EnableCaching
+public class CacheConfig {
+
+    @Value("${finhabit.cache.reference.max-size:1000}")
+    private long referenceMaxSize;
+
+    @Value("${finhabit.cache.reference.ttl:1h}")
+    private Duration referenceTtl;
+
+    @Value("${finhabit.cache.login-user.max-size:10000}")
+    private long loginUserMaxSize;
+
+    // 0이면 요청 간 캐시 없이 요청마다 한 번 조회
+    @Value("${finhabit.cache.login-user.ttl:30s}")
+    private Duration loginUserTtl;
+
+    // token 모드는 여러 인스턴스를 라운드 로빈으로 띄우는 모드인데, @CacheEvict는 요청을 받은 인스턴스의 캐시만 비운다.
+    // 다른 인스턴스는 TTL 동안 이전 값(레벨/알림 설정, 탈퇴 여부)을 볼 수 있으므로 더 짧게 둔다
+    @Value("${finhabit.cache.login-user.token-mode-ttl:5s}")
+    private Duration tokenModeLoginUserTtl;
+
+    @Value("${finhabit.session.mode:servlet}")
+    private String sessionMode;
+
+    @Bean
+    public CacheManager cacheManager() {
+        CaffeineCacheManager cacheManager = new CaffeineCacheManager();
+        // 참조 데이터(카테고리/미션/레벨테스트/퀴즈/금융지식): 크기 제한 + TTL + 히트/미스 통계
+        cacheManager.setCaffeine(
+                Caffeine.newBuilder()
+                        .maximumSize(referenceMaxSize)
+                        .expireAfterWrite(referenceTtl)
+                        .recordStats());
+        cacheManager.setCacheNames(CacheNames.REFERENCE_DATA);
+        // 로그인 사용자: 인스턴스별 로컬 캐시라 다른 인스턴스의 변경은 TTL이 지나야 보인다
+        Duration ttl = "token".equals(sessionMode) ? tokenModeLoginUserTtl : loginUserTtl;
+        cacheManager.registerCustomCache(
+                CacheNames.LOGIN_USER,
+                Caffeine.newBuilder()
+                        .maximumSize(loginUserMaxSize)
+                        .expireAfterWrite(ttl)
+                        .recordStats()
+                        .build());
+        cacheManager.setAllowNullValues(false);
+        return cacheManager;
+    }
+}
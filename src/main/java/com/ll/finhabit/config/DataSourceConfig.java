@@ -0,0 +1,27 @@
+package com.ll.finhabit.config;
+
+import com.zaxxer.hikari.HikariDataSource;
+import org.springframework.beans.factory.config.BeanPostProcessor;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class DataSourceConfig {
+
+    // MySQL 드라이버는 기본적으로 배치 insert를 한 건씩 보낸다.
+    // 다중 VALUES 한 문장으로 재작성하도록 켜서 JDBC 배치(일괄 등록 등)가 실제로 왕복 횟수를 줄이게 한다.
+    @Bean
+    public static BeanPostProcessor mysqlBatchRewritePostProcessor() {
+        return new BeanPostProcessor() {
+            @Override
+            public Object postProcessBeforeInitialization(Object bean, String beanName) {
+                if (bean instanceof HikariDataSource hikari
+                        && hikari.getJdbcUrl() != null
+                        && hikari.getJdbcUrl().startsWith("jdbc:mysql:")) {
+                    hikari.addDataSourceProperty("rewriteBatchedStatements", "true");
+                }
+                return bean;
+            }
+        };
+    }
+}
@@ -0,0 +1,20 @@
+package com.ll.finhabit.config;
+
+import org.springframework.boot.autoconfigure.flyway.FlywayConfigurationCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class FlywayConfig {
+
+    // 이미 ddl-auto로 스키마가 만들어진 DB는 V1(기준 스키마)을 적용된 것으로 보고 V2부터 실행
+    @Bean
+    public FlywayConfigurationCustomizer baselineCustomizer() {
+        return configuration ->
+                configuration
+                        .baselineOnMigrate(true)
+                        .baselineVersion("1")
+                        // 운영 DB에서 clean 실행 방지
+                        .cleanDisabled(true);
+    }
+}
@@ -0,0 +1,34 @@
+package com.ll.finhabit.config;
+
+import com.ll.finhabit.global.idempotency.IdempotencyStore;
+import com.ll.finhabit.global.idempotency.InMemoryIdempotencyStore;
+import com.ll.finhabit.global.idempotency.JdbcIdempotencyStore;
+import java.time.Duration;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.autoconfigure.condition.ConditionalOnProperty;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@Configuration
+public class IdempotencyConfig {
+
+    // 기본: 인스턴스 메모리 (크기 제한 + TTL)
+    @Bean
+    @ConditionalOnProperty(
+            name = "finhabit.idempotency.store",
+            havingValue = "memory",
+            matchIfMissing = true)
+    public IdempotencyStore inMemoryIdempotencyStore(
+            @Value("${finhabit.idempotency.max-entries:10000}") long maxEntries,
+            @Value("${finhabit.idempotency.ttl:24h}") Duration ttl) {
+        return new InMemoryIdempotencyStore(maxEntries, ttl);
+    }
+
+    // 여러 인스턴스로 운영할 때: idempotency_key 테이블 공유
+    @Bean
+    @ConditionalOnProperty(name = "finhabit.idempotency.store", havingValue = "jdbc")
+    public IdempotencyStore jdbcIdempotencyStore(JdbcTemplate jdbcTemplate) {
+        return new JdbcIdempotencyStore(jdbcTemplate);
+    }
+}
@@ -0,0 +1,35 @@
+package com.ll.finhabit.config;
+
+import com.ll.finhabit.global.jpa.QueryCountInspector;
+import org.hibernate.cfg.AvailableSettings;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.context.annotation.Bean;
+import org.springframework.context.annotation.Configuration;
+
+@Configuration
+public class JpaConfig {
+
+    // 요청별 SQL 실행 횟수 집계용 StatementInspector 등록
+    @Bean
+    public HibernatePropertiesCustomizer queryCountCustomizer() {
+        return properties ->
+                properties.put(AvailableSettings.STATEMENT_INSPECTOR, new QueryCountInspector());
+    }
+
+    // 스키마는 Flyway 마이그레이션(db/migration)만 관리한다.
+    // 환경별 설정의 ddl-auto와 관계없이 Hibernate의 스키마 생성/검증(부팅 시 전체 테이블 메타데이터 조회)을 끈다.
+    @Bean
+    public HibernatePropertiesCustomizer schemaManagementCustomizer() {
+        return properties -> properties.put(AvailableSettings.HBM2DDL_AUTO, "none");
+    }
+
+    // 애플리케이션 생성 ID(@TsidId) 엔티티는 insert를 배치로 묶어 보낸다 (IDENTITY 엔티티는 Hibernate가 자동으로 제외)
+    @Bean
+    public HibernatePropertiesCustomizer jdbcBatchCustomizer() {
+        return properties -> {
+            properties.put(AvailableSettings.STATEMENT_BATCH_SIZE, 50);
+            properties.put(AvailableSettings.ORDER_INSERTS, true);
+            properties.put(AvailableSettings.ORDER_UPDATES, true);
+        };
+    }
+}
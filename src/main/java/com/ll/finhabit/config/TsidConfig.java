@@ -0,0 +1,29 @@
+package com.ll.finhabit.config;
+
+import com.ll.finhabit.global.jpa.Tsid;
+import java.util.Arrays;
+import java.util.Set;
+import org.springframework.context.annotation.Configuration;
+import org.springframework.core.env.Environment;
+
+// TSID 노드 번호 확인: 로컬/테스트(프로필 없음 포함)가 아니면 FINHABIT_TSID_NODE 없이 기동하지 않는다.
+// 무작위 노드는 64개 중 하나라서 인스턴스가 여러 개면 언젠가 겹치고, 같은 밀리초에 PK 충돌이 날 수 있다.
+@Configuration
+public class TsidConfig {
+
+    private static final Set<String> RANDOM_NODE_PROFILES = Set.of("local", "test");
+
+    public TsidConfig(Environment environment) {
+        String[] activeProfiles = environment.getActiveProfiles();
+        boolean randomNodeAllowed =
+                activeProfiles.length == 0
+                        || Arrays.stream(activeProfiles).anyMatch(RANDOM_NODE_PROFILES::contains);
+
+        if (!Tsid.isNodeConfigured() && !randomNodeAllowed) {
+            throw new IllegalStateException(
+                    "FINHABIT_TSID_NODE(0~63)를 인스턴스마다 다르게 지정해야 합니다. (활성 프로필: "
+                            + String.join(",", activeProfiles)
+                            + ")");
+        }
+    }
+}
@@ -1,6 +1,8 @@
 package com.ll.finhabit.config;
 
+import com.ll.finhabit.global.interceptor.IdempotencyInterceptor;
 import com.ll.finhabit.global.interceptor.LoginCheckInterceptor;
+import com.ll.finhabit.global.interceptor.QueryCountInterceptor;
 import com.ll.finhabit.global.resolver.CurrentUserArgumentResolver;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -15,6 +17,8 @@ import org.springframework.web.servlet.config.annotation.WebMvcConfigurer;
 public class WebConfig implements WebMvcConfigurer {
 
     private final LoginCheckInterceptor loginCheckInterceptor;
+    private final IdempotencyInterceptor idempotencyInterceptor;
+    private final QueryCountInterceptor queryCountInterceptor;
     private final CurrentUserArgumentResolver currentUserArgumentResolver;
 
     @Override
@@ -26,11 +30,14 @@ public class WebConfig implements WebMvcConfigurer {
                         "https://finhabit.vercel.app")
                 .allowedMethods("GET", "POST", "PUT", "DELETE", "PATCH", "OPTIONS")
                 .allowedHeaders("*")
+                .exposedHeaders("Server-Timing", IdempotencyInterceptor.REPLAYED_HEADER)
                 .allowCredentials(true);
     }
 
     @Override
     public void addInterceptors(InterceptorRegistry registry) {
+        registry.addInterceptor(queryCountInterceptor).addPathPatterns("/api/**");
+
         registry.addInterceptor(loginCheckInterceptor)
                 .addPathPatterns("/**")
                 .excludePathPatterns(
@@ -46,6 +53,11 @@ public class WebConfig implements WebMvcConfigurer {
                         "/css/**",
                         "/js/**",
                         "/images/**");
+
+        // 로그인 체크 뒤에 두어 사용자별로 키를 구분한다
+        registry.addInterceptor(idempotencyInterceptor)
+                .addPathPatterns(IdempotencyInterceptor.PATH_PATTERNS)
+                .excludePathPatterns(IdempotencyInterceptor.EXCLUDED_PATH_PATTERNS);
     }
 
     @Override
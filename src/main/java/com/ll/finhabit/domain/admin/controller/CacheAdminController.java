@@ -0,0 +1,72 @@
+package com.ll.finhabit.domain.admin.controller;
+
+import com.ll.finhabit.domain.admin.dto.CacheStatsResponse;
+import com.ll.finhabit.domain.admin.service.CacheAdminService;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.bind.annotation.*;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/admin/cache")
+@Tag(name = "Admin Cache", description = "참조 데이터 캐시 통계 조회 / 무효화 / 재적재 (관리자 전용)")
+public class CacheAdminController {
+
+    private static final String ADMIN_TOKEN_HEADER = "X-Admin-Token";
+
+    private final CacheAdminService cacheAdminService;
+
+    @GetMapping
+    @Operation(summary = "캐시 통계 조회", description = "캐시별 적재 건수와 히트/미스 횟수를 조회합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "캐시 통계 조회 성공"),
+        @ApiResponse(responseCode = "403", description = "관리자 토큰 불일치")
+    })
+    public List<CacheStatsResponse> getStats(
+            @Parameter(description = "관리자 토큰")
+                    @RequestHeader(value = ADMIN_TOKEN_HEADER, required = false)
+                    String token) {
+        cacheAdminService.verifyAdmin(token);
+        return cacheAdminService.getStats();
+    }
+
+    @DeleteMapping("/{cacheName}")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(summary = "캐시 무효화", description = "지정한 캐시의 모든 항목을 비웁니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "204", description = "캐시 무효화 성공"),
+        @ApiResponse(responseCode = "403", description = "관리자 토큰 불일치"),
+        @ApiResponse(responseCode = "404", description = "존재하지 않는 캐시")
+    })
+    public void invalidate(
+            @Parameter(description = "관리자 토큰")
+                    @RequestHeader(value = ADMIN_TOKEN_HEADER, required = false)
+                    String token,
+            @PathVariable String cacheName) {
+        cacheAdminService.verifyAdmin(token);
+        cacheAdminService.invalidate(cacheName);
+    }
+
+    @PostMapping("/reload")
+    @ResponseStatus(HttpStatus.NO_CONTENT)
+    @Operation(
+            summary = "참조 데이터 캐시 재적재",
+            description = "카테고리/미션/레벨테스트/퀴즈/금융지식 캐시를 비우고 DB에서 다시 적재합니다.")
+    @ApiResponses({
+        @ApiResponse(responseCode = "204", description = "재적재 성공"),
+        @ApiResponse(responseCode = "403", description = "관리자 토큰 불일치")
+    })
+    public void reload(
+            @Parameter(description = "관리자 토큰")
+                    @RequestHeader(value = ADMIN_TOKEN_HEADER, required = false)
+                    String token) {
+        cacheAdminService.verifyAdmin(token);
+        cacheAdminService.reloadReferenceData();
+    }
+}
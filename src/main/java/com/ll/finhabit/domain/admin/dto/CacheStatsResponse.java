@@ -0,0 +1,15 @@
+package com.ll.finhabit.domain.admin.dto;
+
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class CacheStatsResponse {
+    private String name;
+    private long size; // 현재 적재 건수(추정치)
+    private long hitCount;
+    private long missCount;
+    private double hitRate;
+    private long evictionCount;
+}
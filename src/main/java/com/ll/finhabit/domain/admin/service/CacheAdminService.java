@@ -0,0 +1,116 @@
+package com.ll.finhabit.domain.admin.service;
+
+import com.github.benmanes.caffeine.cache.stats.CacheStats;
+import com.ll.finhabit.domain.admin.dto.CacheStatsResponse;
+import com.ll.finhabit.domain.auth.dto.LevelTestInfo;
+import com.ll.finhabit.domain.auth.repository.LevelTestRepository;
+import com.ll.finhabit.domain.finance.dto.DailyFinanceInfo;
+import com.ll.finhabit.domain.finance.repository.DailyFinanceRepository;
+import com.ll.finhabit.domain.finance.repository.QuizRepository;
+import com.ll.finhabit.domain.ledger.repository.CategoryRepository;
+import com.ll.finhabit.global.common.CacheNames;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.caffeine.CaffeineCache;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.web.server.ResponseStatusException;
+
+@Slf4j
+@Service
+@RequiredArgsConstructor
+public class CacheAdminService {
+
+    private final CacheManager cacheManager;
+
+    private final CategoryRepository categoryRepository;
+    private final LevelTestRepository levelTestRepository;
+    private final QuizRepository quizRepository;
+    private final DailyFinanceRepository dailyFinanceRepository;
+
+    @Value("${finhabit.admin.token:}")
+    private String adminToken;
+
+    // 관리자 토큰 검증 (토큰 미설정 시 관리자 API 비활성화)
+    public void verifyAdmin(String token) {
+        if (adminToken.isBlank()
+                || token == null
+                || !MessageDigest.isEqual(
+                        adminToken.getBytes(StandardCharsets.UTF_8),
+                        token.getBytes(StandardCharsets.UTF_8))) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "관리자 권한이 없습니다.");
+        }
+    }
+
+    public List<CacheStatsResponse> getStats() {
+        return cacheManager.getCacheNames().stream()
+                .map(cacheManager::getCache)
+                .filter(CaffeineCache.class::isInstance)
+                .map(CaffeineCache.class::cast)
+                .map(this::toStats)
+                .toList();
+    }
+
+    public void invalidate(String cacheName) {
+        getCache(cacheName).invalidate();
+        log.info("캐시 무효화: {}", cacheName);
+    }
+
+    // 참조 데이터 캐시 전체 비우고 다시 적재 (캐시 값은 모두 엔티티가 아닌 프로젝션)
+    @Transactional(readOnly = true)
+    public void reloadReferenceData() {
+        CacheNames.REFERENCE_DATA.forEach(this::invalidate);
+
+        Cache categoryCache = getCache(CacheNames.CATEGORY);
+        categoryRepository
+                .findAllInfos()
+                .forEach(category -> categoryCache.put(category.categoryId(), category));
+
+        List<LevelTestInfo> levelTests = levelTestRepository.findAllInfos(); // 목록 자체가 캐시됨
+        Cache levelTestCache = getCache(CacheNames.LEVEL_TEST);
+        levelTests.forEach(test -> levelTestCache.put(test.testId(), test));
+
+        Cache quizCache = getCache(CacheNames.QUIZ);
+        quizRepository.findAllInfos().forEach(quiz -> quizCache.put(quiz.quizId(), quiz));
+
+        Cache byFinanceId = getCache(CacheNames.DAILY_FINANCE_BY_FINANCE_ID);
+        Cache byQuizId = getCache(CacheNames.DAILY_FINANCE_BY_QUIZ_ID);
+        for (DailyFinanceInfo finance : dailyFinanceRepository.findAllInfos()) {
+            if (finance.financeId() != null) {
+                byFinanceId.put(finance.financeId(), finance);
+            }
+            if (finance.quizId() != null) {
+                byQuizId.put(finance.quizId(), finance);
+            }
+        }
+
+        log.info("참조 데이터 캐시 재적재 완료");
+    }
+
+    private Cache getCache(String cacheName) {
+        Cache cache = cacheManager.getCache(cacheName);
+        if (cache == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 캐시입니다.");
+        }
+        return cache;
+    }
+
+    private CacheStatsResponse toStats(CaffeineCache cache) {
+        CacheStats stats = cache.getNativeCache().stats();
+        return CacheStatsResponse.builder()
+                .name(cache.getName())
+                .size(cache.getNativeCache().estimatedSize())
+                .hitCount(stats.hitCount())
+                .missCount(stats.missCount())
+                .hitRate(stats.hitRate())
+                .evictionCount(stats.evictionCount())
+                .build();
+    }
+}
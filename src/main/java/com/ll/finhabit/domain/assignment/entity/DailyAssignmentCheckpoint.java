@@ -0,0 +1,35 @@
+package com.ll.finhabit.domain.assignment.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.*;
+
+@Entity
+@Table(name = "daily_assignment_checkpoint")
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class DailyAssignmentCheckpoint {
+
+    @Id
+    @Column(name = "target_date")
+    private LocalDate targetDate; // 배정 대상 날짜
+
+    @Column(name = "last_user_id", nullable = false)
+    private Long lastUserId; // 마지막으로 처리한 유저 ID (다음 청크는 이 ID 다음부터)
+
+    @Column(name = "processed_users", nullable = false)
+    private Integer processedUsers;
+
+    @Column(name = "failed_users", nullable = false)
+    private Integer failedUsers;
+
+    @Column(nullable = false)
+    private Boolean completed;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -0,0 +1,43 @@
+package com.ll.finhabit.domain.assignment.repository;
+
+import com.ll.finhabit.domain.assignment.entity.DailyAssignmentCheckpoint;
+import java.time.LocalDate;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface DailyAssignmentCheckpointRepository
+        extends JpaRepository<DailyAssignmentCheckpoint, LocalDate> {
+
+    // 재시작 시 이어서 실행할 미완료 작업 (이미 지난 날짜는 제외)
+    List<DailyAssignmentCheckpoint> findByCompletedFalseAndTargetDateGreaterThanEqual(
+            LocalDate date);
+
+    // 대상 날짜의 체크포인트 행이 없으면 만든다 (여러 인스턴스가 동시에 실행해도 한 행만 생김)
+    @Modifying
+    @Query(
+            value =
+                    """
+                    insert ignore into daily_assignment_checkpoint
+                        (target_date, last_user_id, processed_users, failed_users, completed,
+                         updated_at)
+                    values (:targetDate, 0, 0, 0, false, now(6))
+                    """,
+            nativeQuery = true)
+    int createIfAbsent(@Param("targetDate") LocalDate targetDate);
+
+    // 청크 실행 권한: 체크포인트 행을 트랜잭션 끝까지 잠근다.
+    // 다른 인스턴스가 청크를 처리 중이면 기다리지 않고 빈 값을 반환한다 (그 인스턴스가 이어서 처리)
+    @Query(
+            value =
+                    """
+                    select * from daily_assignment_checkpoint
+                     where target_date = :targetDate
+                       for update skip locked
+                    """,
+            nativeQuery = true)
+    Optional<DailyAssignmentCheckpoint> claim(@Param("targetDate") LocalDate targetDate);
+}
@@ -0,0 +1,217 @@
+package com.ll.finhabit.domain.assignment.service;
+
+import com.ll.finhabit.domain.assignment.entity.DailyAssignmentCheckpoint;
+import com.ll.finhabit.domain.assignment.repository.DailyAssignmentCheckpointRepository;
+import com.ll.finhabit.domain.auth.entity.User;
+import com.ll.finhabit.domain.auth.repository.UserRepository;
+import com.ll.finhabit.domain.finance.service.FinanceService;
+import com.ll.finhabit.domain.mission.service.MissionService;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.util.List;
+import java.util.function.ToIntFunction;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.TransactionDefinition;
+import org.springframework.transaction.support.TransactionTemplate;
+
+/**
+ * 오늘의 미션/지식 카드를 전날 밤에 미리 배정하는 작업. 아침 요청 경로는 인덱스 조회만 하게 된다.
+ *
+ * <p>퀴즈 기록(UserQuiz)은 유저가 퀴즈를 연 기록이므로 미리 만들지 않는다. (요청 때 오늘 카드에 연결된 퀴즈로 생성) 미리 배정한
+ * 카드를 열지 않고 지나가면 다음 배정 때 그 카드를 다시 배정한다.
+ *
+ * <p>최근 {@code finhabit.assignment.active-days}일 안에 지식 카드를 열어본 유저만 대상으로 한다. (오랜만에 들어온
+ * 유저는 기존처럼 첫 요청 때 배정) 유저 ID 순으로 청크 단위 트랜잭션에서 처리하고, 청크마다 체크포인트를 같은 트랜잭션에서
+ * 갱신하므로 중단되면 마지막 청크 다음부터 이어서 실행한다.
+ */
+@Slf4j
+@Component
+public class DailyAssignmentJob {
+
+    private final UserRepository userRepository;
+    private final MissionService missionService;
+    private final FinanceService financeService;
+    private final DailyAssignmentCheckpointRepository checkpointRepository;
+    private final TransactionTemplate transactionTemplate;
+    private final TransactionTemplate userTransactionTemplate;
+    private final TaskScheduler taskScheduler;
+    private final int chunkSize;
+    private final int activeDays;
+
+    public DailyAssignmentJob(
+            UserRepository userRepository,
+            MissionService missionService,
+            FinanceService financeService,
+            DailyAssignmentCheckpointRepository checkpointRepository,
+            PlatformTransactionManager transactionManager,
+            TaskScheduler taskScheduler,
+            @Value("${finhabit.assignment.chunk-size:500}") int chunkSize,
+            @Value("${finhabit.assignment.active-days:7}") int activeDays) {
+        this.userRepository = userRepository;
+        this.missionService = missionService;
+        this.financeService = financeService;
+        this.checkpointRepository = checkpointRepository;
+        this.transactionTemplate = new TransactionTemplate(transactionManager);
+        // 청크 재시도 중 유저별 배정: 체크포인트를 잠근 바깥 트랜잭션과 분리해 한 명의 실패가 청크를 롤백시키지 않게 한다
+        this.userTransactionTemplate = new TransactionTemplate(transactionManager);
+        this.userTransactionTemplate.setPropagationBehavior(
+                TransactionDefinition.PROPAGATION_REQUIRES_NEW);
+        this.taskScheduler = taskScheduler;
+        this.chunkSize = chunkSize;
+        this.activeDays = activeDays;
+    }
+
+    // 매일 밤 (트래픽이 적은 시간) 다음 날 배정분을 미리 만든다
+    @Scheduled(cron = "${finhabit.assignment.cron:0 0 23 * * *}")
+    public void assignTomorrow() {
+        run(LocalDate.now().plusDays(1));
+    }
+
+    // 배포/장애로 중단된 작업은 부팅 후 체크포인트부터 이어서 실행 (부팅 스레드를 막지 않도록 스케줄러에서)
+    @EventListener(ApplicationReadyEvent.class)
+    public void resumeUnfinished() {
+        taskScheduler.schedule(this::resumeNow, Instant.now());
+    }
+
+    private void resumeNow() {
+        for (DailyAssignmentCheckpoint checkpoint :
+                checkpointRepository.findByCompletedFalseAndTargetDateGreaterThanEqual(
+                        LocalDate.now())) {
+            log.info("중단된 일일 배정 작업을 이어서 실행합니다: date={}", checkpoint.getTargetDate());
+            run(checkpoint.getTargetDate());
+        }
+    }
+
+    /**
+     * 여러 인스턴스가 동시에 실행해도 된다. 청크마다 체크포인트 행을 잠근 트랜잭션 안에서 다음 유저 ID를 읽고 배정하므로 같은 청크를 두 번
+     * 처리하지 않고, 다른 인스턴스가 청크를 처리 중이면 그 인스턴스에 맡기고 종료한다.
+     */
+    public synchronized void run(LocalDate targetDate) {
+        transactionTemplate.executeWithoutResult(
+                status -> checkpointRepository.createIfAbsent(targetDate));
+
+        LocalDate activeSince = LocalDate.now().minusDays(activeDays);
+        log.info("일일 배정 작업 시작: date={}, activeSince={}", targetDate, activeSince);
+
+        ChunkResult result;
+        do {
+            result = processNextChunk(targetDate, activeSince);
+        } while (result == ChunkResult.PROCESSED);
+
+        if (result == ChunkResult.CLAIMED_BY_OTHER) {
+            log.info("다른 인스턴스가 일일 배정 작업을 실행 중입니다: date={}", targetDate);
+            return;
+        }
+
+        checkpointRepository
+                .findById(targetDate)
+                .ifPresent(
+                        checkpoint ->
+                                log.info(
+                                        "일일 배정 작업 완료: date={}, processed={}, failed={}",
+                                        targetDate,
+                                        checkpoint.getProcessedUsers(),
+                                        checkpoint.getFailedUsers()));
+    }
+
+    // 청크 배정과 체크포인트 갱신을 체크포인트 행을 잠근 한 트랜잭션으로 커밋 (재시작/동시 실행 시 중복/누락 없음)
+    private ChunkResult processNextChunk(LocalDate targetDate, LocalDate activeSince) {
+        try {
+            return transactionTemplate.execute(
+                    status ->
+                            withClaimedChunk(
+                                    targetDate,
+                                    activeSince,
+                                    userIds -> {
+                                        for (User user : userRepository.findAllById(userIds)) {
+                                            assign(user, targetDate);
+                                        }
+                                        return 0;
+                                    }));
+        } catch (RuntimeException e) {
+            // 한 명 때문에 청크 전체가 막히지 않도록 유저별 트랜잭션으로 다시 처리하고, 실패한 유저는 건너뛴다
+            // (건너뛴 유저는 다음 날 첫 요청 때 배정된다)
+            log.warn("일일 배정 청크 실패, 유저별로 재시도합니다: date={}", targetDate, e);
+
+            return transactionTemplate.execute(
+                    status ->
+                            withClaimedChunk(
+                                    targetDate,
+                                    activeSince,
+                                    userIds -> assignEach(userIds, targetDate)));
+        }
+    }
+
+    // 체크포인트 행을 잠그고 다음 청크를 처리한 뒤 진행 상황을 기록 (잠그지 못하면 다른 인스턴스가 처리 중)
+    // work는 청크를 배정하고 실패한 유저 수를 반환한다
+    private ChunkResult withClaimedChunk(
+            LocalDate targetDate, LocalDate activeSince, ToIntFunction<List<Long>> work) {
+        DailyAssignmentCheckpoint checkpoint =
+                checkpointRepository.claim(targetDate).orElse(null);
+        if (checkpoint == null) {
+            return ChunkResult.CLAIMED_BY_OTHER;
+        }
+        if (checkpoint.getCompleted()) {
+            return ChunkResult.DONE;
+        }
+
+        List<Long> userIds =
+                userRepository.findActiveUserIdsAfter(
+                        checkpoint.getLastUserId(), activeSince, Limit.of(chunkSize));
+        if (userIds.isEmpty()) {
+            checkpoint.setCompleted(true);
+            checkpoint.setUpdatedAt(LocalDateTime.now());
+            return ChunkResult.DONE;
+        }
+
+        int failed = work.applyAsInt(userIds);
+
+        checkpoint.setLastUserId(userIds.get(userIds.size() - 1));
+        checkpoint.setProcessedUsers(checkpoint.getProcessedUsers() + userIds.size() - failed);
+        checkpoint.setFailedUsers(checkpoint.getFailedUsers() + failed);
+        checkpoint.setUpdatedAt(LocalDateTime.now());
+        return ChunkResult.PROCESSED;
+    }
+
+    // 유저마다 별도 트랜잭션(REQUIRES_NEW)으로 배정하고 실패한 유저 수를 반환
+    private int assignEach(List<Long> userIds, LocalDate targetDate) {
+        int failed = 0;
+        for (Long userId : userIds) {
+            try {
+                userTransactionTemplate.executeWithoutResult(
+                        status ->
+                                userRepository
+                                        .findById(userId)
+                                        .ifPresent(user -> assign(user, targetDate)));
+            } catch (DataIntegrityViolationException duplicate) {
+                // 같은 날짜를 요청 경로에서 먼저 배정함 (유니크 키) → 이미 배정된 것으로 본다
+                log.debug("이미 배정되어 있습니다: userId={}, date={}", userId, targetDate);
+            } catch (RuntimeException userError) {
+                failed++;
+                log.warn("일일 배정 실패: userId={}, date={}", userId, targetDate, userError);
+            }
+        }
+        return failed;
+    }
+
+    private void assign(User user, LocalDate date) {
+        missionService.assignMission(user, date);
+        financeService.assignKnowledge(user, date);
+    }
+
+    private enum ChunkResult {
+        PROCESSED,
+        DONE,
+        CLAIMED_BY_OTHER
+    }
+}
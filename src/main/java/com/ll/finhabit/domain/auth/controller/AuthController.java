@@ -1,5 +1,6 @@
 package com.ll.finhabit.domain.auth.controller;
 
+import com.ll.finhabit.domain.auth.dto.LevelTestInfo;
 import com.ll.finhabit.domain.auth.dto.LoginRequest;
 import com.ll.finhabit.domain.auth.dto.LoginResponse;
 import com.ll.finhabit.domain.auth.dto.SignupRequest;
@@ -7,11 +8,11 @@ import com.ll.finhabit.domain.auth.dto.SignupResponse;
 import com.ll.finhabit.domain.auth.dto.UserMeUpdateDto;
 import com.ll.finhabit.domain.auth.dto.UserPasswordUpdateDto;
 import com.ll.finhabit.domain.auth.dto.UserProfileResponseDto;
-import com.ll.finhabit.domain.auth.entity.LevelTest;
 import com.ll.finhabit.domain.auth.repository.LevelTestRepository;
 import com.ll.finhabit.domain.auth.service.AuthService;
 import com.ll.finhabit.global.common.CurrentUser;
 import com.ll.finhabit.global.exception.ErrorResponse;
+import com.ll.finhabit.global.session.LoginSessionService;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -21,7 +22,7 @@ import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
+import jakarta.servlet.http.HttpServletResponse;
 import jakarta.validation.Valid;
 import java.util.List;
 import lombok.RequiredArgsConstructor;
@@ -44,8 +45,7 @@ public class AuthController {
 
     private final AuthService authService;
     private final LevelTestRepository levelTestRepository;
-
-    private static final String LOGIN_USER_ID = "LOGIN_USER_ID";
+    private final LoginSessionService loginSessionService;
 
     @PostMapping("/signup")
     @Operation(
@@ -143,8 +143,8 @@ public class AuthController {
                     - 각 문제에는 선택지와 정답 정보가 포함됩니다.
                     """)
     @ApiResponses({@ApiResponse(responseCode = "200", description = "레벨 테스트 문제 조회 성공")})
-    public List<LevelTest> getLevelTests() {
-        return levelTestRepository.findAll();
+    public List<LevelTestInfo> getLevelTests() {
+        return levelTestRepository.findAllInfos();
     }
 
     @PostMapping("/login")
@@ -154,8 +154,8 @@ public class AuthController {
                     """
                     이메일과 비밀번호로 로그인합니다.
 
-                    - 로그인 성공 시 세션에 LOGIN_USER_ID가 저장됩니다.
-                    - 이후 인증이 필요한 API는 해당 세션을 기준으로 동작합니다.
+                    - 로그인 성공 시 세션에 LOGIN_USER_ID가 저장됩니다. (token 모드에서는 서명된 세션 토큰 쿠키 발급)
+                    - 이후 인증이 필요한 API는 해당 세션(토큰)을 기준으로 동작합니다.
                     """)
     @ApiResponses({
         @ApiResponse(
@@ -201,11 +201,13 @@ public class AuthController {
                                 }
                                 """)))
     })
-    public LoginResponse login(@RequestBody LoginRequest request, HttpServletRequest httpRequest) {
+    public LoginResponse login(
+            @RequestBody LoginRequest request,
+            HttpServletRequest httpRequest,
+            HttpServletResponse httpResponse) {
         LoginResponse res = authService.login(request);
 
-        HttpSession session = httpRequest.getSession();
-        session.setAttribute(LOGIN_USER_ID, res.getId());
+        loginSessionService.login(httpRequest, httpResponse, res.getId());
 
         return res;
     }
@@ -215,17 +217,14 @@ public class AuthController {
             summary = "로그아웃",
             description =
                     """
-                    현재 로그인된 사용자의 세션을 무효화하여 로그아웃 처리합니다.
+                    현재 로그인된 사용자의 세션을 무효화하여 로그아웃 처리합니다. (token 모드에서는 세션 토큰 쿠키 삭제)
 
                     - 세션이 존재하지 않아도 에러 없이 성공 처리됩니다.
                     """)
     @ApiResponses({@ApiResponse(responseCode = "200", description = "로그아웃 성공")})
-    public ResponseEntity<Void> logout(HttpServletRequest request) {
+    public ResponseEntity<Void> logout(HttpServletRequest request, HttpServletResponse response) {
 
-        HttpSession session = request.getSession(false);
-        if (session != null) {
-            session.invalidate();
-        }
+        loginSessionService.logout(request, response);
 
         return ResponseEntity.ok().build();
     }
@@ -243,17 +242,7 @@ public class AuthController {
     @ApiResponses({@ApiResponse(responseCode = "200", description = "조회 성공")})
     public ResponseEntity<Long> me(HttpServletRequest request) {
 
-        HttpSession session = request.getSession(false);
-        if (session == null) {
-            return ResponseEntity.ok(null);
-        }
-
-        Object userId = session.getAttribute(LOGIN_USER_ID);
-        if (userId == null) {
-            return ResponseEntity.ok(null);
-        }
-
-        return ResponseEntity.ok((Long) userId);
+        return ResponseEntity.ok(LoginSessionService.currentUserId(request));
     }
 
     @GetMapping("/me/profile")
@@ -492,16 +481,16 @@ public class AuthController {
                                 }
                                 """)))
     })
-    public ResponseEntity<Void> deleteMe(HttpServletRequest request) {
+    public ResponseEntity<Void> deleteMe(
+            HttpServletRequest request, HttpServletResponse response) {
 
-        HttpSession session = request.getSession(false);
-        if (session == null || session.getAttribute(LOGIN_USER_ID) == null) {
+        Long userId = LoginSessionService.currentUserId(request);
+        if (userId == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
         }
 
-        Long userId = (Long) session.getAttribute(LOGIN_USER_ID);
         authService.deleteUser(userId);
-        session.invalidate();
+        loginSessionService.logout(request, response);
 
         return ResponseEntity.noContent().build();
     }
@@ -0,0 +1,11 @@
+package com.ll.finhabit.domain.auth.dto;
+
+// 레벨 테스트 문항 (캐시 값이자 문제 조회 응답, 엔티티 대신 불변 record)
+public record LevelTestInfo(
+        Long testId,
+        String testCategory,
+        String testQuestion,
+        String testOption1,
+        String testOption2,
+        String testOption3,
+        Integer testAnswer) {}
@@ -1,6 +1,35 @@
 package com.ll.finhabit.domain.auth.repository;
 
+import com.ll.finhabit.domain.auth.dto.LevelTestInfo;
 import com.ll.finhabit.domain.auth.entity.LevelTest;
+import com.ll.finhabit.global.common.CacheNames;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface LevelTestRepository extends JpaRepository<LevelTest, Long> {}
+public interface LevelTestRepository extends JpaRepository<LevelTest, Long> {
+
+    @Cacheable(cacheNames = CacheNames.LEVEL_TEST, unless = "#result == null")
+    @Query(
+            """
+            select new com.ll.finhabit.domain.auth.dto.LevelTestInfo(
+                       t.testId, t.testCategory, t.testQuestion,
+                       t.testOption1, t.testOption2, t.testOption3, t.testAnswer)
+              from LevelTest t
+             where t.testId = :testId
+            """)
+    Optional<LevelTestInfo> findInfoById(@Param("testId") Long testId);
+
+    @Cacheable(cacheNames = CacheNames.LEVEL_TESTS, key = "'all'")
+    @Query(
+            """
+            select new com.ll.finhabit.domain.auth.dto.LevelTestInfo(
+                       t.testId, t.testCategory, t.testQuestion,
+                       t.testOption1, t.testOption2, t.testOption3, t.testAnswer)
+              from LevelTest t
+            """)
+    List<LevelTestInfo> findAllInfos();
+}
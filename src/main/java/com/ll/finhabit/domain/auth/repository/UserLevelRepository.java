@@ -2,9 +2,12 @@ package com.ll.finhabit.domain.auth.repository;
 
 import com.ll.finhabit.domain.auth.entity.UserLevel;
 import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
 
-public interface UserLevelRepository extends JpaRepository<UserLevel, Long> {
+public interface UserLevelRepository
+        extends JpaRepository<UserLevel, Long>, UserLevelRepositoryCustom {
+    @EntityGraph(attributePaths = "test")
     List<UserLevel> findByUserId(Long userId);
 
     void deleteByUser_Id(Long userId);
@@ -0,0 +1,10 @@
+package com.ll.finhabit.domain.auth.repository;
+
+import com.ll.finhabit.domain.auth.entity.UserLevel;
+import java.util.List;
+
+public interface UserLevelRepositoryCustom {
+
+    // IDENTITY 전략에서는 Hibernate 배치가 꺼지므로 JDBC 배치로 한 번에 저장
+    void batchInsert(List<UserLevel> userLevels);
+}
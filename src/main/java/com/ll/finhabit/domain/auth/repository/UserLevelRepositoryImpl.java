@@ -0,0 +1,35 @@
+package com.ll.finhabit.domain.auth.repository;
+
+import com.ll.finhabit.domain.auth.entity.UserLevel;
+import java.sql.Types;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class UserLevelRepositoryImpl implements UserLevelRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "insert into userlevel (user_id, test_id, is_correct, user_answer) values (?, ?, ?, ?)";
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(List<UserLevel> userLevels) {
+        if (userLevels.isEmpty()) {
+            return;
+        }
+
+        jdbcTemplate.batchUpdate(
+                INSERT_SQL,
+                userLevels,
+                userLevels.size(),
+                (ps, userLevel) -> {
+                    ps.setLong(1, userLevel.getUser().getId());
+                    ps.setLong(2, userLevel.getTest().getTestId());
+                    ps.setBoolean(3, userLevel.getIsCorrect());
+                    // 래퍼 타입 언박싱 NPE 방지 (null 검증은 LevelTestGrader에서)
+                    ps.setObject(4, userLevel.getUserAnswer(), Types.INTEGER);
+                });
+    }
+}
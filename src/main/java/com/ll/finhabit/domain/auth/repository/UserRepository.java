@@ -1,8 +1,14 @@
 package com.ll.finhabit.domain.auth.repository;
 
 import com.ll.finhabit.domain.auth.entity.User;
+import com.ll.finhabit.global.session.LoginUser;
+import java.time.LocalDate;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findByEmail(String email);
@@ -12,4 +18,31 @@ public interface UserRepository extends JpaRepository<User, Long> {
     Optional<User> findById(Long userId);
 
     Optional<User> findByNickname(String nickname);
+
+    // 로그인 사용자 principal: 유저 + 알림 설정(없으면 기본값 ON)을 한 번에
+    @Query(
+            """
+            select new com.ll.finhabit.global.session.LoginUser(
+                       u.id, u.level, coalesce(s.enabled, true))
+              from User u
+              left join NotificationSetting s on s.userId = u.id
+             where u.id = :userId
+            """)
+    Optional<LoginUser> findLoginUser(@Param("userId") Long userId);
+
+    // 가계부 쓰기와 월간 롤업 재계산을 유저 단위로 직렬화하기 위한 행 잠금 (트랜잭션 끝까지 유지)
+    @Query(value = "select id from users where id = :userId for update", nativeQuery = true)
+    Optional<Long> lockById(@Param("userId") Long userId);
+
+    // 일일 배정 작업용: 최근 지식 카드를 열어본 유저 ID를 afterId 다음부터 id 순으로 (키셋 청크)
+    @Query(
+            """
+            select u.id from User u
+             where u.id > :afterId
+               and exists (select 1 from UserKnowledge k
+                            where k.userId = u.id and k.viewedAt >= :since)
+             order by u.id
+            """)
+    List<Long> findActiveUserIdsAfter(
+            @Param("afterId") Long afterId, @Param("since") LocalDate since, Limit limit);
 }
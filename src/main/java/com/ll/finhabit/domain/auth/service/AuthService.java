@@ -4,9 +4,13 @@ import com.ll.finhabit.domain.auth.dto.*;
 import com.ll.finhabit.domain.auth.entity.User;
 import com.ll.finhabit.domain.auth.repository.UserLevelRepository;
 import com.ll.finhabit.domain.auth.repository.UserRepository;
+import com.ll.finhabit.domain.finance.repository.UserKnowledgeProgressRepository;
+import com.ll.finhabit.domain.ledger.repository.LedgerMonthlyRollupRepository;
 import com.ll.finhabit.domain.mission.repository.UserMissionRepository;
+import com.ll.finhabit.global.common.CacheNames;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.http.HttpStatus;
 import org.springframework.security.crypto.password.PasswordEncoder;
 import org.springframework.stereotype.Service;
@@ -23,10 +27,13 @@ public class AuthService {
 
     private final UserMissionRepository userMissionRepository;
     private final UserLevelRepository userLevelRepository;
+    private final LedgerMonthlyRollupRepository ledgerMonthlyRollupRepository;
+    private final UserKnowledgeProgressRepository userKnowledgeProgressRepository;
 
     // 분리한 컴포넌트
     private final AuthValidator authValidator;
     private final LevelTestGrader levelTestGrader;
+    private final LoginUserService loginUserService;
 
     @Transactional
     public SignupResponse signup(SignupRequest req) {
@@ -80,6 +87,7 @@ public class AuthService {
     }
 
     @Transactional
+    @CacheEvict(cacheNames = CacheNames.LOGIN_USER, key = "#userId")
     public void deleteUser(Long userId) {
 
         User user =
@@ -91,8 +99,14 @@ public class AuthService {
                                                 HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
 
         userLevelRepository.deleteByUser_Id(userId);
+        userMissionRepository.deleteRequestKeysByUserId(userId);
         userMissionRepository.deleteByUser_Id(userId);
+        ledgerMonthlyRollupRepository.deleteByUserId(userId);
+        userKnowledgeProgressRepository.deleteByUserId(userId);
         userRepository.delete(user);
+
+        // 커밋 전에 다른 요청이 다시 캐시한 principal이 남지 않도록 커밋 뒤에 한 번 더 비운다
+        loginUserService.evictAfterCommit(userId);
     }
 
     @Transactional(readOnly = true)
@@ -1,12 +1,16 @@
 package com.ll.finhabit.domain.auth.service;
 
 import com.ll.finhabit.domain.auth.dto.LevelTestAnswer;
-import com.ll.finhabit.domain.auth.entity.LevelTest;
+import com.ll.finhabit.domain.auth.dto.LevelTestInfo;
 import com.ll.finhabit.domain.auth.entity.User;
 import com.ll.finhabit.domain.auth.entity.UserLevel;
 import com.ll.finhabit.domain.auth.repository.LevelTestRepository;
 import com.ll.finhabit.domain.auth.repository.UserLevelRepository;
+import java.util.ArrayList;
 import java.util.List;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import lombok.extern.slf4j.Slf4j;
 import org.springframework.http.HttpStatus;
@@ -28,31 +32,38 @@ public class LevelTestGrader {
             return GradeResult.empty(TOTAL_QUESTIONS);
         }
 
+        // 문제 은행은 캐시된 전체 목록에서 조회 (답안마다 findById 하지 않음)
+        Map<Long, LevelTestInfo> questionBank =
+                levelTestRepository.findAllInfos().stream()
+                        .collect(Collectors.toMap(LevelTestInfo::testId, Function.identity()));
+
         int correctCount = 0;
+        List<UserLevel> userLevels = new ArrayList<>(answers.size());
 
         for (LevelTestAnswer answerDto : answers) {
-            LevelTest test =
-                    levelTestRepository
-                            .findById(answerDto.getTestId())
-                            .orElseThrow(
-                                    () ->
-                                            new ResponseStatusException(
-                                                    HttpStatus.BAD_REQUEST, "존재하지 않는 문제입니다."));
+            LevelTestInfo test = questionBank.get(answerDto.getTestId());
+            if (test == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "존재하지 않는 문제입니다.");
+            }
+            // userlevel.user_answer는 NOT NULL이므로 저장 전에 막는다
+            if (answerDto.getUserAnswer() == null) {
+                throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "답을 선택하지 않은 문제가 있습니다.");
+            }
 
-            boolean isCorrect = test.getTestAnswer().equals(answerDto.getUserAnswer());
+            boolean isCorrect = test.testAnswer().equals(answerDto.getUserAnswer());
             if (isCorrect) correctCount++;
 
-            UserLevel userLevel =
+            userLevels.add(
                     UserLevel.builder()
                             .user(user)
-                            .test(test)
+                            .test(levelTestRepository.getReferenceById(test.testId()))
                             .isCorrect(isCorrect)
                             .userAnswer(answerDto.getUserAnswer())
-                            .build();
-
-            userLevelRepository.save(userLevel);
+                            .build());
         }
 
+        userLevelRepository.batchInsert(userLevels);
+
         int level = calculateLevel(correctCount);
         int correctRate = (int) Math.round(correctCount * 100.0 / TOTAL_QUESTIONS);
 
@@ -0,0 +1,52 @@
+package com.ll.finhabit.domain.auth.service;
+
+import com.ll.finhabit.domain.auth.repository.UserRepository;
+import com.ll.finhabit.global.common.CacheNames;
+import com.ll.finhabit.global.session.LoginUser;
+import lombok.RequiredArgsConstructor;
+import org.springframework.cache.Cache;
+import org.springframework.cache.CacheManager;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+
+// @CurrentUser LoginUser 조회: 유저 + 알림 설정 조인 한 번, 짧은 TTL 캐시(loginUser)
+@Service
+@RequiredArgsConstructor
+public class LoginUserService {
+
+    private final UserRepository userRepository;
+    private final CacheManager cacheManager;
+
+    // 탈퇴 등으로 유저가 없으면 null (캐시하지 않음)
+    @Cacheable(cacheNames = CacheNames.LOGIN_USER, key = "#userId", unless = "#result == null")
+    @Transactional(readOnly = true)
+    public LoginUser load(Long userId) {
+        return userRepository.findLoginUser(userId).orElse(null);
+    }
+
+    // 변경 트랜잭션이 커밋된 뒤에 캐시를 한 번 더 비운다.
+    // @CacheEvict는 커밋 전에 실행되므로 그 사이 다른 요청이 커밋 전 값을 다시 캐시할 수 있다 (롤백되면 비우지 않는다)
+    public void evictAfterCommit(Long userId) {
+        if (!TransactionSynchronizationManager.isSynchronizationActive()) {
+            evict(userId);
+            return;
+        }
+        TransactionSynchronizationManager.registerSynchronization(
+                new TransactionSynchronization() {
+                    @Override
+                    public void afterCommit() {
+                        evict(userId);
+                    }
+                });
+    }
+
+    private void evict(Long userId) {
+        Cache cache = cacheManager.getCache(CacheNames.LOGIN_USER);
+        if (cache != null) {
+            cache.evict(userId);
+        }
+    }
+}
@@ -5,6 +5,7 @@ import com.ll.finhabit.domain.finance.entity.DailyFinance;
 import com.ll.finhabit.domain.finance.service.FinanceService;
 import com.ll.finhabit.global.common.CurrentUser;
 import com.ll.finhabit.global.exception.ErrorResponse;
+import com.ll.finhabit.global.session.LoginUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -122,10 +123,10 @@ public class FinanceController {
                                 """)))
     })
     public ResponseEntity<FinanceCardDto> getTodayFinanceKnowledge(
-            @Parameter(hidden = true, description = "세션을 통해 자동 주입되는 로그인 사용자 ID") @CurrentUser
-                    Long userId) {
+            @Parameter(hidden = true, description = "세션을 통해 자동 주입되는 로그인 사용자") @CurrentUser
+                    LoginUser loginUser) {
 
-        FinanceCardDto dto = financeService.getTodayFinanceKnowledge(userId);
+        FinanceCardDto dto = financeService.getTodayFinanceKnowledge(loginUser);
         return ResponseEntity.ok(dto);
     }
 
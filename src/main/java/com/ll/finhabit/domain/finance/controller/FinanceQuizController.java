@@ -4,6 +4,7 @@ import com.ll.finhabit.domain.finance.dto.FinanceQuizResponseDto;
 import com.ll.finhabit.domain.finance.service.FinanceQuizService;
 import com.ll.finhabit.global.common.CurrentUser;
 import com.ll.finhabit.global.exception.ErrorResponse;
+import com.ll.finhabit.global.session.LoginUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -138,10 +139,10 @@ public class FinanceQuizController {
                                 """)))
     })
     public ResponseEntity<FinanceQuizResponseDto> getFinanceQuizData(
-            @Parameter(hidden = true, description = "세션 기반 인증을 통해 자동 주입되는 로그인 사용자 ID") @CurrentUser
-                    Long userId) {
+            @Parameter(hidden = true, description = "세션 기반 인증을 통해 자동 주입되는 로그인 사용자") @CurrentUser
+                    LoginUser loginUser) {
 
-        FinanceQuizResponseDto dto = financeQuizService.getFinanceQuizData(userId);
+        FinanceQuizResponseDto dto = financeQuizService.getFinanceQuizData(loginUser);
         return ResponseEntity.ok(dto);
     }
 }
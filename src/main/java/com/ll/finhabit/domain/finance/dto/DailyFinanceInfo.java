@@ -0,0 +1,13 @@
+package com.ll.finhabit.domain.finance.dto;
+
+import java.time.LocalDate;
+
+// 금융 지식 카드 참조 데이터 (캐시 값, 엔티티 대신 불변 record)
+public record DailyFinanceInfo(
+        Long id,
+        Integer financeId,
+        Integer quizId,
+        String cardContent,
+        String cardTitle,
+        Integer cardLevel,
+        LocalDate createdDate) {}
@@ -24,4 +24,14 @@ public class FinanceCardDto {
             this.opendDate = knowledge.getOpendDate();
         }
     }
+
+    public FinanceCardDto(DailyFinanceInfo finance, UserKnowledge knowledge) {
+        this.financeId = finance.financeId();
+        this.cardTitle = finance.cardTitle();
+        this.cardContent = finance.cardContent();
+        this.cardLevel = finance.cardLevel();
+        if (knowledge != null) {
+            this.opendDate = knowledge.getOpendDate();
+        }
+    }
 }
@@ -1,6 +1,5 @@
 package com.ll.finhabit.domain.finance.dto;
 
-import com.ll.finhabit.domain.finance.entity.Quiz;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -12,11 +11,11 @@ public class QuizAnswerDto {
     private final String explanation;
     private final Boolean isCorrect;
 
-    public static QuizAnswerDto of(Quiz quiz, Boolean isCorrect) {
+    public static QuizAnswerDto of(QuizInfo quiz, Boolean isCorrect) {
         return QuizAnswerDto.builder()
-                .quizId(quiz.getQuizId())
-                .answer(quiz.getAnswer())
-                .explanation(quiz.getExplanation())
+                .quizId(quiz.quizId())
+                .answer(quiz.answer())
+                .explanation(quiz.explanation())
                 .isCorrect(isCorrect)
                 .build();
     }
@@ -0,0 +1,18 @@
+package com.ll.finhabit.domain.finance.dto;
+
+import com.ll.finhabit.domain.finance.entity.DailyFinance;
+import com.ll.finhabit.domain.finance.entity.Quiz;
+import com.ll.finhabit.domain.finance.entity.UserKnowledge;
+import com.ll.finhabit.domain.finance.entity.UserQuiz;
+
+// 퀴즈 히스토리 상세: 풀이 기록 + 퀴즈 + 연결 카드 + 카드 열람 기록 (조인 한 번, 없는 쪽은 null)
+public interface QuizHistoryDetailRow {
+
+    UserQuiz getUserQuiz();
+
+    Quiz getQuiz();
+
+    DailyFinance getDailyFinance();
+
+    UserKnowledge getUserKnowledge();
+}
@@ -0,0 +1,15 @@
+package com.ll.finhabit.domain.finance.dto;
+
+import java.time.LocalDate;
+
+// 퀴즈 풀이 기록 + 연결된 지식 카드 제목 (UserQuiz - DailyFinance 조인 프로젝션)
+public interface QuizHistoryRow {
+
+    Integer getQuizId();
+
+    LocalDate getAttemptedDate();
+
+    Boolean getIsCorrect();
+
+    String getCardTitle(); // 연결된 카드가 없으면 null
+}
@@ -0,0 +1,11 @@
+package com.ll.finhabit.domain.finance.dto;
+
+// 퀴즈 참조 데이터 (캐시 값, 엔티티 대신 불변 record)
+public record QuizInfo(
+        Integer quizId,
+        String question,
+        String option1,
+        String option2,
+        String option3,
+        Integer answer,
+        String explanation) {}
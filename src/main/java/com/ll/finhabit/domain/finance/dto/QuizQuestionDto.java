@@ -1,6 +1,5 @@
 package com.ll.finhabit.domain.finance.dto;
 
-import com.ll.finhabit.domain.finance.entity.Quiz;
 import lombok.Builder;
 import lombok.Getter;
 
@@ -15,13 +14,13 @@ public class QuizQuestionDto {
 
     private final Boolean isAnswered;
 
-    public static QuizQuestionDto of(Quiz quiz, Boolean isAnswered) {
+    public static QuizQuestionDto of(QuizInfo quiz, Boolean isAnswered) {
         return QuizQuestionDto.builder()
-                .quizId(quiz.getQuizId())
-                .question(quiz.getQuestion())
-                .option1(quiz.getOption1())
-                .option2(quiz.getOption2())
-                .option3(quiz.getOption3())
+                .quizId(quiz.quizId())
+                .question(quiz.question())
+                .option1(quiz.option1())
+                .option2(quiz.option2())
+                .option3(quiz.option3())
                 .isAnswered(isAnswered)
                 .build();
     }
@@ -5,13 +5,19 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
 import lombok.Getter;
 import lombok.Setter;
 
 @Entity
-@Table(name = "DailyFinance")
+@Table(
+        name = "DailyFinance",
+        indexes =
+                @Index(
+                        name = "idx_daily_finance_level_created",
+                        columnList = "cardLevel, createdDate"))
 @Getter
 @Setter
 public class DailyFinance {
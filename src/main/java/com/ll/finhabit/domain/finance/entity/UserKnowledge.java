@@ -4,6 +4,7 @@ import jakarta.persistence.Entity;
 import jakarta.persistence.GeneratedValue;
 import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
 import jakarta.persistence.Table;
 import java.time.LocalDate;
 import lombok.AllArgsConstructor;
@@ -12,7 +13,15 @@ import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
-@Table(name = "UserKnowledge")
+@Table(
+        name = "UserKnowledge",
+        indexes = {
+            @Index(
+                    name = "uk_user_knowledge_user_opend_date",
+                    columnList = "userId, opendDate",
+                    unique = true),
+            @Index(name = "idx_user_knowledge_user_finance", columnList = "userId, financeId")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
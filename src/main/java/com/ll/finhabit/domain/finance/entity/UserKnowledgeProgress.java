@@ -0,0 +1,42 @@
+package com.ll.finhabit.domain.finance.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.*;
+
+// 유저별/레벨별 지식 카드 진행 커서: 레벨 카탈로그(createdDate, id 순)에서 마지막으로 배정한 카드 위치
+@Entity
+@Table(
+        name = "user_knowledge_progress",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "uk_user_knowledge_progress_user_level",
+                    columnNames = {"user_id", "card_level"})
+        })
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class UserKnowledgeProgress {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    private Long id;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "card_level", nullable = false)
+    private Integer cardLevel;
+
+    @Column(name = "last_created_date")
+    private LocalDate lastCreatedDate; // 마지막 카드의 등록일
+
+    @Column(name = "last_card_id", nullable = false)
+    private Long lastCardId; // 마지막 카드의 DailyFinance.id (같은 등록일 안에서의 순서)
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
@@ -1,23 +1,34 @@
 package com.ll.finhabit.domain.finance.entity;
 
+import com.ll.finhabit.global.jpa.TsidId;
 import jakarta.persistence.Column;
 import jakarta.persistence.Entity;
-import jakarta.persistence.GeneratedValue;
-import jakarta.persistence.GenerationType;
 import jakarta.persistence.Id;
+import jakarta.persistence.Index;
+import jakarta.persistence.Table;
 import java.time.LocalDate;
 import lombok.Getter;
 import lombok.NoArgsConstructor;
 import lombok.Setter;
 
 @Entity
+@Table(
+        indexes = {
+            @Index(
+                    name = "uk_user_quiz_user_attempted_date",
+                    columnList = "userId, attemptedDate",
+                    unique = true),
+            @Index(
+                    name = "idx_user_quiz_user_quiz_answered",
+                    columnList = "userId, quizId, isAnswered")
+        })
 @Getter
 @Setter
 @NoArgsConstructor
 public class UserQuiz {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long id;
 
     @Column(nullable = false)
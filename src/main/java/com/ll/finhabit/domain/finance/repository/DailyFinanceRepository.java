@@ -1,19 +1,58 @@
 package com.ll.finhabit.domain.finance.repository;
 
+import com.ll.finhabit.domain.finance.dto.DailyFinanceInfo;
 import com.ll.finhabit.domain.finance.entity.DailyFinance;
+import com.ll.finhabit.global.common.CacheNames;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.cache.annotation.Cacheable;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface DailyFinanceRepository extends JpaRepository<DailyFinance, Long> {
-    List<DailyFinance> findByCardLevelOrderByCreatedDateAsc(Integer cardLevel);
+    // 캐시에는 영속성 컨텍스트와 무관한 프로젝션만 담는다
+    String INFO =
+            """
+            select new com.ll.finhabit.domain.finance.dto.DailyFinanceInfo(
+                       d.id, d.financeId, d.quizId, d.cardContent, d.cardTitle,
+                       d.cardLevel, d.createdDate)
+              from DailyFinance d
+            """;
 
-    Optional<DailyFinance> findByFinanceId(Integer financeId);
+    // 레벨별 카탈로그: (createdDate, id) 순서가 진행 커서(UserKnowledgeProgress)의 기준
+    @Cacheable(cacheNames = CacheNames.DAILY_FINANCE_BY_LEVEL)
+    @Query(INFO + " where d.cardLevel = :cardLevel order by d.createdDate asc, d.id asc")
+    List<DailyFinanceInfo> findCatalogByCardLevel(@Param("cardLevel") Integer cardLevel);
 
-    Optional<DailyFinance> findByQuizId(Integer quizId);
+    @Cacheable(cacheNames = CacheNames.DAILY_FINANCE_BY_FINANCE_ID, unless = "#result == null")
+    @Query(INFO + " where d.financeId = :financeId")
+    Optional<DailyFinanceInfo> findInfoByFinanceId(@Param("financeId") Integer financeId);
+
+    @Cacheable(cacheNames = CacheNames.DAILY_FINANCE_BY_QUIZ_ID, unless = "#result == null")
+    @Query(INFO + " where d.quizId = :quizId")
+    Optional<DailyFinanceInfo> findInfoByQuizId(@Param("quizId") Integer quizId);
+
+    // 캐시 재적재용
+    @Query(INFO)
+    List<DailyFinanceInfo> findAllInfos();
 
     Optional<DailyFinance> findTopByCreatedDateOrderByIdDesc(LocalDate createdDate);
 
     Optional<DailyFinance> findTopByOrderByCreatedDateDescIdDesc();
+
+    // 레벨별 카드 중 유저가 아직 배정받지 않은 첫 카드 ID (등록일 순, NOT EXISTS 안티 조인 한 번으로 조회)
+    // 진행 커서가 카탈로그 끝에 도달했을 때, 커서 앞쪽에 나중에 추가된 카드를 찾는 데 사용
+    @Query(
+            """
+            select d.financeId from DailyFinance d
+             where d.cardLevel = :cardLevel
+               and not exists (select 1 from UserKnowledge k
+                                where k.userId = :userId and k.financeId = d.financeId)
+             order by d.createdDate asc, d.id asc
+            """)
+    List<Integer> findNextUnseenFinanceIds(
+            @Param("userId") Long userId, @Param("cardLevel") Integer cardLevel, Limit limit);
 }
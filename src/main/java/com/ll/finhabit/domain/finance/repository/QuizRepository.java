@@ -1,9 +1,34 @@
 package com.ll.finhabit.domain.finance.repository;
 
+import com.ll.finhabit.domain.finance.dto.QuizInfo;
 import com.ll.finhabit.domain.finance.entity.Quiz;
+import com.ll.finhabit.global.common.CacheNames;
+import java.util.List;
 import java.util.Optional;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface QuizRepository extends JpaRepository<Quiz, Long> {
-    Optional<Quiz> findByQuizId(Integer quizId);
+    @Cacheable(cacheNames = CacheNames.QUIZ, unless = "#result == null")
+    @Query(
+            """
+            select new com.ll.finhabit.domain.finance.dto.QuizInfo(
+                       q.quizId, q.question, q.option1, q.option2, q.option3,
+                       q.answer, q.explanation)
+              from Quiz q
+             where q.quizId = :quizId
+            """)
+    Optional<QuizInfo> findInfoByQuizId(@Param("quizId") Integer quizId);
+
+    // 캐시 재적재용
+    @Query(
+            """
+            select new com.ll.finhabit.domain.finance.dto.QuizInfo(
+                       q.quizId, q.question, q.option1, q.option2, q.option3,
+                       q.answer, q.explanation)
+              from Quiz q
+            """)
+    List<QuizInfo> findAllInfos();
 }
@@ -0,0 +1,13 @@
+package com.ll.finhabit.domain.finance.repository;
+
+import com.ll.finhabit.domain.finance.entity.UserKnowledgeProgress;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+
+public interface UserKnowledgeProgressRepository
+        extends JpaRepository<UserKnowledgeProgress, Long> {
+
+    Optional<UserKnowledgeProgress> findByUserIdAndCardLevel(Long userId, Integer cardLevel);
+
+    void deleteByUserId(Long userId);
+}
@@ -4,15 +4,30 @@ import com.ll.finhabit.domain.finance.entity.UserKnowledge;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserKnowledgeRepository extends JpaRepository<UserKnowledge, Long> {
     Optional<UserKnowledge> findByUserIdAndFinanceId(Long userId, Integer financeId);
 
-    List<UserKnowledge> findByUserId(Long userId);
-
-    List<UserKnowledge> findByUserIdAndOpendDateBetween(
+    List<UserKnowledge> findByUserIdAndOpendDateBetweenAndViewedAtIsNotNull(
             Long userId, LocalDate startDate, LocalDate endDate);
 
     Optional<UserKnowledge> findByUserIdAndOpendDate(Long userId, LocalDate opendDate);
+
+    // 미리 배정됐지만 열어보지 않고 지나간 카드 (오래된 순, 건너뛴 날의 카드를 다시 배정할 때)
+    @Query(
+            """
+            select k from UserKnowledge k
+             where k.userId = :userId and k.viewedAt is null and k.opendDate < :before
+             order by k.opendDate asc
+            """)
+    List<UserKnowledge> findUnviewedBefore(
+            @Param("userId") Long userId, @Param("before") LocalDate before, Limit limit);
+
+    // 레벨 카드를 모두 본 유저에게 다시 보여줄 가장 최근 카드 (미리 배정된 내일 카드는 제외)
+    Optional<UserKnowledge> findFirstByUserIdAndOpendDateLessThanEqualOrderByOpendDateDesc(
+            Long userId, LocalDate date);
 }
@@ -1,13 +1,56 @@
 package com.ll.finhabit.domain.finance.repository;
 
+import com.ll.finhabit.domain.finance.dto.QuizHistoryDetailRow;
+import com.ll.finhabit.domain.finance.dto.QuizHistoryRow;
 import com.ll.finhabit.domain.finance.entity.UserQuiz;
 import java.time.LocalDate;
 import java.util.List;
 import java.util.Optional;
+import org.springframework.data.domain.Limit;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserQuizRepository extends JpaRepository<UserQuiz, Long> {
     Optional<UserQuiz> findByUserIdAndAttemptedDate(Long userId, LocalDate attemptedDate);
 
-    List<UserQuiz> findByUserIdOrderByAttemptedDateDesc(Long userId);
+    boolean existsByUserId(Long userId);
+
+    // 퀴즈 히스토리: 기간 내 푼 기록을 카드 제목과 함께 최신순으로 (user_id, attempted_date) 인덱스 범위 조회
+    @Query(
+            """
+            select uq.quizId as quizId,
+                   uq.attemptedDate as attemptedDate,
+                   uq.isCorrect as isCorrect,
+                   d.cardTitle as cardTitle
+              from UserQuiz uq
+              left join DailyFinance d on d.quizId = uq.quizId
+             where uq.userId = :userId
+               and uq.isAnswered = true
+               and uq.attemptedDate between :start and :end
+             order by uq.attemptedDate desc
+            """)
+    List<QuizHistoryRow> findAnsweredHistory(
+            @Param("userId") Long userId,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end);
+
+    // 퀴즈 히스토리 상세: (user_id, quiz_id, is_answered) 인덱스로 풀이 기록을 찾고 나머지는 조인으로 함께 조회
+    @Query(
+            """
+            select uq as userQuiz,
+                   q as quiz,
+                   d as dailyFinance,
+                   k as userKnowledge
+              from UserQuiz uq
+              left join Quiz q on q.quizId = uq.quizId
+              left join DailyFinance d on d.quizId = uq.quizId
+              left join UserKnowledge k on k.userId = uq.userId and k.financeId = d.financeId
+             where uq.userId = :userId
+               and uq.quizId = :quizId
+               and uq.isAnswered = true
+             order by uq.attemptedDate desc
+            """)
+    List<QuizHistoryDetailRow> findAnsweredDetail(
+            @Param("userId") Long userId, @Param("quizId") Integer quizId, Limit limit);
 }
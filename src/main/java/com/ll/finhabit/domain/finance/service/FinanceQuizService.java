@@ -3,9 +3,9 @@ package com.ll.finhabit.domain.finance.service;
 import com.ll.finhabit.domain.finance.dto.FinanceCardDto;
 import com.ll.finhabit.domain.finance.dto.FinanceQuizResponseDto;
 import com.ll.finhabit.domain.finance.dto.QuizQuestionDto;
+import com.ll.finhabit.global.session.LoginUser;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
-import org.springframework.transaction.annotation.Transactional;
 
 @Service
 @RequiredArgsConstructor
@@ -14,11 +14,11 @@ public class FinanceQuizService {
     private final FinanceService financeService;
     private final QuizService quizService;
 
-    @Transactional
-    public FinanceQuizResponseDto getFinanceQuizData(Long userId) {
+    // 카드/퀴즈는 각자 트랜잭션으로 배정한다 (배정 충돌 시 각 서비스가 새 트랜잭션에서 다시 읽음)
+    public FinanceQuizResponseDto getFinanceQuizData(LoginUser loginUser) {
 
-        FinanceCardDto todayFinance = financeService.getTodayFinanceKnowledge(userId);
-        QuizQuestionDto todayQuiz = quizService.getTodayQuiz(userId);
+        FinanceCardDto todayFinance = financeService.getTodayFinanceKnowledge(loginUser);
+        QuizQuestionDto todayQuiz = quizService.getTodayQuiz(loginUser.id());
 
         return FinanceQuizResponseDto.builder()
                 .todayFinance(todayFinance)
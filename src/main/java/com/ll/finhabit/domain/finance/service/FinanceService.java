@@ -1,21 +1,27 @@
 package com.ll.finhabit.domain.finance.service;
 
 import com.ll.finhabit.domain.auth.entity.User;
-import com.ll.finhabit.domain.auth.repository.UserRepository;
+import com.ll.finhabit.domain.finance.dto.DailyFinanceInfo;
 import com.ll.finhabit.domain.finance.dto.FinanceCardDto;
 import com.ll.finhabit.domain.finance.entity.DailyFinance;
 import com.ll.finhabit.domain.finance.entity.UserKnowledge;
+import com.ll.finhabit.domain.finance.entity.UserKnowledgeProgress;
 import com.ll.finhabit.domain.finance.repository.DailyFinanceRepository;
+import com.ll.finhabit.domain.finance.repository.UserKnowledgeProgressRepository;
 import com.ll.finhabit.domain.finance.repository.UserKnowledgeRepository;
+import com.ll.finhabit.global.session.LoginUser;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
+import java.time.LocalDateTime;
 import java.util.Comparator;
 import java.util.List;
-import java.util.Optional;
 import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -29,86 +35,160 @@ public class FinanceService {
     }
 
     private final UserKnowledgeRepository userKnowledgeRepository;
-    private final UserRepository userRepository;
+    private final UserKnowledgeProgressRepository userKnowledgeProgressRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 같은 날짜 카드를 배정 작업이나 동시 요청이 먼저 배정하면 유니크 키(user_id, opend_date) 위반으로 롤백된다.
+    // 그때는 새 트랜잭션에서 다시 읽어 먼저 배정된 카드를 반환한다
+    public FinanceCardDto getTodayFinanceKnowledge(LoginUser loginUser) {
+        try {
+            return transactionTemplate.execute(status -> loadTodayKnowledge(loginUser));
+        } catch (DataIntegrityViolationException e) {
+            return transactionTemplate.execute(status -> loadTodayKnowledge(loginUser));
+        }
+    }
 
-    @Transactional
-    public FinanceCardDto getTodayFinanceKnowledge(Long userId) {
+    // 유저 레벨은 로그인 사용자(principal)에 있으므로 유저를 다시 조회하지 않는다
+    private FinanceCardDto loadTodayKnowledge(LoginUser loginUser) {
+        Long userId = loginUser.id();
         LocalDate today = LocalDate.now();
 
-        List<UserKnowledge> allUserKnowledge = userKnowledgeRepository.findByUserId(userId);
-        Optional<UserKnowledge> existingTodayKnowledge =
-                allUserKnowledge.stream()
-                        .filter(uk -> uk.getOpendDate().isEqual(today))
-                        .findFirst();
+        // 보통 전날 밤 배정 작업(DailyAssignmentJob)으로 이미 배정되어 있으므로 (user_id, opend_date) 인덱스 조회로 끝난다
+        UserKnowledge todayKnowledge =
+                userKnowledgeRepository
+                        .findByUserIdAndOpendDate(userId, today)
+                        .orElseGet(() -> assign(userId, loginUser.level(), today));
 
-        if (existingTodayKnowledge.isPresent()) {
-            UserKnowledge uk = existingTodayKnowledge.get();
-            DailyFinance dailyFinance =
+        if (todayKnowledge != null) {
+            DailyFinanceInfo dailyFinance =
                     dailyFinanceRepository
-                            .findByFinanceId(uk.getFinanceId())
+                            .findInfoByFinanceId(todayKnowledge.getFinanceId())
                             .orElseThrow(() -> new IllegalStateException("배정된 지식 콘텐츠를 찾을 수 없습니다."));
 
-            uk.setViewedAt(today);
-            userKnowledgeRepository.save(uk);
-
-            return new FinanceCardDto(dailyFinance, uk);
+            markViewed(todayKnowledge, today);
+            return new FinanceCardDto(dailyFinance, todayKnowledge);
         }
 
-        User user =
-                userRepository
-                        .findById(userId)
-                        .orElseThrow(
-                                () ->
-                                        new IllegalArgumentException(
-                                                "사용자 정보를 찾을 수 없습니다. (ID: " + userId + ")"));
-
-        Integer userLevel = user.getLevel();
-
-        List<DailyFinance> allFinance =
-                dailyFinanceRepository.findByCardLevelOrderByCreatedDateAsc(userLevel);
-
-        DailyFinance todayFinance =
-                allFinance.stream()
-                        .filter(
-                                finance ->
-                                        allUserKnowledge.stream()
-                                                .noneMatch(
-                                                        uk ->
-                                                                uk.getFinanceId()
-                                                                        .equals(
-                                                                                finance
-                                                                                        .getFinanceId())))
+        // 해당 레벨의 카드를 모두 본 경우: 가장 최근에 본 카드를 다시 보여준다
+        UserKnowledge knowledgeRecord =
+                userKnowledgeRepository
+                        .findFirstByUserIdAndOpendDateLessThanEqualOrderByOpendDateDesc(
+                                userId, today)
+                        .orElseThrow(() -> new IllegalStateException("해당 레벨의 지식이 존재하지 않습니다."));
+
+        DailyFinanceInfo recentlyViewedFinance =
+                dailyFinanceRepository
+                        .findInfoByFinanceId(knowledgeRecord.getFinanceId())
+                        .orElseThrow(() -> new IllegalStateException("지식 콘텐츠를 찾을 수 없습니다."));
+
+        markViewed(knowledgeRecord, today);
+        return new FinanceCardDto(recentlyViewedFinance, knowledgeRecord);
+    }
+
+    // 배정 작업/요청 경로 공용: date에 배정된 카드가 없으면 레벨별 카드 중 아직 안 본 첫 카드를 배정 (없으면 null)
+    @Transactional
+    public UserKnowledge assignKnowledge(User user, LocalDate date) {
+        return userKnowledgeRepository
+                .findByUserIdAndOpendDate(user.getId(), date)
+                .orElseGet(() -> assign(user.getId(), user.getLevel(), date));
+    }
+
+    // 진행 커서는 배정할 때 움직이므로, 커서까지의 카드는 열어봤거나(viewedAt) 아직 열지 않은 배정으로 남아 있다.
+    // 열지 않은 채 지나간 배정(건너뛴 날)이 있으면 새 카드 대신 그 카드를 date로 옮겨 다시 보여준다
+    private UserKnowledge assign(Long userId, Integer level, LocalDate date) {
+        UserKnowledge skipped =
+                userKnowledgeRepository
+                        .findUnviewedBefore(userId, LocalDate.now(), Limit.of(1))
+                        .stream()
                         .findFirst()
                         .orElse(null);
+        if (skipped != null) {
+            skipped.setOpendDate(date);
+            return userKnowledgeRepository.save(skipped);
+        }
 
-        UserKnowledge knowledgeRecord;
-
-        if (todayFinance != null) {
-            knowledgeRecord = new UserKnowledge();
-            knowledgeRecord.setUserId(userId);
-            knowledgeRecord.setFinanceId(todayFinance.getFinanceId());
-            knowledgeRecord.setOpendDate(today);
-            knowledgeRecord.setViewedAt(today);
-            userKnowledgeRepository.save(knowledgeRecord);
+        // 레벨별 카드 목록은 캐시(dailyFinanceByLevel)에서 (createdDate, id) 순으로 읽는다
+        List<DailyFinanceInfo> catalog = dailyFinanceRepository.findCatalogByCardLevel(level);
+        if (catalog.isEmpty()) {
+            return null;
+        }
 
-            return new FinanceCardDto(todayFinance, knowledgeRecord);
+        // 유저/레벨별 진행 커서 다음 카드: 열람 기록을 읽지 않고 정렬된 카탈로그에서 바로 찾는다
+        UserKnowledgeProgress progress =
+                userKnowledgeProgressRepository
+                        .findByUserIdAndCardLevel(userId, level)
+                        .orElse(null);
+        DailyFinanceInfo nextFinance = nextAfter(catalog, progress);
 
+        if (nextFinance != null) {
+            advance(progress, userId, level, nextFinance);
         } else {
+            // 커서가 카탈로그 끝에 도달: 커서보다 앞 위치로 나중에 추가된 카드가 있으면 안티 조인으로 찾는다 (커서는 유지)
+            nextFinance =
+                    dailyFinanceRepository
+                            .findNextUnseenFinanceIds(userId, level, Limit.of(1))
+                            .stream()
+                            .findFirst()
+                            .flatMap(dailyFinanceRepository::findInfoByFinanceId)
+                            .orElse(null);
+            if (nextFinance == null) {
+                return null;
+            }
+        }
 
-            knowledgeRecord =
-                    allUserKnowledge.stream()
-                            .max(Comparator.comparing(UserKnowledge::getOpendDate))
-                            .orElseThrow(() -> new IllegalStateException("해당 레벨의 지식이 존재하지 않습니다."));
+        // 미리 배정한 카드는 유저가 실제로 열어볼 때 viewedAt이 채워진다
+        UserKnowledge knowledgeRecord = new UserKnowledge();
+        knowledgeRecord.setUserId(userId);
+        knowledgeRecord.setFinanceId(nextFinance.financeId());
+        knowledgeRecord.setOpendDate(date);
+        return userKnowledgeRepository.save(knowledgeRecord);
+    }
 
-            DailyFinance recentlyViewedFinance =
-                    dailyFinanceRepository
-                            .findByFinanceId(knowledgeRecord.getFinanceId())
-                            .orElseThrow(() -> new IllegalStateException("지식 콘텐츠를 찾을 수 없습니다."));
+    // 카탈로그에서 커서 위치 바로 다음 카드 (이진 탐색, 커서가 없으면 첫 카드, 끝이면 null)
+    static DailyFinanceInfo nextAfter(
+            List<DailyFinanceInfo> catalog, UserKnowledgeProgress progress) {
+        if (progress == null) {
+            return catalog.get(0);
+        }
 
-            knowledgeRecord.setViewedAt(today);
-            userKnowledgeRepository.save(knowledgeRecord);
+        int low = 0;
+        int high = catalog.size();
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (compareToCursor(catalog.get(mid), progress) <= 0) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low < catalog.size() ? catalog.get(low) : null;
+    }
+
+    // MySQL 정렬과 같게 등록일 null은 가장 앞으로
+    private static int compareToCursor(DailyFinanceInfo card, UserKnowledgeProgress progress) {
+        int byDate =
+                Comparator.nullsFirst(Comparator.<LocalDate>naturalOrder())
+                        .compare(card.createdDate(), progress.getLastCreatedDate());
+        return byDate != 0 ? byDate : card.id().compareTo(progress.getLastCardId());
+    }
+
+    private void advance(
+            UserKnowledgeProgress progress, Long userId, Integer level, DailyFinanceInfo card) {
+        UserKnowledgeProgress cursor =
+                progress != null
+                        ? progress
+                        : UserKnowledgeProgress.builder().userId(userId).cardLevel(level).build();
+        cursor.setLastCreatedDate(card.createdDate());
+        cursor.setLastCardId(card.id());
+        cursor.setUpdatedAt(LocalDateTime.now());
+        userKnowledgeProgressRepository.save(cursor);
+    }
 
-            return new FinanceCardDto(recentlyViewedFinance, knowledgeRecord);
+    // 하루 한 번만 기록 (같은 날 다시 조회할 때는 쓰기 없음)
+    private void markViewed(UserKnowledge knowledge, LocalDate today) {
+        if (!today.equals(knowledge.getViewedAt())) {
+            knowledge.setViewedAt(today);
+            userKnowledgeRepository.save(knowledge);
         }
     }
 
@@ -128,15 +208,17 @@ public class FinanceService {
 
     private List<FinanceCardDto> getKnowledgeByPeriod(
             Long userId, LocalDate startDate, LocalDate endDate) {
+        // 미리 배정만 되고 열어보지 않은 카드는 제외
         List<UserKnowledge> knowledgeList =
-                userKnowledgeRepository.findByUserIdAndOpendDateBetween(userId, startDate, endDate);
+                userKnowledgeRepository.findByUserIdAndOpendDateBetweenAndViewedAtIsNotNull(
+                        userId, startDate, endDate);
 
         return knowledgeList.stream()
                 .map(
                         knowledge -> {
-                            DailyFinance finance =
+                            DailyFinanceInfo finance =
                                     dailyFinanceRepository
-                                            .findByFinanceId(knowledge.getFinanceId())
+                                            .findInfoByFinanceId(knowledge.getFinanceId())
                                             .orElse(null);
                             if (finance != null) {
                                 return new FinanceCardDto(finance, knowledge);
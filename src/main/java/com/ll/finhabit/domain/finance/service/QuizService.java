@@ -1,11 +1,15 @@
 package com.ll.finhabit.domain.finance.service;
 
 import com.ll.finhabit.domain.auth.repository.UserRepository;
+import com.ll.finhabit.domain.finance.dto.DailyFinanceInfo;
 import com.ll.finhabit.domain.finance.dto.FinanceCardDto;
 import com.ll.finhabit.domain.finance.dto.QuizAnswerDto;
 import com.ll.finhabit.domain.finance.dto.QuizCheckDto;
 import com.ll.finhabit.domain.finance.dto.QuizHistoryDetailDto;
+import com.ll.finhabit.domain.finance.dto.QuizHistoryDetailRow;
 import com.ll.finhabit.domain.finance.dto.QuizHistoryDto;
+import com.ll.finhabit.domain.finance.dto.QuizHistoryRow;
+import com.ll.finhabit.domain.finance.dto.QuizInfo;
 import com.ll.finhabit.domain.finance.dto.QuizQuestionDto;
 import com.ll.finhabit.domain.finance.dto.QuizRequestDto;
 import com.ll.finhabit.domain.finance.entity.DailyFinance;
@@ -20,15 +24,15 @@ import java.time.LocalDate;
 import java.time.temporal.WeekFields;
 import java.util.ArrayList;
 import java.util.Collections;
-import java.util.Comparator;
 import java.util.List;
 import java.util.Locale;
-import java.util.Map;
 import java.util.Optional;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.dao.DataIntegrityViolationException;
+import org.springframework.data.domain.Limit;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
 
 @Service
 @RequiredArgsConstructor
@@ -39,9 +43,22 @@ public class QuizService {
     private final UserQuizRepository userQuizRepository;
     private final DailyFinanceRepository dailyFinanceRepository;
     private final UserKnowledgeRepository userKnowledgeRepository;
+    private final TransactionTemplate transactionTemplate;
 
-    @Transactional
+    private static final WeekFields WEEK_FIELDS = WeekFields.of(Locale.KOREA);
+    private static final String NO_CARD_TITLE = "연결된 지식 카드 없음";
+
+    // 같은 날짜 퀴즈를 동시 요청이 먼저 배정하면 유니크 키(user_id, attempted_date) 위반으로 롤백된다.
+    // 그때는 새 트랜잭션에서 다시 읽어 먼저 배정된 퀴즈를 반환한다
     public QuizQuestionDto getTodayQuiz(Long userId) {
+        try {
+            return transactionTemplate.execute(status -> loadTodayQuiz(userId));
+        } catch (DataIntegrityViolationException e) {
+            return transactionTemplate.execute(status -> loadTodayQuiz(userId));
+        }
+    }
+
+    private QuizQuestionDto loadTodayQuiz(Long userId) {
         LocalDate today = LocalDate.now();
 
         Optional<UserQuiz> existingUserQuizOpt =
@@ -49,44 +66,49 @@ public class QuizService {
 
         if (existingUserQuizOpt.isPresent()) {
             UserQuiz existingUserQuiz = existingUserQuizOpt.get();
-            Quiz quiz =
+            QuizInfo quiz =
                     quizRepository
-                            .findByQuizId(existingUserQuiz.getQuizId())
+                            .findInfoByQuizId(existingUserQuiz.getQuizId())
                             .orElseThrow(() -> new IllegalArgumentException("퀴즈 정보를 찾을 수 없습니다."));
             return QuizQuestionDto.of(quiz, existingUserQuiz.getIsAnswered());
         }
 
+        // 오늘 처음 퀴즈를 열면 오늘 카드(미리 배정됐을 수 있음)에 연결된 퀴즈로 배정
         UserKnowledge todayKnowledge =
                 userKnowledgeRepository
                         .findByUserIdAndOpendDate(userId, today)
                         .orElseThrow(() -> new IllegalStateException("오늘 오픈된 금융 지식 카드가 없습니다."));
 
-        DailyFinance todayFinance =
+        DailyFinanceInfo todayFinance =
                 dailyFinanceRepository
-                        .findByFinanceId(todayKnowledge.getFinanceId())
+                        .findInfoByFinanceId(todayKnowledge.getFinanceId())
                         .orElseThrow(() -> new IllegalStateException("DailyFinance를 찾을 수 없습니다."));
 
-        Integer quizId = todayFinance.getQuizId();
+        Integer quizId = todayFinance.quizId();
 
         if (quizId == null) {
             throw new IllegalStateException("오늘의 금융 지식에 연결된 퀴즈가 없습니다.");
         }
 
-        Quiz quiz =
+        QuizInfo quiz =
                 quizRepository
-                        .findByQuizId(quizId)
+                        .findInfoByQuizId(quizId)
                         .orElseThrow(
                                 () ->
                                         new IllegalArgumentException(
                                                 "퀴즈 정보를 찾을 수 없습니다. (ID: " + quizId + ")"));
 
+        createUserQuiz(userId, quizId, today);
+
+        return QuizQuestionDto.of(quiz, false);
+    }
+
+    private void createUserQuiz(Long userId, Integer quizId, LocalDate date) {
         UserQuiz userQuiz = new UserQuiz();
         userQuiz.setUserId(userId);
         userQuiz.setQuizId(quizId);
-        userQuiz.setAttemptedDate(today);
+        userQuiz.setAttemptedDate(date);
         userQuizRepository.save(userQuiz);
-
-        return QuizQuestionDto.of(quiz, false);
     }
 
     @Transactional
@@ -105,12 +127,12 @@ public class QuizService {
             throw new IllegalStateException("이미 퀴즈를 풀었습니다.");
         }
 
-        Quiz quiz =
+        QuizInfo quiz =
                 quizRepository
-                        .findByQuizId(requestDto.getQuizId())
+                        .findInfoByQuizId(requestDto.getQuizId())
                         .orElseThrow(() -> new IllegalArgumentException("퀴즈 정보를 찾을 수 없습니다."));
 
-        boolean isCorrect = quiz.getAnswer().equals(requestDto.getSelectedAnswer());
+        boolean isCorrect = quiz.answer().equals(requestDto.getSelectedAnswer());
 
         userQuiz.setIsAnswered(true);
         userQuiz.setIsCorrect(isCorrect);
@@ -118,7 +140,7 @@ public class QuizService {
         userQuizRepository.save(userQuiz);
 
         return QuizCheckDto.builder()
-                .quizId(quiz.getQuizId())
+                .quizId(quiz.quizId())
                 .isCorrect(isCorrect)
                 .selectedAnswer(requestDto.getSelectedAnswer())
                 .build();
@@ -137,9 +159,9 @@ public class QuizService {
             throw new IllegalStateException("정답을 체크하지 않아 해설을 볼 수 없습니다.");
         }
 
-        Quiz quiz =
+        QuizInfo quiz =
                 quizRepository
-                        .findByQuizId(userQuiz.getQuizId())
+                        .findInfoByQuizId(userQuiz.getQuizId())
                         .orElseThrow(() -> new IllegalArgumentException("퀴즈 정보를 찾을 수 없습니다."));
 
         return QuizAnswerDto.of(quiz, userQuiz.getIsCorrect());
@@ -147,69 +169,30 @@ public class QuizService {
 
     @Transactional(readOnly = true)
     public QuizHistoryDto getQuizHistory(Long userId) {
-        List<UserQuiz> allUserQuizzes =
-                userQuizRepository.findByUserIdOrderByAttemptedDateDesc(userId);
+        LocalDate now = LocalDate.now();
+        String monthLabel = now.getYear() + "년 " + now.getMonthValue() + "월";
+
+        // 이번 달 푼 기록만 카드 제목과 함께 한 번에 조회 (최신순)
+        List<QuizHistoryRow> rows =
+                userQuizRepository.findAnsweredHistory(
+                        userId, now.withDayOfMonth(1), now.withDayOfMonth(now.lengthOfMonth()));
 
-        if (allUserQuizzes.isEmpty()) {
+        // 퀴즈 기록이 아예 없는 유저는 빈 목록 (이번 주차도 표시하지 않음)
+        if (rows.isEmpty() && !userQuizRepository.existsByUserId(userId)) {
             return QuizHistoryDto.builder()
-                    .monthLabel(
-                            LocalDate.now().getYear()
-                                    + "년 "
-                                    + LocalDate.now().getMonthValue()
-                                    + "월")
+                    .monthLabel(monthLabel)
                     .weeklyHistory(Collections.emptyList())
                     .build();
         }
 
-        LocalDate now = LocalDate.now();
-        int currentMonth = now.getMonthValue();
-        int currentYear = now.getYear();
-
-        List<UserQuiz> currentMonthQuizzes =
-                allUserQuizzes.stream()
-                        .filter(
-                                uq ->
-                                        uq.getAttemptedDate().getMonthValue() == currentMonth
-                                                && uq.getAttemptedDate().getYear() == currentYear)
-                        .collect(Collectors.toList());
-
-        Locale locale = Locale.KOREA;
-        WeekFields weekFields = WeekFields.of(locale);
-
-        Map<Integer, List<UserQuiz>> quizzesByWeek =
-                currentMonthQuizzes.stream()
-                        .collect(
-                                Collectors.groupingBy(
-                                        uq -> uq.getAttemptedDate().get(weekFields.weekOfMonth())));
+        int currentWeekOfMonth = now.get(WEEK_FIELDS.weekOfMonth());
+        List<List<QuizHistoryDto.QuizHistoryItem>> itemsByWeek =
+                groupByWeekOfMonth(rows, currentWeekOfMonth);
 
+        // 최신 주차부터, 기록이 없는 지난 주차는 생략 (이번 주차는 항상 표시)
         List<QuizHistoryDto.WeeklyQuizHistory> weeklyHistory = new ArrayList<>();
-
-        int currentWeekOfMonth = now.get(weekFields.weekOfMonth());
-
-        for (int week = 1; week <= currentWeekOfMonth; week++) {
-            List<UserQuiz> weeklyQuizzes =
-                    quizzesByWeek.getOrDefault(week, Collections.emptyList());
-
-            List<QuizHistoryDto.QuizHistoryItem> items =
-                    weeklyQuizzes.stream()
-                            .filter(UserQuiz::getIsAnswered)
-                            .map(
-                                    uq -> {
-                                        String cardTitle = getCardTitleByQuizId(uq.getQuizId());
-                                        return QuizHistoryDto.QuizHistoryItem.builder()
-                                                .quizId(uq.getQuizId())
-                                                .attemptedDate(uq.getAttemptedDate())
-                                                .cardTitle(cardTitle)
-                                                .isCorrect(uq.getIsCorrect())
-                                                .build();
-                                    })
-                            .sorted(
-                                    Comparator.comparing(
-                                                    QuizHistoryDto.QuizHistoryItem
-                                                            ::getAttemptedDate)
-                                            .reversed())
-                            .collect(Collectors.toList());
-
+        for (int week = currentWeekOfMonth; week >= 1; week--) {
+            List<QuizHistoryDto.QuizHistoryItem> items = itemsByWeek.get(week - 1);
             if (!items.isEmpty() || week == currentWeekOfMonth) {
                 weeklyHistory.add(
                         QuizHistoryDto.WeeklyQuizHistory.builder()
@@ -219,11 +202,8 @@ public class QuizService {
             }
         }
 
-        weeklyHistory.sort(
-                Comparator.comparing(QuizHistoryDto.WeeklyQuizHistory::getWeekLabel).reversed());
-
         return QuizHistoryDto.builder()
-                .monthLabel(currentYear + "년 " + currentMonth + "월")
+                .monthLabel(monthLabel)
                 .weeklyHistory(weeklyHistory)
                 .build();
     }
@@ -231,35 +211,31 @@ public class QuizService {
     @Transactional(readOnly = true)
     public QuizHistoryDetailDto getQuizHistoryDetail(Long userId, Integer quizId) {
 
-        UserQuiz userQuiz =
-                userQuizRepository.findByUserIdOrderByAttemptedDateDesc(userId).stream()
-                        .filter(uq -> uq.getQuizId().equals(quizId))
-                        .filter(UserQuiz::getIsAnswered) // 푼 기록만
+        // 풀이 기록/퀴즈/카드/열람 기록을 한 번에 조회 (같은 퀴즈를 여러 번 풀었으면 가장 최근 기록)
+        QuizHistoryDetailRow row =
+                userQuizRepository.findAnsweredDetail(userId, quizId, Limit.of(1)).stream()
                         .findFirst()
                         .orElseThrow(
                                 () ->
                                         new IllegalArgumentException(
                                                 "해당 퀴즈에 대한 사용자의 응시 기록을 찾을 수 없습니다."));
 
-        Quiz quiz =
-                quizRepository
-                        .findByQuizId(quizId)
-                        .orElseThrow(
-                                () ->
-                                        new IllegalArgumentException(
-                                                "퀴즈 정보를 찾을 수 없습니다. (ID: " + quizId + ")"));
+        UserQuiz userQuiz = row.getUserQuiz();
 
-        DailyFinance dailyFinance =
-                dailyFinanceRepository
-                        .findByQuizId(quizId)
-                        .orElseThrow(
-                                () -> new IllegalStateException("퀴즈와 연결된 금융 지식 카드를 찾을 수 없습니다."));
+        Quiz quiz = row.getQuiz();
+        if (quiz == null) {
+            throw new IllegalArgumentException("퀴즈 정보를 찾을 수 없습니다. (ID: " + quizId + ")");
+        }
 
-        UserKnowledge userKnowledge =
-                userKnowledgeRepository.findByUserId(userId).stream()
-                        .filter(uk -> uk.getFinanceId().equals(dailyFinance.getFinanceId()))
-                        .findFirst()
-                        .orElseThrow(() -> new IllegalStateException("지식 카드 열람 기록을 찾을 수 없습니다."));
+        DailyFinance dailyFinance = row.getDailyFinance();
+        if (dailyFinance == null) {
+            throw new IllegalStateException("퀴즈와 연결된 금융 지식 카드를 찾을 수 없습니다.");
+        }
+
+        UserKnowledge userKnowledge = row.getUserKnowledge();
+        if (userKnowledge == null) {
+            throw new IllegalStateException("지식 카드 열람 기록을 찾을 수 없습니다.");
+        }
 
         FinanceCardDto financeCardDto = new FinanceCardDto(dailyFinance, userKnowledge);
 
@@ -282,10 +258,32 @@ public class QuizService {
                 .build();
     }
 
-    private String getCardTitleByQuizId(Integer quizId) {
-        return dailyFinanceRepository
-                .findByQuizId(quizId)
-                .map(DailyFinance::getCardTitle)
-                .orElse("연결된 지식 카드 없음");
+    // 최신순 기록을 한 번 순회하며 주차(weekOfMonth)별로 나눈다: 결과[주차 - 1] (src/jmh 벤치마크에서 직접 호출)
+    static List<List<QuizHistoryDto.QuizHistoryItem>> groupByWeekOfMonth(
+            List<QuizHistoryRow> rows, int weeks) {
+        List<List<QuizHistoryDto.QuizHistoryItem>> itemsByWeek = new ArrayList<>(weeks);
+        for (int i = 0; i < weeks; i++) {
+            itemsByWeek.add(new ArrayList<>());
+        }
+
+        for (QuizHistoryRow row : rows) {
+            int week = row.getAttemptedDate().get(WEEK_FIELDS.weekOfMonth());
+            if (week < 1 || week > weeks) {
+                continue;
+            }
+            itemsByWeek
+                    .get(week - 1)
+                    .add(
+                            QuizHistoryDto.QuizHistoryItem.builder()
+                                    .quizId(row.getQuizId())
+                                    .attemptedDate(row.getAttemptedDate())
+                                    .cardTitle(
+                                            row.getCardTitle() != null
+                                                    ? row.getCardTitle()
+                                                    : NO_CARD_TITLE)
+                                    .isCorrect(row.getIsCorrect())
+                                    .build());
+        }
+        return itemsByWeek;
     }
 }
@@ -0,0 +1,83 @@
+package com.ll.finhabit.domain.home.controller;
+
+import com.ll.finhabit.domain.home.dto.HomeResponse;
+import com.ll.finhabit.domain.home.service.HomeService;
+import com.ll.finhabit.global.common.CurrentUser;
+import com.ll.finhabit.global.exception.ErrorResponse;
+import com.ll.finhabit.global.session.LoginUser;
+import io.swagger.v3.oas.annotations.Operation;
+import io.swagger.v3.oas.annotations.Parameter;
+import io.swagger.v3.oas.annotations.media.Content;
+import io.swagger.v3.oas.annotations.media.ExampleObject;
+import io.swagger.v3.oas.annotations.media.Schema;
+import io.swagger.v3.oas.annotations.responses.ApiResponse;
+import io.swagger.v3.oas.annotations.responses.ApiResponses;
+import io.swagger.v3.oas.annotations.tags.Tag;
+import java.time.LocalDate;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.ResponseEntity;
+import org.springframework.web.bind.annotation.GetMapping;
+import org.springframework.web.bind.annotation.RequestMapping;
+import org.springframework.web.bind.annotation.RequestParam;
+import org.springframework.web.bind.annotation.RestController;
+
+@RestController
+@RequiredArgsConstructor
+@RequestMapping("/api/home")
+@Tag(name = "Home", description = "홈 화면 집계 API (미션 / 금융지식·퀴즈 / 가계부 / 알림 카드)")
+public class HomeController {
+
+    private static final String SERVER_TIMING_HEADER = "Server-Timing";
+
+    private final HomeService homeService;
+
+    @GetMapping
+    @Operation(
+            summary = "홈 화면 통합 조회",
+            description =
+                    """
+                    홈 화면에서 따로 호출하던 API들을 한 번에 조회합니다.<br>
+                    - /api/mission/today<br>
+                    - /api/finance-quiz<br>
+                    - /api/ledger/home (date 기준)<br>
+                    - /api/notifications/mission, /finance, /feedback<br>
+                    겹치는 가계부 기간은 한 번만 조회하며, 섹션별 소요 시간(ms)은 Server-Timing 응답 헤더로 내려갑니다.<br>
+                    date 파라미터를 생략하면 오늘(LocalDate.now()) 기준으로 조회합니다.
+                    """)
+    @ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "홈 화면 조회 성공",
+                content = @Content(schema = @Schema(implementation = HomeResponse.class))),
+        @ApiResponse(
+                responseCode = "401",
+                description = "로그인되지 않은 사용자",
+                content =
+                        @Content(
+                                mediaType = "application/json",
+                                schema = @Schema(implementation = ErrorResponse.class),
+                                examples =
+                                        @ExampleObject(
+                                                value =
+                                                        """
+                                {
+                                  "timestamp": "2025-12-18T17:30:00",
+                                  "status": 401,
+                                  "error": "401 UNAUTHORIZED",
+                                  "message": "로그인이 필요합니다.",
+                                  "path": "/api/home"
+                                }
+                                """)))
+    })
+    public ResponseEntity<HomeResponse> getHome(
+            @Parameter(hidden = true) @CurrentUser LoginUser loginUser,
+            @Parameter(description = "가계부 조회 기준 날짜 (yyyy-MM-dd). 비우면 오늘 날짜.", required = false)
+                    @RequestParam(required = false)
+                    LocalDate date) {
+        LocalDate targetDate = (date != null) ? date : LocalDate.now();
+        HomeService.HomeResult result = homeService.getHome(loginUser, targetDate);
+        return ResponseEntity.ok()
+                .header(SERVER_TIMING_HEADER, result.serverTiming())
+                .body(result.response());
+    }
+}
@@ -0,0 +1,21 @@
+package com.ll.finhabit.domain.home.dto;
+
+import com.ll.finhabit.domain.finance.dto.FinanceQuizResponseDto;
+import com.ll.finhabit.domain.ledger.dto.LedgerHomeResponse;
+import com.ll.finhabit.domain.mission.dto.MissionTodayResponse;
+import com.ll.finhabit.domain.notification.dto.NotificationResponse;
+import java.time.LocalDate;
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class HomeResponse {
+
+    private LocalDate date; // 기준 날짜 (보통 오늘)
+    private MissionTodayResponse mission; // /api/mission/today
+    private FinanceQuizResponseDto financeQuiz; // /api/finance-quiz
+    private LedgerHomeResponse ledger; // /api/ledger/home
+    private List<NotificationResponse> notifications; // 미션/학습/피드백 알림 카드 순서
+}
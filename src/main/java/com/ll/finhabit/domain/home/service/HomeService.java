@@ -0,0 +1,146 @@
+package com.ll.finhabit.domain.home.service;
+
+import com.ll.finhabit.domain.finance.dto.FinanceQuizResponseDto;
+import com.ll.finhabit.domain.finance.service.FinanceQuizService;
+import com.ll.finhabit.domain.home.dto.HomeResponse;
+import com.ll.finhabit.domain.ledger.dto.LedgerHomeResponse;
+import com.ll.finhabit.domain.ledger.entity.Ledger;
+import com.ll.finhabit.domain.ledger.service.LedgerService;
+import com.ll.finhabit.domain.mission.dto.MissionTodayResponse;
+import com.ll.finhabit.domain.mission.service.MissionService;
+import com.ll.finhabit.domain.notification.dto.NotificationResponse;
+import com.ll.finhabit.domain.notification.service.NotificationService;
+import com.ll.finhabit.global.session.LoginUser;
+import java.time.LocalDate;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import org.springframework.stereotype.Service;
+
+// 홈 화면 집계: 유저 레벨/알림 설정은 로그인 사용자(principal)에서 읽고, 각 섹션은 요청 스레드에서 차례로 조회
+// 섹션마다 다른 스레드에서 커넥션을 잡으면 동시 요청 수 × 섹션 수가 커넥션 풀(Hikari 기본 10)을 넘어 서로 기다리게 되므로,
+// 요청 하나가 커넥션 하나(OSIV가 켜져 있으면 요청 내내 같은 커넥션)만 쓰도록 병렬 조회하지 않는다
+@Service
+@RequiredArgsConstructor
+public class HomeService {
+
+    // Server-Timing 헤더에 찍히는 순서
+    private static final List<String> SECTIONS =
+            List.of(
+                    "mission",
+                    "financeQuiz",
+                    "ledger",
+                    "missionCard",
+                    "learningCard",
+                    "feedbackCard",
+                    "total");
+
+    private final MissionService missionService;
+    private final FinanceQuizService financeQuizService;
+    private final LedgerService ledgerService;
+    private final NotificationService notificationService;
+
+    public HomeResult getHome(LoginUser loginUser, LocalDate date) {
+        long startedAt = System.nanoTime();
+        Map<String, Long> timings = new HashMap<>();
+
+        Long userId = loginUser.id();
+        boolean notificationEnabled = loginUser.notificationEnabled();
+        LocalDate today = LocalDate.now();
+
+        MissionTodayResponse mission =
+                timed("mission", timings, () -> missionService.getMissionToday(loginUser));
+        FinanceQuizResponseDto financeQuiz =
+                timed(
+                        "financeQuiz",
+                        timings,
+                        () -> financeQuizService.getFinanceQuizData(loginUser));
+
+        // 피드백 카드 기간(지난달 1일 무렵 ~ 이번 주 일요일)을 한 번 조회해 가계부 홈의 date 지출 내역과 함께 쓴다
+        List<Ledger> feedbackLedgers =
+                notificationEnabled
+                        ? timed(
+                                "ledger",
+                                timings,
+                                () -> notificationService.getFeedbackLedgers(userId, today))
+                        : null;
+        LedgerHomeResponse ledger =
+                timed("ledger", timings, () -> ledgerHome(userId, date, today, feedbackLedgers));
+
+        // 미션 카드는 오늘의 미션 배정이 끝난 뒤에 조회해야 상태가 맞는다
+        NotificationResponse missionCard =
+                timed(
+                        "missionCard",
+                        timings,
+                        () -> notificationService.getMissionCard(userId, notificationEnabled));
+        NotificationResponse learningCard =
+                timed(
+                        "learningCard",
+                        timings,
+                        () -> notificationService.getLearningCard(userId, notificationEnabled));
+        NotificationResponse feedbackCard =
+                timed(
+                        "feedbackCard",
+                        timings,
+                        () ->
+                                notificationService.getFeedbackCard(
+                                        notificationEnabled, today, feedbackLedgers));
+
+        HomeResponse response =
+                HomeResponse.builder()
+                        .date(date)
+                        .mission(mission)
+                        .financeQuiz(financeQuiz)
+                        .ledger(ledger)
+                        .notifications(List.of(missionCard, learningCard, feedbackCard))
+                        .build();
+
+        timings.put("total", System.nanoTime() - startedAt);
+        return new HomeResult(response, toServerTiming(timings));
+    }
+
+    // date가 피드백 카드 기간 안이면 이미 조회한 목록에서 그날 지출만 골라 쓰고, 아니면 따로 조회
+    private LedgerHomeResponse ledgerHome(
+            Long userId, LocalDate date, LocalDate today, List<Ledger> feedbackLedgers) {
+        if (feedbackLedgers == null
+                || date.isBefore(NotificationService.feedbackRangeStart(today))
+                || date.isAfter(NotificationService.feedbackRangeEnd(today))) {
+            return ledgerService.getLedgerHome(userId, date);
+        }
+        List<Ledger> expenses =
+                feedbackLedgers.stream()
+                        .filter(l -> date.equals(l.getDate()))
+                        .filter(l -> "expense".equals(l.getCategory().getType()))
+                        .toList();
+        return ledgerService.getLedgerHome(userId, date, expenses);
+    }
+
+    // 같은 섹션을 나눠 조회하면 소요 시간을 더한다
+    private <T> T timed(String section, Map<String, Long> timings, Supplier<T> supplier) {
+        long start = System.nanoTime();
+        try {
+            return supplier.get();
+        } finally {
+            timings.merge(section, System.nanoTime() - start, Long::sum);
+        }
+    }
+
+    private String toServerTiming(Map<String, Long> timings) {
+        return SECTIONS.stream()
+                .filter(timings::containsKey)
+                .map(
+                        section ->
+                                String.format(
+                                        Locale.ROOT,
+                                        "%s;dur=%.1f",
+                                        section,
+                                        timings.get(section) / 1_000_000.0))
+                .collect(Collectors.joining(", "));
+    }
+
+    public record HomeResult(HomeResponse response, String serverTiming) {}
+}
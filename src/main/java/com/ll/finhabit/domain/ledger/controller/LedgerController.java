@@ -1,6 +1,9 @@
 package com.ll.finhabit.domain.ledger.controller;
 
 import com.ll.finhabit.domain.ledger.dto.*;
+import com.ll.finhabit.domain.ledger.entity.PaymentType;
+import com.ll.finhabit.domain.ledger.service.LedgerExportService;
+import com.ll.finhabit.domain.ledger.service.LedgerImportService;
 import com.ll.finhabit.domain.ledger.service.LedgerService;
 import com.ll.finhabit.global.common.CurrentUser;
 import com.ll.finhabit.global.exception.ErrorResponse;
@@ -12,10 +15,17 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.io.Reader;
 import java.time.LocalDate;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
+import org.springframework.http.ContentDisposition;
+import org.springframework.http.HttpHeaders;
 import org.springframework.http.HttpStatus;
+import org.springframework.http.MediaType;
+import org.springframework.http.ResponseEntity;
 import org.springframework.web.bind.annotation.*;
+import org.springframework.web.servlet.mvc.method.annotation.StreamingResponseBody;
 
 @RestController
 @RequiredArgsConstructor
@@ -24,6 +34,8 @@ import org.springframework.web.bind.annotation.*;
 public class LedgerController {
 
     private final LedgerService ledgerService;
+    private final LedgerExportService ledgerExportService;
+    private final LedgerImportService ledgerImportService;
 
     @PostMapping
     @ResponseStatus(HttpStatus.CREATED)
@@ -259,6 +271,275 @@ public class LedgerController {
         return ledgerService.updateLedger(userId, ledgerId, request);
     }
 
+    @GetMapping
+    @Operation(
+            summary = "가계부 내역 목록 조회 (커서 페이지네이션)",
+            description =
+                    """
+                    로그인한 사용자의 가계부 내역을 최신순(날짜 내림차순)으로 페이지 단위 조회합니다.<br>
+                    - 첫 페이지는 cursor 없이 요청하고, 다음 페이지는 응답의 nextCursor를 cursor로 전달합니다.<br>
+                    - hasNext가 false면 마지막 페이지입니다.<br>
+                    - size는 기본 20, 최대 100입니다.<br>
+                    - categoryId / type(income, expense) / payment / startDate~endDate 로 필터링할 수 있습니다.
+                    """)
+    @ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "가계부 내역 목록 조회 성공",
+                content = @Content(schema = @Schema(implementation = LedgerPageResponse.class))),
+        @ApiResponse(
+                responseCode = "400",
+                description = "잘못된 커서 또는 필터 값",
+                content =
+                        @Content(
+                                mediaType = "application/json",
+                                schema = @Schema(implementation = ErrorResponse.class),
+                                examples =
+                                        @ExampleObject(
+                                                value =
+                                                        """
+                                {
+                                  "timestamp": "2025-12-18T17:30:00",
+                                  "status": 400,
+                                  "error": "400 BAD_REQUEST",
+                                  "message": "잘못된 커서입니다.",
+                                  "path": "/api/ledger"
+                                }
+                                """))),
+        @ApiResponse(
+                responseCode = "401",
+                description = "로그인되지 않은 사용자",
+                content =
+                        @Content(
+                                mediaType = "application/json",
+                                schema = @Schema(implementation = ErrorResponse.class),
+                                examples =
+                                        @ExampleObject(
+                                                value =
+                                                        """
+                                {
+                                  "timestamp": "2025-12-18T17:30:00",
+                                  "status": 401,
+                                  "error": "401 UNAUTHORIZED",
+                                  "message": "로그인이 필요합니다.",
+                                  "path": "/api/ledger"
+                                }
+                                """)))
+    })
+    public LedgerPageResponse getLedgers(
+            @Parameter(hidden = true) @CurrentUser Long userId,
+            @Parameter(description = "이전 응답의 nextCursor (첫 페이지는 생략)")
+                    @RequestParam(required = false)
+                    String cursor,
+            @Parameter(description = "페이지 크기 (기본 20, 최대 100)")
+                    @RequestParam(required = false)
+                    Integer size,
+            @Parameter(description = "카테고리 ID") @RequestParam(required = false) Long categoryId,
+            @Parameter(description = "income 또는 expense") @RequestParam(required = false)
+                    String type,
+            @Parameter(description = "결제 수단 (CARD, CASH, ETC)") @RequestParam(required = false)
+                    PaymentType payment,
+            @Parameter(description = "시작 날짜 (yyyy-MM-dd)") @RequestParam(required = false)
+                    LocalDate startDate,
+            @Parameter(description = "종료 날짜 (yyyy-MM-dd)") @RequestParam(required = false)
+                    LocalDate endDate) {
+        return ledgerService.getLedgers(
+                userId,
+                new LedgerSearchCondition(categoryId, type, payment, startDate, endDate),
+                cursor,
+                size);
+    }
+
+    @GetMapping("/export")
+    @Operation(
+            summary = "가계부 전체 내역 내보내기 (CSV / NDJSON)",
+            description =
+                    """
+                    로그인한 사용자의 가계부 전체 내역을 파일로 내려받습니다.<br>
+                    - format=csv(기본): 엑셀 호환 CSV (UTF-8 BOM 포함)<br>
+                    - format=ndjson: 한 줄에 가계부 내역 하나씩 JSON<br>
+                    - 날짜 오름차순으로 정렬되며, 내역이 많아도 서버 메모리 사용량은 일정합니다.
+                    """)
+    @ApiResponses({
+        @ApiResponse(responseCode = "200", description = "가계부 내보내기 성공 (파일 스트림)"),
+        @ApiResponse(
+                responseCode = "400",
+                description = "지원하지 않는 형식",
+                content =
+                        @Content(
+                                mediaType = "application/json",
+                                schema = @Schema(implementation = ErrorResponse.class),
+                                examples =
+                                        @ExampleObject(
+                                                value =
+                                                        """
+                                {
+                                  "timestamp": "2025-12-18T17:30:00",
+                                  "status": 400,
+                                  "error": "400 BAD_REQUEST",
+                                  "message": "지원하지 않는 내보내기 형식입니다. (csv, ndjson)",
+                                  "path": "/api/ledger/export"
+                                }
+                                """))),
+        @ApiResponse(
+                responseCode = "401",
+                description = "로그인되지 않은 사용자",
+                content =
+                        @Content(
+                                mediaType = "application/json",
+                                schema = @Schema(implementation = ErrorResponse.class),
+                                examples =
+                                        @ExampleObject(
+                                                value =
+                                                        """
+                                {
+                                  "timestamp": "2025-12-18T17:30:00",
+                                  "status": 401,
+                                  "error": "401 UNAUTHORIZED",
+                                  "message": "로그인이 필요합니다.",
+                                  "path": "/api/ledger/export"
+                                }
+                                """)))
+    })
+    public ResponseEntity<StreamingResponseBody> exportLedgers(
+            @Parameter(hidden = true) @CurrentUser Long userId,
+            @Parameter(description = "csv 또는 ndjson (기본 csv)")
+                    @RequestParam(defaultValue = "csv")
+                    String format) {
+        LedgerExportFormat exportFormat = LedgerExportFormat.from(format);
+        String filename = "ledger-" + LocalDate.now() + "." + exportFormat.getExtension();
+        StreamingResponseBody body = out -> ledgerExportService.export(userId, exportFormat, out);
+
+        return ResponseEntity.ok()
+                .contentType(MediaType.parseMediaType(exportFormat.getContentType()))
+                .header(
+                        HttpHeaders.CONTENT_DISPOSITION,
+                        ContentDisposition.attachment().filename(filename).build().toString())
+                .body(body);
+    }
+
+    @PostMapping(value = "/import", consumes = MediaType.APPLICATION_JSON_VALUE)
+    @Operation(
+            summary = "가계부 내역 일괄 등록 (JSON)",
+            description =
+                    """
+                    가계부 생성 요청(LedgerCreateRequest) 배열을 한 번에 등록합니다. (최대 10,000건)<br>
+                    - 각 행은 단건 생성과 같은 규칙으로 검증합니다. (지출은 payment 필수, 수입은 payment 무시)<br>
+                    - 하나라도 실패하면 아무것도 등록하지 않고 400과 함께 행별 오류(errors)를 반환합니다.
+                    """)
+    @ApiResponses({
+        @ApiResponse(
+                responseCode = "201",
+                description = "일괄 등록 성공",
+                content = @Content(schema = @Schema(implementation = LedgerImportResponse.class))),
+        @ApiResponse(
+                responseCode = "400",
+                description = "검증 실패 행이 있어 전체 미등록 (errors에 행별 사유)",
+                content = @Content(schema = @Schema(implementation = LedgerImportResponse.class))),
+        @ApiResponse(
+                responseCode = "401",
+                description = "로그인되지 않은 사용자",
+                content =
+                        @Content(
+                                mediaType = "application/json",
+                                schema = @Schema(implementation = ErrorResponse.class),
+                                examples =
+                                        @ExampleObject(
+                                                value =
+                                                        """
+                                {
+                                  "timestamp": "2025-12-18T17:30:00",
+                                  "status": 401,
+                                  "error": "401 UNAUTHORIZED",
+                                  "message": "로그인이 필요합니다.",
+                                  "path": "/api/ledger/import"
+                                }
+                                """)))
+    })
+    public ResponseEntity<LedgerImportResponse> importLedgersJson(
+            @Parameter(hidden = true) @CurrentUser Long userId,
+            @RequestBody List<LedgerCreateRequest> requests) {
+        return toImportResponse(ledgerImportService.importJson(userId, requests));
+    }
+
+    @PostMapping(value = "/import", consumes = "text/csv")
+    @Operation(
+            summary = "가계부 내역 일괄 등록 (CSV)",
+            description =
+                    """
+                    CSV 본문으로 가계부 내역을 한 번에 등록합니다. (최대 10,000건, 본문 2,000,000자)<br>
+                    - 첫 줄은 헤더: categoryId, amount, merchant (필수) / date(yyyy-MM-dd), payment (선택)<br>
+                    - 검증 규칙과 실패 시 동작은 JSON 일괄 등록과 같습니다.<br>
+                    - 10,000건을 넘으면 나머지를 읽지 않고 400, 본문이 한도를 넘으면 413으로 응답합니다.
+                    """,
+            requestBody =
+                    @io.swagger.v3.oas.annotations.parameters.RequestBody(
+                            content =
+                                    @Content(
+                                            mediaType = "text/csv",
+                                            schema = @Schema(type = "string"))))
+    @ApiResponses({
+        @ApiResponse(
+                responseCode = "201",
+                description = "일괄 등록 성공",
+                content = @Content(schema = @Schema(implementation = LedgerImportResponse.class))),
+        @ApiResponse(
+                responseCode = "400",
+                description = "검증 실패 행이 있어 전체 미등록 (errors에 행별 사유)",
+                content = @Content(schema = @Schema(implementation = LedgerImportResponse.class))),
+        @ApiResponse(
+                responseCode = "401",
+                description = "로그인되지 않은 사용자",
+                content =
+                        @Content(
+                                mediaType = "application/json",
+                                schema = @Schema(implementation = ErrorResponse.class),
+                                examples =
+                                        @ExampleObject(
+                                                value =
+                                                        """
+                                {
+                                  "timestamp": "2025-12-18T17:30:00",
+                                  "status": 401,
+                                  "error": "401 UNAUTHORIZED",
+                                  "message": "로그인이 필요합니다.",
+                                  "path": "/api/ledger/import"
+                                }
+                                """))),
+        @ApiResponse(
+                responseCode = "413",
+                description = "CSV 본문이 최대 글자 수를 넘음",
+                content =
+                        @Content(
+                                mediaType = "application/json",
+                                schema = @Schema(implementation = ErrorResponse.class),
+                                examples =
+                                        @ExampleObject(
+                                                value =
+                                                        """
+                                {
+                                  "timestamp": "2025-12-18T17:30:00",
+                                  "status": 413,
+                                  "error": "413 PAYLOAD_TOO_LARGE",
+                                  "message": "CSV 본문은 최대 2,000,000자까지 등록할 수 있습니다.",
+                                  "path": "/api/ledger/import"
+                                }
+                                """)))
+    })
+    public ResponseEntity<LedgerImportResponse> importLedgersCsv(
+            @Parameter(hidden = true) @CurrentUser Long userId,
+            @Parameter(hidden = true) Reader csv) {
+        // 본문을 문자열로 받지 않고 Reader로 넘겨 서비스에서 한 레코드씩 읽는다
+        return toImportResponse(ledgerImportService.importCsv(userId, csv));
+    }
+
+    private static ResponseEntity<LedgerImportResponse> toImportResponse(
+            LedgerImportResponse response) {
+        HttpStatus status =
+                response.getErrors().isEmpty() ? HttpStatus.CREATED : HttpStatus.BAD_REQUEST;
+        return ResponseEntity.status(status).body(response);
+    }
+
     @GetMapping("/calendar")
     @Operation(
             summary = "달력 일간 요약 조회",
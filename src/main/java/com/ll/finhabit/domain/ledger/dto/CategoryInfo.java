@@ -0,0 +1,17 @@
+package com.ll.finhabit.domain.ledger.dto;
+
+import com.ll.finhabit.domain.ledger.entity.Category;
+
+/**
+ * 카테고리 참조 데이터 (캐시 대상).
+ *
+ * <p>캐시 값은 여러 요청/세션이 함께 읽으므로 엔티티 대신 불변 record로 둔다. 가계부에 연관관계를 걸 때는 {@code
+ * categoryRepository.getReferenceById(categoryId)}를 쓴다.
+ */
+public record CategoryInfo(Long categoryId, String categoryName, String type) {
+
+    public static CategoryInfo from(Category category) {
+        return new CategoryInfo(
+                category.getCategoryId(), category.getCategoryName(), category.getType());
+    }
+}
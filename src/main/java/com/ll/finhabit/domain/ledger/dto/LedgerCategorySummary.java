@@ -0,0 +1,15 @@
+package com.ll.finhabit.domain.ledger.dto;
+
+// 카테고리별 집계 결과 (DB GROUP BY 프로젝션)
+public interface LedgerCategorySummary {
+
+    Long getCategoryId();
+
+    String getCategoryName();
+
+    String getType(); // income / expense
+
+    Long getTotalAmount();
+
+    Long getEntryCount();
+}
@@ -0,0 +1,35 @@
+package com.ll.finhabit.domain.ledger.dto;
+
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.Base64;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+// 가계부 목록 키셋 커서: 마지막으로 내려준 항목의 (date, ledgerId), 클라이언트에는 불투명 문자열로 전달
+public record LedgerCursor(LocalDate date, Long ledgerId) {
+
+    private static final Base64.Encoder ENCODER = Base64.getUrlEncoder().withoutPadding();
+    private static final Base64.Decoder DECODER = Base64.getUrlDecoder();
+
+    public static LedgerCursor of(LedgerResponse last) {
+        return new LedgerCursor(last.getDate(), last.getLedgerId());
+    }
+
+    public String encode() {
+        String raw = date + ":" + ledgerId;
+        return ENCODER.encodeToString(raw.getBytes(StandardCharsets.UTF_8));
+    }
+
+    public static LedgerCursor decode(String cursor) {
+        try {
+            String raw = new String(DECODER.decode(cursor), StandardCharsets.UTF_8);
+            int sep = raw.indexOf(':');
+            return new LedgerCursor(
+                    LocalDate.parse(raw.substring(0, sep)), Long.parseLong(raw.substring(sep + 1)));
+        } catch (IllegalArgumentException | IndexOutOfBoundsException | DateTimeParseException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "잘못된 커서입니다.");
+        }
+    }
+}
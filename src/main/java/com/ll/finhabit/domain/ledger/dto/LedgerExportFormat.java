@@ -0,0 +1,27 @@
+package com.ll.finhabit.domain.ledger.dto;
+
+import lombok.Getter;
+import lombok.RequiredArgsConstructor;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+@Getter
+@RequiredArgsConstructor
+public enum LedgerExportFormat {
+    CSV("text/csv; charset=UTF-8", "csv"),
+    NDJSON("application/x-ndjson", "ndjson");
+
+    private final String contentType;
+    private final String extension;
+
+    // 쿼리 파라미터 값(csv, ndjson)을 대소문자 구분 없이 변환
+    public static LedgerExportFormat from(String value) {
+        for (LedgerExportFormat format : values()) {
+            if (format.extension.equalsIgnoreCase(value)) {
+                return format;
+            }
+        }
+        throw new ResponseStatusException(
+                HttpStatus.BAD_REQUEST, "지원하지 않는 내보내기 형식입니다. (csv, ndjson)");
+    }
+}
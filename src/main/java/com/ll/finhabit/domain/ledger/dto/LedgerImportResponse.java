@@ -0,0 +1,23 @@
+package com.ll.finhabit.domain.ledger.dto;
+
+import java.util.List;
+import lombok.AllArgsConstructor;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class LedgerImportResponse {
+
+    private int requested; // 요청 행 수
+    private int imported; // 등록된 행 수 (실패 행이 하나라도 있으면 0: 전체 미등록)
+    private List<RowError> errors; // 행별 오류 (성공 시 빈 목록)
+
+    @Getter
+    @AllArgsConstructor
+    public static class RowError {
+
+        private int row; // 데이터 행 번호 (1부터, CSV 헤더 제외)
+        private String message;
+    }
+}
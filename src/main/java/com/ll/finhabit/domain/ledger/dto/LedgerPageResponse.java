@@ -0,0 +1,14 @@
+package com.ll.finhabit.domain.ledger.dto;
+
+import java.util.List;
+import lombok.Builder;
+import lombok.Getter;
+
+@Getter
+@Builder
+public class LedgerPageResponse {
+
+    private List<LedgerResponse> ledgers; // 최신순 (날짜 내림차순, 같은 날짜는 최근 등록순)
+    private boolean hasNext;
+    private String nextCursor; // 다음 페이지 요청 시 cursor로 전달 (마지막 페이지면 null)
+}
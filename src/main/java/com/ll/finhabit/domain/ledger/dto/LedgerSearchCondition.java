@@ -0,0 +1,8 @@
+package com.ll.finhabit.domain.ledger.dto;
+
+import com.ll.finhabit.domain.ledger.entity.PaymentType;
+import java.time.LocalDate;
+
+// 가계부 목록 필터 (모두 선택)
+public record LedgerSearchCondition(
+        Long categoryId, String type, PaymentType payment, LocalDate startDate, LocalDate endDate) {}
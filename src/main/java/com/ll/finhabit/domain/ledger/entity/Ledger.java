@@ -1,11 +1,13 @@
 package com.ll.finhabit.domain.ledger.entity;
 
 import com.ll.finhabit.domain.auth.entity.User;
+import com.ll.finhabit.global.jpa.TsidId;
 import jakarta.persistence.*;
 import java.time.LocalDate;
 import lombok.*;
 
 @Entity
+@Table(indexes = @Index(name = "idx_ledger_user_date", columnList = "userId, date"))
 @Getter
 @Setter
 @Builder
@@ -14,7 +16,7 @@ import lombok.*;
 public class Ledger {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     private Long ledgerId;
 
     @ManyToOne(fetch = FetchType.LAZY)
@@ -0,0 +1,45 @@
+package com.ll.finhabit.domain.ledger.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import lombok.*;
+
+@Entity
+@Table(
+        name = "ledger_monthly_rollup",
+        uniqueConstraints = {
+            @UniqueConstraint(
+                    name = "uk_ledger_rollup_user_month_category",
+                    columnNames = {"user_id", "month_start", "category_id"})
+        })
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LedgerMonthlyRollup {
+
+    @Id
+    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @Column(name = "rollup_id")
+    private Long rollupId;
+
+    @Column(name = "user_id", nullable = false)
+    private Long userId;
+
+    @Column(name = "month_start", nullable = false)
+    private LocalDate monthStart; // 해당 월 1일
+
+    @ManyToOne(fetch = FetchType.LAZY)
+    @JoinColumn(name = "category_id", nullable = false)
+    private Category category;
+
+    @Column(name = "income_total", nullable = false)
+    private Long incomeTotal; // 수입 합계
+
+    @Column(name = "expense_total", nullable = false)
+    private Long expenseTotal; // 지출 합계
+
+    @Column(name = "entry_count", nullable = false)
+    private Integer entryCount; // 내역 건수
+}
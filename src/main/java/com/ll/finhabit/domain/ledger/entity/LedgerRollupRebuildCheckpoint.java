@@ -0,0 +1,26 @@
+package com.ll.finhabit.domain.ledger.entity;
+
+import jakarta.persistence.*;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import lombok.*;
+
+@Entity
+@Table(name = "ledger_rollup_rebuild_checkpoint")
+@Getter
+@Setter
+@Builder
+@AllArgsConstructor
+@NoArgsConstructor
+public class LedgerRollupRebuildCheckpoint {
+
+    @Id
+    @Column(name = "run_date")
+    private LocalDate runDate; // 보정 작업 실행 날짜
+
+    @Column(nullable = false)
+    private Boolean completed;
+
+    @Column(name = "updated_at", nullable = false)
+    private LocalDateTime updatedAt;
+}
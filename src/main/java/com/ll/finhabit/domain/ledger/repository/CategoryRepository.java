@@ -1,6 +1,34 @@
 package com.ll.finhabit.domain.ledger.repository;
 
+import com.ll.finhabit.domain.ledger.dto.CategoryInfo;
 import com.ll.finhabit.domain.ledger.entity.Category;
+import com.ll.finhabit.global.common.CacheNames;
+import java.util.List;
+import java.util.Optional;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
-public interface CategoryRepository extends JpaRepository<Category, Long> {}
+public interface CategoryRepository extends JpaRepository<Category, Long> {
+
+    // 캐시에는 영속성 컨텍스트와 무관한 프로젝션만 담는다
+    @Cacheable(cacheNames = CacheNames.CATEGORY, unless = "#result == null")
+    @Query(
+            """
+            select new com.ll.finhabit.domain.ledger.dto.CategoryInfo(
+                       c.categoryId, c.categoryName, c.type)
+              from Category c
+             where c.categoryId = :categoryId
+            """)
+    Optional<CategoryInfo> findInfoById(@Param("categoryId") Long categoryId);
+
+    // 캐시 재적재용
+    @Query(
+            """
+            select new com.ll.finhabit.domain.ledger.dto.CategoryInfo(
+                       c.categoryId, c.categoryName, c.type)
+              from Category c
+            """)
+    List<CategoryInfo> findAllInfos();
+}
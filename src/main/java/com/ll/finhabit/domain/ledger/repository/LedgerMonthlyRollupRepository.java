@@ -0,0 +1,110 @@
+package com.ll.finhabit.domain.ledger.repository;
+
+import com.ll.finhabit.domain.ledger.entity.LedgerMonthlyRollup;
+import java.time.LocalDate;
+import java.util.List;
+import org.springframework.data.jpa.repository.EntityGraph;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface LedgerMonthlyRollupRepository extends JpaRepository<LedgerMonthlyRollup, Long> {
+
+    // 홈 화면 월간 요약용: 카테고리까지 한 번에 조회
+    @EntityGraph(attributePaths = "category")
+    List<LedgerMonthlyRollup> findByUserIdAndMonthStart(Long userId, LocalDate monthStart);
+
+    // 추가분 반영: 행이 없으면 만들고 있으면 더한다 (한 문장이라 첫 등록이 동시에 와도 안전)
+    @Modifying
+    @Query(
+            value =
+                    """
+                    insert into ledger_monthly_rollup
+                        (user_id, month_start, category_id, income_total, expense_total, entry_count)
+                    values (:userId, :monthStart, :categoryId, :incomeDelta, :expenseDelta,
+                            :countDelta)
+                    on duplicate key update
+                        income_total = income_total + :incomeDelta,
+                        expense_total = expense_total + :expenseDelta,
+                        entry_count = entry_count + :countDelta
+                    """,
+            nativeQuery = true)
+    int upsertDelta(
+            @Param("userId") Long userId,
+            @Param("monthStart") LocalDate monthStart,
+            @Param("categoryId") Long categoryId,
+            @Param("incomeDelta") long incomeDelta,
+            @Param("expenseDelta") long expenseDelta,
+            @Param("countDelta") int countDelta);
+
+    // 차감분 반영 (해당 행이 없으면 0 반환)
+    @Modifying
+    @Query(
+            """
+            update LedgerMonthlyRollup r
+               set r.incomeTotal = r.incomeTotal + :incomeDelta,
+                   r.expenseTotal = r.expenseTotal + :expenseDelta,
+                   r.entryCount = r.entryCount + :countDelta
+             where r.userId = :userId
+               and r.monthStart = :monthStart
+               and r.category.categoryId = :categoryId
+            """)
+    int addDelta(
+            @Param("userId") Long userId,
+            @Param("monthStart") LocalDate monthStart,
+            @Param("categoryId") Long categoryId,
+            @Param("incomeDelta") long incomeDelta,
+            @Param("expenseDelta") long expenseDelta,
+            @Param("countDelta") int countDelta);
+
+    // 재계산 대상: 해당 월에 가계부나 롤업 행이 있는 유저
+    @Query(
+            value =
+                    """
+                    select l.user_id from ledger l
+                     where l.date between :monthStart and :monthEnd
+                    union
+                    select r.user_id from ledger_monthly_rollup r
+                     where r.month_start = :monthStart
+                    """,
+            nativeQuery = true)
+    List<Long> findUserIdsToRebuild(
+            @Param("monthStart") LocalDate monthStart, @Param("monthEnd") LocalDate monthEnd);
+
+    // 재계산용: 한 유저의 특정 월 롤업 삭제
+    @Modifying
+    @Query(
+            """
+            delete from LedgerMonthlyRollup r
+             where r.userId = :userId
+               and r.monthStart = :monthStart
+            """)
+    int deleteByUserIdAndMonthStart(
+            @Param("userId") Long userId, @Param("monthStart") LocalDate monthStart);
+
+    // 재계산용: 원본 가계부에서 한 유저의 해당 월 롤업을 다시 집계해 적재
+    @Modifying
+    @Query(
+            value =
+                    """
+                    insert into ledger_monthly_rollup
+                        (user_id, month_start, category_id, income_total, expense_total, entry_count)
+                    select l.user_id, :monthStart, l.category_id,
+                           sum(case when c.type = 'income' then l.amount else 0 end),
+                           sum(case when c.type = 'expense' then l.amount else 0 end),
+                           count(*)
+                      from ledger l
+                      join category c on c.category_id = l.category_id
+                     where l.user_id = :userId
+                       and l.date between :monthStart and :monthEnd
+                     group by l.user_id, l.category_id
+                    """,
+            nativeQuery = true)
+    int insertAggregatedFromLedger(
+            @Param("userId") Long userId,
+            @Param("monthStart") LocalDate monthStart,
+            @Param("monthEnd") LocalDate monthEnd);
+
+    void deleteByUserId(Long userId);
+}
@@ -1,15 +1,100 @@
 package com.ll.finhabit.domain.ledger.repository;
 
+import com.ll.finhabit.domain.ledger.dto.LedgerCategorySummary;
 import com.ll.finhabit.domain.ledger.entity.Ledger;
+import com.ll.finhabit.domain.ledger.entity.PaymentType;
+import jakarta.persistence.QueryHint;
 import java.time.LocalDate;
 import java.util.List;
+import java.util.Optional;
+import java.util.stream.Stream;
+import org.hibernate.jpa.HibernateHints;
+import org.springframework.data.domain.Limit;
+import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.jpa.repository.QueryHints;
+import org.springframework.data.repository.query.Param;
 
-public interface LedgerRepository extends JpaRepository<Ledger, Long> {
-
-    List<Ledger> findAllByUser_Id(Long userId);
+public interface LedgerRepository extends JpaRepository<Ledger, Long>, LedgerRepositoryCustom {
 
+    // 상세 리스트용: 카테고리까지 한 번에 조회
+    @EntityGraph(attributePaths = "category")
     List<Ledger> findAllByUser_IdAndDate(Long userId, LocalDate date);
 
+    @EntityGraph(attributePaths = "category")
+    List<Ledger> findAllByUser_IdAndDateAndCategory_Type(
+            Long userId, LocalDate date, String categoryType);
+
+    @EntityGraph(attributePaths = "category")
     List<Ledger> findAllByUser_IdAndDateBetween(Long userId, LocalDate start, LocalDate end);
+
+    // 수정/삭제용: 롤업 차감에 카테고리 타입이 필요하므로 함께 조회
+    @EntityGraph(attributePaths = "category")
+    Optional<Ledger> findWithCategoryByLedgerId(Long ledgerId);
+
+    // 기간 내 카테고리별 합계/건수 (DB에서 집계)
+    @Query(
+            """
+            select c.categoryId as categoryId,
+                   c.categoryName as categoryName,
+                   c.type as type,
+                   sum(l.amount) as totalAmount,
+                   count(l) as entryCount
+              from Ledger l
+              join l.category c
+             where l.user.id = :userId
+               and l.date between :start and :end
+             group by c.categoryId, c.categoryName, c.type
+            """)
+    List<LedgerCategorySummary> summarizeByCategory(
+            @Param("userId") Long userId,
+            @Param("start") LocalDate start,
+            @Param("end") LocalDate end);
+
+    // 목록 키셋 페이지네이션: (date, ledgerId) 내림차순으로 커서 다음 항목부터 limit건
+    // ledger(user_id, date) 인덱스(+PK)를 역순으로 타므로 페이지 깊이와 관계없이 비용이 일정하다
+    @Query(
+            """
+            select l from Ledger l
+              join fetch l.category c
+             where l.user.id = :userId
+               and (:categoryId is null or c.categoryId = :categoryId)
+               and (:type is null or c.type = :type)
+               and (:payment is null or l.payment = :payment)
+               and (:startDate is null or l.date >= :startDate)
+               and (:endDate is null or l.date <= :endDate)
+               and (:cursorDate is null
+                    or (l.date <= :cursorDate
+                        and (l.date < :cursorDate or l.ledgerId < :cursorId)))
+             order by l.date desc, l.ledgerId desc
+            """)
+    List<Ledger> findPage(
+            @Param("userId") Long userId,
+            @Param("categoryId") Long categoryId,
+            @Param("type") String type,
+            @Param("payment") PaymentType payment,
+            @Param("startDate") LocalDate startDate,
+            @Param("endDate") LocalDate endDate,
+            @Param("cursorDate") LocalDate cursorDate,
+            @Param("cursorId") Long cursorId,
+            Limit limit);
+
+    // 내보내기용: MySQL 드라이버가 결과를 한 행씩 스트리밍하도록 fetch size를 Integer.MIN_VALUE로 지정
+    @QueryHints({
+        @QueryHint(name = HibernateHints.HINT_FETCH_SIZE, value = "" + Integer.MIN_VALUE),
+        @QueryHint(name = HibernateHints.HINT_READ_ONLY, value = "true")
+    })
+    @Query(
+            """
+            select l from Ledger l
+              join fetch l.category
+             where l.user.id = :userId
+             order by l.date asc, l.ledgerId asc
+            """)
+    Stream<Ledger> streamAllByUserId(@Param("userId") Long userId);
+
+    // 롤업 전체 재계산 시작 월 계산용
+    @Query("select min(l.date) from Ledger l")
+    Optional<LocalDate> findEarliestDate();
 }
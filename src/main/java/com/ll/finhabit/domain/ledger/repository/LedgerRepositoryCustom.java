@@ -0,0 +1,10 @@
+package com.ll.finhabit.domain.ledger.repository;
+
+import com.ll.finhabit.domain.ledger.entity.Ledger;
+import java.util.List;
+
+public interface LedgerRepositoryCustom {
+
+    // 일괄 등록: JDBC 배치 insert (ID는 엔티티와 같은 TSID 생성기로 채운다, 영속성 컨텍스트는 거치지 않음)
+    void batchInsert(List<Ledger> ledgers);
+}
@@ -0,0 +1,50 @@
+package com.ll.finhabit.domain.ledger.repository;
+
+import com.ll.finhabit.domain.ledger.entity.Ledger;
+import com.ll.finhabit.global.jpa.Tsid;
+import java.sql.Date;
+import java.sql.Types;
+import java.util.List;
+import lombok.RequiredArgsConstructor;
+import org.springframework.jdbc.core.JdbcTemplate;
+
+@RequiredArgsConstructor
+public class LedgerRepositoryImpl implements LedgerRepositoryCustom {
+
+    private static final String INSERT_SQL =
+            "insert into ledger (ledger_id, user_id, category_id, amount, merchant, date, payment)"
+                    + " values (?, ?, ?, ?, ?, ?, ?)";
+    private static final int BATCH_SIZE = 1_000;
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public void batchInsert(List<Ledger> ledgers) {
+        if (ledgers.isEmpty()) {
+            return;
+        }
+
+        // 엔티티 저장과 같은 ID 생성기를 사용
+        for (Ledger ledger : ledgers) {
+            ledger.setLedgerId(Tsid.next());
+        }
+
+        jdbcTemplate.batchUpdate(
+                INSERT_SQL,
+                ledgers,
+                BATCH_SIZE,
+                (ps, ledger) -> {
+                    ps.setLong(1, ledger.getLedgerId());
+                    ps.setLong(2, ledger.getUser().getId());
+                    ps.setLong(3, ledger.getCategory().getCategoryId());
+                    ps.setInt(4, ledger.getAmount());
+                    ps.setString(5, ledger.getMerchant());
+                    ps.setDate(6, Date.valueOf(ledger.getDate()));
+                    if (ledger.getPayment() != null) {
+                        ps.setString(7, ledger.getPayment().name());
+                    } else {
+                        ps.setNull(7, Types.VARCHAR);
+                    }
+                });
+    }
+}
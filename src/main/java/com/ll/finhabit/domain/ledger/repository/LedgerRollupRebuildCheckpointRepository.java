@@ -0,0 +1,37 @@
+package com.ll.finhabit.domain.ledger.repository;
+
+import com.ll.finhabit.domain.ledger.entity.LedgerRollupRebuildCheckpoint;
+import java.time.LocalDate;
+import java.util.Optional;
+import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
+
+public interface LedgerRollupRebuildCheckpointRepository
+        extends JpaRepository<LedgerRollupRebuildCheckpoint, LocalDate> {
+
+    // 실행 날짜의 체크포인트 행이 없으면 만든다 (여러 인스턴스가 동시에 실행해도 한 행만 생김)
+    @Modifying
+    @Query(
+            value =
+                    """
+                    insert ignore into ledger_rollup_rebuild_checkpoint
+                        (run_date, completed, updated_at)
+                    values (:runDate, false, now(6))
+                    """,
+            nativeQuery = true)
+    int createIfAbsent(@Param("runDate") LocalDate runDate);
+
+    // 실행 권한: 체크포인트 행을 트랜잭션 끝까지 잠근다.
+    // 다른 인스턴스가 실행 중이면 기다리지 않고 빈 값을 반환한다
+    @Query(
+            value =
+                    """
+                    select * from ledger_rollup_rebuild_checkpoint
+                     where run_date = :runDate
+                       for update skip locked
+                    """,
+            nativeQuery = true)
+    Optional<LedgerRollupRebuildCheckpoint> claim(@Param("runDate") LocalDate runDate);
+}
@@ -0,0 +1,142 @@
+package com.ll.finhabit.domain.ledger.service;
+
+import com.ll.finhabit.domain.ledger.dto.LedgerCategorySummary;
+import com.ll.finhabit.domain.ledger.entity.Category;
+import com.ll.finhabit.domain.ledger.entity.Ledger;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * 카테고리별 합계/건수/비율을 한 번의 순회로 계산하는 집계기.
+ *
+ * <p>결과 순서는 카테고리가 처음 등장한 순서이며, 비율은 최대 잔여 방식으로 반올림해 합이 항상 100이 되도록 맞춘다. 스레드 안전하지 않으므로
+ * 요청 안에서만 쓴다.
+ */
+public final class LedgerAggregator {
+
+    // categoryId -> 누적값 (등장 순서 유지)
+    private final Map<Long, Bucket> buckets;
+    private long total;
+
+    public LedgerAggregator() {
+        this(16);
+    }
+
+    public LedgerAggregator(int expectedCategories) {
+        buckets = new LinkedHashMap<>(Math.max(4, expectedCategories) * 2);
+    }
+
+    public LedgerAggregator add(Ledger ledger) {
+        Category category = ledger.getCategory();
+        int amount = ledger.getAmount() == null ? 0 : ledger.getAmount();
+        return add(
+                category.getCategoryId(), category.getCategoryName(), category.getType(), amount, 1);
+    }
+
+    public LedgerAggregator add(LedgerCategorySummary summary) {
+        return add(
+                summary.getCategoryId(),
+                summary.getCategoryName(),
+                summary.getType(),
+                summary.getTotalAmount(),
+                summary.getEntryCount());
+    }
+
+    public LedgerAggregator add(
+            long categoryId, String categoryName, String type, long amount, long count) {
+        Bucket bucket =
+                buckets.computeIfAbsent(categoryId, id -> new Bucket(id, categoryName, type));
+        bucket.amount += amount;
+        bucket.count += count;
+        total += amount;
+        return this;
+    }
+
+    public long total() {
+        return total;
+    }
+
+    public int size() {
+        return buckets.size();
+    }
+
+    public long amountOf(long categoryId) {
+        Bucket bucket = buckets.get(categoryId);
+        return bucket == null ? 0 : bucket.amount;
+    }
+
+    // 등장 순서대로 카테고리별 결과 (비율 합계 100, 전체 합계가 0이면 모두 0)
+    public List<Entry> entries() {
+        List<Bucket> ordered = new ArrayList<>(buckets.values());
+        int[] percents = percents(ordered);
+        List<Entry> entries = new ArrayList<>(ordered.size());
+        for (int i = 0; i < ordered.size(); i++) {
+            Bucket bucket = ordered.get(i);
+            entries.add(
+                    new Entry(
+                            bucket.categoryId,
+                            bucket.categoryName,
+                            bucket.type,
+                            bucket.amount,
+                            bucket.count,
+                            percents[i]));
+        }
+        return entries;
+    }
+
+    // 최대 잔여(largest remainder): 내림한 몫을 먼저 주고, 남은 포인트를 나머지가 큰 순서로 1씩 배분
+    // (나머지가 같으면 금액이 큰 쪽, 그것도 같으면 먼저 등장한 쪽)
+    private int[] percents(List<Bucket> ordered) {
+        int size = ordered.size();
+        int[] percents = new int[size];
+        if (total <= 0) {
+            return percents;
+        }
+
+        long[] remainders = new long[size];
+        List<Integer> order = new ArrayList<>(size);
+        int assigned = 0;
+        for (int i = 0; i < size; i++) {
+            long scaled = ordered.get(i).amount * 100;
+            percents[i] = (int) (scaled / total);
+            remainders[i] = scaled % total;
+            assigned += percents[i];
+            order.add(i);
+        }
+
+        order.sort(
+                Comparator.<Integer>comparingLong(i -> remainders[i])
+                        .thenComparingLong(i -> ordered.get(i).amount)
+                        .reversed()
+                        .thenComparingInt(i -> i));
+        for (int i = 0; i < 100 - assigned && i < size; i++) {
+            percents[order.get(i)]++;
+        }
+        return percents;
+    }
+
+    private static final class Bucket {
+        private final long categoryId;
+        private final String categoryName;
+        private final String type;
+        private long amount;
+        private long count;
+
+        private Bucket(long categoryId, String categoryName, String type) {
+            this.categoryId = categoryId;
+            this.categoryName = categoryName;
+            this.type = type;
+        }
+    }
+
+    public record Entry(
+            long categoryId,
+            String categoryName,
+            String type,
+            long amount,
+            long count,
+            int percent) {}
+}
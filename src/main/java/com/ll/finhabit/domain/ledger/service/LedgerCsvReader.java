@@ -0,0 +1,110 @@
+package com.ll.finhabit.domain.ledger.service;
+
+import java.io.IOException;
+import java.io.Reader;
+import java.util.ArrayList;
+import java.util.List;
+import org.springframework.http.HttpStatus;
+import org.springframework.web.server.ResponseStatusException;
+
+// 일괄 등록용 CSV 파서 (RFC 4180: 따옴표 안의 쉼표/개행, "" 이스케이프 지원)
+// 본문 전체를 문자열로 올리지 않고 한 레코드씩 읽으며, maxLength 글자를 넘게 읽으면 413으로 중단한다
+final class LedgerCsvReader {
+
+    private static final int NONE = -2;
+
+    private final Reader reader;
+    private final long maxLength;
+    private long length;
+    private int peeked = NONE;
+    private boolean first = true;
+    private boolean finished;
+
+    LedgerCsvReader(Reader reader, long maxLength) {
+        this.reader = reader;
+        this.maxLength = maxLength;
+    }
+
+    // 다음 레코드 (빈 줄은 건너뛰고, 끝이면 null)
+    List<String> next() throws IOException {
+        while (!finished) {
+            List<String> record = readRecord();
+            if (record != null) {
+                return record;
+            }
+        }
+        return null;
+    }
+
+    // 한 줄을 읽는다 (빈 줄이면 null)
+    private List<String> readRecord() throws IOException {
+        List<String> fields = new ArrayList<>();
+        StringBuilder field = new StringBuilder();
+        boolean quoted = false;
+
+        for (int c = read(); ; c = read()) {
+            if (c == -1) {
+                finished = true;
+                break;
+            }
+            if (quoted) {
+                if (c == '"' && peek() == '"') {
+                    field.append('"');
+                    read();
+                } else if (c == '"') {
+                    quoted = false;
+                } else {
+                    field.append((char) c);
+                }
+            } else if (c == '"') {
+                quoted = true;
+            } else if (c == ',') {
+                fields.add(field.toString());
+                field.setLength(0);
+            } else if (c == '\n' || c == '\r') {
+                if (c == '\r' && peek() == '\n') {
+                    read();
+                }
+                break;
+            } else {
+                field.append((char) c);
+            }
+        }
+
+        fields.add(field.toString());
+        if (fields.size() == 1 && fields.get(0).isBlank()) {
+            return null;
+        }
+        return fields;
+    }
+
+    private int read() throws IOException {
+        if (peeked != NONE) {
+            int c = peeked;
+            peeked = NONE;
+            return c;
+        }
+
+        int c = reader.read();
+        // 엑셀로 저장한 파일의 BOM 제거
+        if (first) {
+            first = false;
+            if (c == '\uFEFF') {
+                c = reader.read();
+            }
+        }
+        if (c != -1 && ++length > maxLength) {
+            throw new ResponseStatusException(
+                    HttpStatus.PAYLOAD_TOO_LARGE,
+                    String.format("CSV 본문은 최대 %,d자까지 등록할 수 있습니다.", maxLength));
+        }
+        return c;
+    }
+
+    private int peek() throws IOException {
+        if (peeked == NONE) {
+            peeked = read();
+        }
+        return peeked;
+    }
+}
@@ -0,0 +1,56 @@
+package com.ll.finhabit.domain.ledger.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.finhabit.domain.ledger.dto.LedgerExportFormat;
+import com.ll.finhabit.domain.ledger.entity.Ledger;
+import com.ll.finhabit.domain.ledger.repository.LedgerRepository;
+import jakarta.persistence.EntityManager;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.UncheckedIOException;
+import java.util.stream.Stream;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.PlatformTransactionManager;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Service
+public class LedgerExportService {
+
+    private final LedgerRepository ledgerRepository;
+    private final EntityManager entityManager;
+    private final TransactionTemplate readOnlyTransaction;
+    private final LedgerExportWriter exportWriter;
+
+    public LedgerExportService(
+            LedgerRepository ledgerRepository,
+            EntityManager entityManager,
+            PlatformTransactionManager transactionManager,
+            ObjectMapper objectMapper) {
+        this.ledgerRepository = ledgerRepository;
+        this.entityManager = entityManager;
+        this.readOnlyTransaction = new TransactionTemplate(transactionManager);
+        this.readOnlyTransaction.setReadOnly(true);
+        this.exportWriter = new LedgerExportWriter(objectMapper);
+    }
+
+    // StreamingResponseBody(비동기 스레드)에서 호출: 스트림은 트랜잭션 안에서만 읽을 수 있으므로 직접 트랜잭션을 연다
+    public void export(Long userId, LedgerExportFormat format, OutputStream out) {
+        readOnlyTransaction.executeWithoutResult(
+                status -> {
+                    try (Stream<Ledger> ledgers = ledgerRepository.streamAllByUserId(userId)) {
+                        long count =
+                                exportWriter.write(
+                                        ledgers.iterator(), format, out, entityManager::detach);
+                        log.info(
+                                "가계부 내보내기 완료: userId={}, format={}, rows={}",
+                                userId,
+                                format,
+                                count);
+                    } catch (IOException e) {
+                        throw new UncheckedIOException(e);
+                    }
+                });
+    }
+}
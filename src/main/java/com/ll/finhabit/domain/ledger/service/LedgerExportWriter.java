@@ -0,0 +1,96 @@
+package com.ll.finhabit.domain.ledger.service;
+
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.finhabit.domain.ledger.dto.LedgerExportFormat;
+import com.ll.finhabit.domain.ledger.entity.Ledger;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+// 가계부 내보내기: 한 건씩 읽어 바로 쓰므로 내역 수와 관계없이 메모리 사용량이 일정하다
+public class LedgerExportWriter {
+
+    private static final String CSV_HEADER =
+            "ledgerId,date,type,categoryName,amount,merchant,payment";
+    private static final char UTF8_BOM = '﻿';
+    private static final int BUFFER_SIZE = 64 * 1024;
+
+    private final ObjectMapper objectMapper;
+
+    public LedgerExportWriter(ObjectMapper objectMapper) {
+        this.objectMapper = objectMapper;
+    }
+
+    // afterWrite: 쓰고 난 엔티티 정리용 (영속성 컨텍스트에서 detach)
+    public long write(
+            Iterator<Ledger> ledgers,
+            LedgerExportFormat format,
+            OutputStream out,
+            Consumer<Ledger> afterWrite)
+            throws IOException {
+        Writer writer =
+                new BufferedWriter(
+                        new OutputStreamWriter(out, StandardCharsets.UTF_8), BUFFER_SIZE);
+
+        if (format == LedgerExportFormat.CSV) {
+            // 엑셀에서 한글이 깨지지 않도록 BOM 추가
+            writer.write(UTF8_BOM);
+            writer.write(CSV_HEADER);
+            writer.write('\n');
+        }
+
+        long count = 0;
+        while (ledgers.hasNext()) {
+            Ledger ledger = ledgers.next();
+            if (format == LedgerExportFormat.CSV) {
+                writeCsvRow(writer, ledger);
+            } else {
+                writer.write(
+                        objectMapper.writeValueAsString(LedgerService.toLedgerResponse(ledger)));
+                writer.write('\n');
+            }
+            afterWrite.accept(ledger);
+            count++;
+        }
+
+        writer.flush();
+        return count;
+    }
+
+    private void writeCsvRow(Writer writer, Ledger ledger) throws IOException {
+        writer.write(String.valueOf(ledger.getLedgerId()));
+        writer.write(',');
+        writer.write(ledger.getDate().toString());
+        writer.write(',');
+        writer.write(csv(ledger.getCategory().getType()));
+        writer.write(',');
+        writer.write(csv(ledger.getCategory().getCategoryName()));
+        writer.write(',');
+        writer.write(String.valueOf(ledger.getAmount()));
+        writer.write(',');
+        writer.write(csv(ledger.getMerchant()));
+        writer.write(',');
+        writer.write(ledger.getPayment() != null ? ledger.getPayment().name() : "");
+        writer.write('\n');
+    }
+
+    // 쉼표/따옴표/개행은 따옴표로 감싸고, 수식으로 해석될 수 있는 값(=,+,-,@)은 앞에 '를 붙인다
+    static String csv(String value) {
+        if (value == null || value.isEmpty()) {
+            return "";
+        }
+        String safe = "=+-@".indexOf(value.charAt(0)) >= 0 ? "'" + value : value;
+        if (safe.indexOf(',') >= 0
+                || safe.indexOf('"') >= 0
+                || safe.indexOf('\n') >= 0
+                || safe.indexOf('\r') >= 0) {
+            return '"' + safe.replace("\"", "\"\"") + '"';
+        }
+        return safe;
+    }
+}
@@ -0,0 +1,236 @@
+package com.ll.finhabit.domain.ledger.service;
+
+import com.ll.finhabit.domain.auth.entity.User;
+import com.ll.finhabit.domain.auth.repository.UserRepository;
+import com.ll.finhabit.domain.ledger.dto.LedgerCreateRequest;
+import com.ll.finhabit.domain.ledger.dto.LedgerImportResponse;
+import com.ll.finhabit.domain.ledger.entity.Category;
+import com.ll.finhabit.domain.ledger.entity.Ledger;
+import com.ll.finhabit.domain.ledger.entity.PaymentType;
+import com.ll.finhabit.domain.ledger.repository.CategoryRepository;
+import com.ll.finhabit.domain.ledger.repository.LedgerRepository;
+import java.io.IOException;
+import java.io.Reader;
+import java.time.LocalDate;
+import java.time.format.DateTimeParseException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+// 가계부 일괄 등록: 모든 행을 먼저 검증하고, 하나라도 실패하면 아무것도 저장하지 않는다 (재시도 시 중복 방지)
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class LedgerImportService {
+
+    public static final int MAX_ROWS = 10_000;
+    // CSV 본문 최대 글자 수 (한 행 100자 안팎 x MAX_ROWS에 여유를 둔 값)
+    public static final int MAX_CSV_LENGTH = 2_000_000;
+    private static final int MERCHANT_MAX_LENGTH = 30;
+    private static final List<String> REQUIRED_COLUMNS =
+            List.of("categoryId", "amount", "merchant");
+
+    private final LedgerRepository ledgerRepository;
+    private final UserRepository userRepository;
+    private final CategoryRepository categoryRepository;
+    private final LedgerRollupService ledgerRollupService;
+    private final TransactionTemplate transactionTemplate;
+
+    public LedgerImportResponse importJson(Long userId, List<LedgerCreateRequest> requests) {
+        List<Row> rows = new ArrayList<>(requests.size());
+        for (int i = 0; i < requests.size(); i++) {
+            rows.add(new Row(i + 1, requests.get(i), null));
+        }
+        return importRows(userId, rows);
+    }
+
+    // 헤더: categoryId, amount, merchant (필수) / date, payment (선택), 순서는 자유
+    // 본문을 한 레코드씩 읽다가 MAX_ROWS를 넘는 순간 중단한다.
+    // 요청 본문을 읽는 동안 DB 커넥션을 잡지 않도록 파싱은 트랜잭션 밖에서, 저장만 트랜잭션 안에서 한다
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public LedgerImportResponse importCsv(Long userId, Reader body) {
+        LedgerCsvReader csv = new LedgerCsvReader(body, MAX_CSV_LENGTH);
+        List<Row> rows = new ArrayList<>();
+        try {
+            List<String> header = csv.next();
+            if (header == null) {
+                throw new ResponseStatusException(
+                        HttpStatus.BAD_REQUEST, "등록할 가계부 내역이 없습니다.");
+            }
+
+            Map<String, Integer> columns = new HashMap<>();
+            for (int i = 0; i < header.size(); i++) {
+                columns.put(header.get(i).strip(), i);
+            }
+            for (String column : REQUIRED_COLUMNS) {
+                if (!columns.containsKey(column)) {
+                    throw new ResponseStatusException(
+                            HttpStatus.BAD_REQUEST, "CSV 헤더에 " + column + " 컬럼이 필요합니다.");
+                }
+            }
+
+            for (List<String> record = csv.next(); record != null; record = csv.next()) {
+                int number = rows.size() + 1;
+                if (number > MAX_ROWS) {
+                    throw tooManyRows();
+                }
+                try {
+                    rows.add(new Row(number, toRequest(record, columns), null));
+                } catch (ResponseStatusException e) {
+                    rows.add(new Row(number, null, e.getReason()));
+                }
+            }
+        } catch (IOException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "CSV 본문을 읽을 수 없습니다.");
+        }
+
+        return transactionTemplate.execute(status -> importRows(userId, rows));
+    }
+
+    private LedgerImportResponse importRows(Long userId, List<Row> rows) {
+        if (rows.isEmpty()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "등록할 가계부 내역이 없습니다.");
+        }
+        if (rows.size() > MAX_ROWS) {
+            throw tooManyRows();
+        }
+
+        // 로그인 사용자이므로 조회 없이 연관관계만 건다
+        User user = userRepository.getReferenceById(userId);
+
+        // 행마다 카테고리를 조회하지 않도록 전체 카테고리를 한 번만 읽는다
+        Map<Long, Category> categories =
+                categoryRepository.findAll().stream()
+                        .collect(Collectors.toMap(Category::getCategoryId, Function.identity()));
+        LocalDate today = LocalDate.now();
+
+        List<Ledger> ledgers = new ArrayList<>(rows.size());
+        List<LedgerImportResponse.RowError> errors = new ArrayList<>();
+        for (Row row : rows) {
+            if (row.error() != null) {
+                errors.add(new LedgerImportResponse.RowError(row.number(), row.error()));
+                continue;
+            }
+            try {
+                ledgers.add(toLedger(user, row.request(), categories, today));
+            } catch (ResponseStatusException e) {
+                errors.add(new LedgerImportResponse.RowError(row.number(), e.getReason()));
+            }
+        }
+
+        if (!errors.isEmpty()) {
+            return LedgerImportResponse.builder()
+                    .requested(rows.size())
+                    .imported(0)
+                    .errors(errors)
+                    .build();
+        }
+
+        // 월간 롤업 재계산과 겹치지 않도록 가계부를 쓰기 전에 유저 행부터 잠근다
+        ledgerRollupService.lockUser(userId);
+        ledgerRepository.batchInsert(ledgers);
+        ledgerRollupService.addAll(userId, ledgers);
+        log.info("가계부 일괄 등록 완료: userId={}, rows={}", userId, ledgers.size());
+
+        return LedgerImportResponse.builder()
+                .requested(rows.size())
+                .imported(ledgers.size())
+                .errors(List.of())
+                .build();
+    }
+
+    // createLedger와 같은 규칙 (카테고리 존재, 지출은 결제 수단 필수, 날짜 없으면 오늘)
+    private Ledger toLedger(
+            User user,
+            LedgerCreateRequest request,
+            Map<Long, Category> categories,
+            LocalDate today) {
+        if (request == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "빈 행입니다.");
+        }
+        if (request.getCategoryId() == null || request.getAmount() == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "카테고리와 금액은 필수입니다.");
+        }
+        if (request.getMerchant() == null || request.getMerchant().isBlank()) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "사용처는 필수입니다.");
+        }
+        if (request.getMerchant().length() > MERCHANT_MAX_LENGTH) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "사용처는 " + MERCHANT_MAX_LENGTH + "자 이하여야 합니다.");
+        }
+
+        Category category = categories.get(request.getCategoryId());
+        if (category == null) {
+            throw new ResponseStatusException(HttpStatus.NOT_FOUND, "존재하지 않는 카테고리입니다.");
+        }
+
+        return Ledger.builder()
+                .user(user)
+                .category(category)
+                .amount(request.getAmount())
+                .merchant(request.getMerchant())
+                .date(request.getDate() != null ? request.getDate() : today)
+                .payment(LedgerService.resolvePayment(category.getType(), request.getPayment()))
+                .build();
+    }
+
+    private LedgerCreateRequest toRequest(List<String> record, Map<String, Integer> columns) {
+        String categoryId = field(record, columns, "categoryId");
+        String amount = field(record, columns, "amount");
+        String date = field(record, columns, "date");
+        String payment = field(record, columns, "payment");
+
+        LedgerCreateRequest.LedgerCreateRequestBuilder builder =
+                LedgerCreateRequest.builder().merchant(field(record, columns, "merchant"));
+        try {
+            builder.categoryId(categoryId != null ? Long.parseLong(categoryId) : null);
+            builder.amount(amount != null ? Integer.parseInt(amount) : null);
+        } catch (NumberFormatException e) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "숫자 형식이 올바르지 않습니다.");
+        }
+        try {
+            builder.date(date != null ? LocalDate.parse(date) : null);
+        } catch (DateTimeParseException e) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "날짜 형식이 올바르지 않습니다. (yyyy-MM-dd)");
+        }
+        try {
+            builder.payment(
+                    payment != null ? PaymentType.valueOf(payment.toUpperCase(Locale.ROOT)) : null);
+        } catch (IllegalArgumentException e) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "잘못된 결제 수단입니다. (CARD, CASH, ETC)");
+        }
+        return builder.build();
+    }
+
+    // 빈 칸은 null로 취급
+    private static String field(List<String> record, Map<String, Integer> columns, String name) {
+        Integer index = columns.get(name);
+        if (index == null || index >= record.size()) {
+            return null;
+        }
+        String value = record.get(index).strip();
+        return value.isEmpty() ? null : value;
+    }
+
+    private static ResponseStatusException tooManyRows() {
+        return new ResponseStatusException(
+                HttpStatus.BAD_REQUEST, "한 번에 최대 " + MAX_ROWS + "건까지 등록할 수 있습니다.");
+    }
+
+    private record Row(int number, LedgerCreateRequest request, String error) {}
+}
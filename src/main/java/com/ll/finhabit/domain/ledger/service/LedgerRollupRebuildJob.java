@@ -0,0 +1,72 @@
+package com.ll.finhabit.domain.ledger.service;
+
+import com.ll.finhabit.domain.ledger.entity.LedgerRollupRebuildCheckpoint;
+import com.ll.finhabit.domain.ledger.repository.LedgerMonthlyRollupRepository;
+import com.ll.finhabit.domain.ledger.repository.LedgerRollupRebuildCheckpointRepository;
+import java.time.Instant;
+import java.time.LocalDate;
+import java.time.LocalDateTime;
+import java.time.YearMonth;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.boot.context.event.ApplicationReadyEvent;
+import org.springframework.context.event.EventListener;
+import org.springframework.scheduling.TaskScheduler;
+import org.springframework.scheduling.annotation.Scheduled;
+import org.springframework.stereotype.Component;
+import org.springframework.transaction.support.TransactionTemplate;
+
+@Slf4j
+@Component
+@RequiredArgsConstructor
+public class LedgerRollupRebuildJob {
+
+    private final LedgerRollupService ledgerRollupService;
+    private final LedgerMonthlyRollupRepository rollupRepository;
+    private final LedgerRollupRebuildCheckpointRepository checkpointRepository;
+    private final TaskScheduler taskScheduler;
+    private final TransactionTemplate transactionTemplate;
+
+    // 롤업 테이블이 비어 있으면 (최초 배포) 기존 가계부 전체로 한 번 채운다 (부팅 스레드를 막지 않도록 스케줄러에서)
+    @EventListener(ApplicationReadyEvent.class)
+    public void backfillIfEmpty() {
+        taskScheduler.schedule(this::backfillNow, Instant.now());
+    }
+
+    private void backfillNow() {
+        if (rollupRepository.count() > 0) {
+            return;
+        }
+        log.info("가계부 월간 롤업이 비어 있어 전체 재계산을 시작합니다.");
+        ledgerRollupService.rebuildAll();
+    }
+
+    /**
+     * 매일 새벽 지난달/이번 달 롤업을 원본 기준으로 보정한다. 모든 인스턴스에서 같은 시각에 실행되므로 {@code DailyAssignmentJob}과
+     * 같이 실행 날짜별 체크포인트 행을 잠근 인스턴스 하나만 재계산하고, 다른 인스턴스는 기다리지 않고 종료한다. 잠금은 재계산이 끝날 때까지
+     * 유지하며, 재계산 자체는 유저별 트랜잭션으로 따로 커밋된다.
+     */
+    @Scheduled(cron = "${finhabit.ledger.rollup.rebuild-cron:0 30 4 * * *}")
+    public void rebuildRecentMonths() {
+        LocalDate runDate = LocalDate.now();
+        transactionTemplate.executeWithoutResult(
+                status -> checkpointRepository.createIfAbsent(runDate));
+
+        transactionTemplate.executeWithoutResult(
+                status -> {
+                    LedgerRollupRebuildCheckpoint checkpoint =
+                            checkpointRepository.claim(runDate).orElse(null);
+                    if (checkpoint == null || checkpoint.getCompleted()) {
+                        log.info("다른 인스턴스가 가계부 월간 롤업 보정을 실행 중이거나 마쳤습니다: date={}", runDate);
+                        return;
+                    }
+
+                    YearMonth current = YearMonth.from(runDate);
+                    ledgerRollupService.rebuildMonth(current.minusMonths(1));
+                    ledgerRollupService.rebuildMonth(current);
+
+                    checkpoint.setCompleted(true);
+                    checkpoint.setUpdatedAt(LocalDateTime.now());
+                });
+    }
+}
@@ -0,0 +1,147 @@
+package com.ll.finhabit.domain.ledger.service;
+
+import com.ll.finhabit.domain.auth.repository.UserRepository;
+import com.ll.finhabit.domain.ledger.dto.CategoryInfo;
+import com.ll.finhabit.domain.ledger.entity.Category;
+import com.ll.finhabit.domain.ledger.entity.Ledger;
+import com.ll.finhabit.domain.ledger.repository.LedgerMonthlyRollupRepository;
+import com.ll.finhabit.domain.ledger.repository.LedgerRepository;
+import java.time.LocalDate;
+import java.time.YearMonth;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Service;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.springframework.web.server.ResponseStatusException;
+
+// 사용자별 월간 가계부 롤업: 가계부 생성/수정/삭제 트랜잭션 안에서 증감분만 반영하고, 재계산은 원본 가계부 기준
+// 가계부 쓰기와 재계산은 모두 먼저 유저 행을 잠가 (UserRepository.lockById), 같은 유저에 대해서는 차례로 실행된다
+@Slf4j
+@Service
+@RequiredArgsConstructor
+@Transactional
+public class LedgerRollupService {
+
+    private final LedgerMonthlyRollupRepository rollupRepository;
+    private final LedgerRepository ledgerRepository;
+    private final UserRepository userRepository;
+    private final TransactionTemplate transactionTemplate;
+
+    // 가계부 쓰기 트랜잭션의 첫 문장에서 호출 (가계부 행을 건드리기 전에 잠가야 재계산과 교착되지 않는다)
+    public void lockUser(Long userId) {
+        userRepository
+                .lockById(userId)
+                .orElseThrow(
+                        () ->
+                                new ResponseStatusException(
+                                        HttpStatus.NOT_FOUND, "사용자를 찾을 수 없습니다."));
+    }
+
+    public void add(Long userId, LocalDate date, CategoryInfo category, int amount) {
+        applyDelta(userId, date, category.categoryId(), category.type(), amount, 1);
+    }
+
+    // 일괄 등록용: (월, 카테고리)별로 먼저 합산해 롤업 갱신을 그룹 수만큼만 실행
+    public void addAll(Long userId, List<Ledger> ledgers) {
+        Map<RollupKey, long[]> deltas = new LinkedHashMap<>();
+        Map<Long, String> types = new HashMap<>();
+        for (Ledger ledger : ledgers) {
+            Category category = ledger.getCategory();
+            types.putIfAbsent(category.getCategoryId(), category.getType());
+            long[] delta =
+                    deltas.computeIfAbsent(
+                            new RollupKey(
+                                    ledger.getDate().withDayOfMonth(1), category.getCategoryId()),
+                            key -> new long[2]);
+            delta[0] += ledger.getAmount();
+            delta[1]++;
+        }
+
+        deltas.forEach(
+                (key, delta) ->
+                        applyDelta(
+                                userId,
+                                key.monthStart(),
+                                key.categoryId(),
+                                types.get(key.categoryId()),
+                                delta[0],
+                                (int) delta[1]));
+    }
+
+    public void subtract(Long userId, LocalDate date, CategoryInfo category, int amount) {
+        applyDelta(userId, date, category.categoryId(), category.type(), -amount, -1);
+    }
+
+    // 특정 월 롤업을 원본 가계부 기준으로 다시 계산.
+    // 유저마다 별도 트랜잭션에서 유저 행을 잠근 뒤 그 유저의 행만 지우고 다시 채운다
+    // (다른 유저의 가계부 쓰기는 막지 않고, 같은 유저의 쓰기는 재계산이 끝날 때까지 기다린다)
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public int rebuildMonth(YearMonth month) {
+        LocalDate monthStart = month.atDay(1);
+        LocalDate monthEnd = month.atEndOfMonth();
+
+        int inserted = 0;
+        for (Long userId : rollupRepository.findUserIdsToRebuild(monthStart, monthEnd)) {
+            inserted +=
+                    transactionTemplate.execute(
+                            status -> {
+                                // 대상 조회 뒤에 탈퇴한 유저는 건너뛴다
+                                if (userRepository.lockById(userId).isEmpty()) {
+                                    return 0;
+                                }
+                                rollupRepository.deleteByUserIdAndMonthStart(userId, monthStart);
+                                return rollupRepository.insertAggregatedFromLedger(
+                                        userId, monthStart, monthEnd);
+                            });
+        }
+
+        log.info("가계부 월간 롤업 재계산 완료: month={}, rows={}", month, inserted);
+        return inserted;
+    }
+
+    // 가장 오래된 가계부 월부터 이번 달까지 전체 재계산
+    @Transactional(propagation = Propagation.NOT_SUPPORTED)
+    public void rebuildAll() {
+        LocalDate earliest = ledgerRepository.findEarliestDate().orElse(null);
+        if (earliest == null) {
+            return;
+        }
+
+        YearMonth current = YearMonth.now();
+        for (YearMonth month = YearMonth.from(earliest);
+                !month.isAfter(current);
+                month = month.plusMonths(1)) {
+            rebuildMonth(month);
+        }
+    }
+
+    private void applyDelta(
+            Long userId,
+            LocalDate date,
+            Long categoryId,
+            String type,
+            long amount,
+            int countDelta) {
+        long incomeDelta = "income".equals(type) ? amount : 0;
+        long expenseDelta = "expense".equals(type) ? amount : 0;
+        LocalDate monthStart = date.withDayOfMonth(1);
+
+        // 추가분은 upsert 한 문장으로, 차감분은 있는 행에만 반영 (없으면 재계산 작업에서 맞춰진다)
+        if (countDelta > 0) {
+            rollupRepository.upsertDelta(
+                    userId, monthStart, categoryId, incomeDelta, expenseDelta, countDelta);
+        } else {
+            rollupRepository.addDelta(
+                    userId, monthStart, categoryId, incomeDelta, expenseDelta, countDelta);
+        }
+    }
+
+    private record RollupKey(LocalDate monthStart, Long categoryId) {}
+}
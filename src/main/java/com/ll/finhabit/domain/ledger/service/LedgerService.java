@@ -3,16 +3,16 @@ package com.ll.finhabit.domain.ledger.service;
 import com.ll.finhabit.domain.auth.entity.User;
 import com.ll.finhabit.domain.auth.repository.UserRepository;
 import com.ll.finhabit.domain.ledger.dto.*;
-import com.ll.finhabit.domain.ledger.entity.Category;
 import com.ll.finhabit.domain.ledger.entity.Ledger;
+import com.ll.finhabit.domain.ledger.entity.LedgerMonthlyRollup;
 import com.ll.finhabit.domain.ledger.entity.PaymentType;
 import com.ll.finhabit.domain.ledger.repository.CategoryRepository;
+import com.ll.finhabit.domain.ledger.repository.LedgerMonthlyRollupRepository;
 import com.ll.finhabit.domain.ledger.repository.LedgerRepository;
 import java.time.LocalDate;
 import java.util.List;
-import java.util.Map;
-import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
+import org.springframework.data.domain.Limit;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -26,35 +26,26 @@ public class LedgerService {
     private final LedgerRepository ledgerRepository;
     private final UserRepository userRepository;
     private final CategoryRepository categoryRepository;
+    private final LedgerMonthlyRollupRepository rollupRepository;
+    private final LedgerRollupService ledgerRollupService;
+
+    private static final int DEFAULT_PAGE_SIZE = 20;
+    private static final int MAX_PAGE_SIZE = 100;
 
     // --------------------
     // CREATE
     // --------------------
     public LedgerResponse createLedger(Long userId, LedgerCreateRequest request) {
 
-        User user =
-                userRepository
-                        .findById(userId)
-                        .orElseThrow(
-                                () ->
-                                        new ResponseStatusException(
-                                                HttpStatus.NOT_FOUND, "존재하지 않는 유저입니다."));
+        // 월간 롤업 재계산과 겹치지 않도록 가계부를 건드리기 전에 유저 행부터 잠근다
+        ledgerRollupService.lockUser(userId);
 
-        Category category =
-                categoryRepository
-                        .findById(request.getCategoryId())
-                        .orElseThrow(
-                                () ->
-                                        new ResponseStatusException(
-                                                HttpStatus.NOT_FOUND, "존재하지 않는 카테고리입니다."));
+        // 로그인 사용자이므로 조회 없이 연관관계만 건다
+        User user = userRepository.getReferenceById(userId);
 
-        boolean isIncome = "income".equals(category.getType());
+        CategoryInfo category = findCategory(request.getCategoryId());
 
-        if (!isIncome && request.getPayment() == null) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지출은 결제 수단이 필요합니다.");
-        }
-
-        PaymentType payment = isIncome ? null : request.getPayment();
+        PaymentType payment = resolvePayment(category.type(), request.getPayment());
 
         // 날짜가 없으면 자동으로 오늘 날짜 적용
         LocalDate useDate = (request.getDate() != null) ? request.getDate() : LocalDate.now();
@@ -62,7 +53,7 @@ public class LedgerService {
         Ledger ledger =
                 Ledger.builder()
                         .user(user)
-                        .category(category)
+                        .category(categoryRepository.getReferenceById(category.categoryId()))
                         .amount(request.getAmount())
                         .merchant(request.getMerchant())
                         .date(useDate)
@@ -70,7 +61,30 @@ public class LedgerService {
                         .build();
 
         Ledger saved = ledgerRepository.save(ledger);
-        return toLedgerResponse(saved);
+        ledgerRollupService.add(userId, useDate, category, saved.getAmount());
+        return toLedgerResponse(saved, category);
+    }
+
+    // 카테고리는 캐시된 프로젝션으로 확인하고, 가계부에는 getReferenceById로 연관관계만 건다
+    // (프록시를 초기화하지 않도록 응답/롤업에는 이 값을 넘긴다)
+    private CategoryInfo findCategory(Long categoryId) {
+        return categoryRepository
+                .findInfoById(categoryId)
+                .orElseThrow(
+                        () ->
+                                new ResponseStatusException(
+                                        HttpStatus.NOT_FOUND, "존재하지 않는 카테고리입니다."));
+    }
+
+    // 수입은 결제 수단을 저장하지 않고, 지출은 결제 수단이 필수 (단건 등록/일괄 등록 공통 규칙)
+    static PaymentType resolvePayment(String categoryType, PaymentType requested) {
+        if ("income".equals(categoryType)) {
+            return null;
+        }
+        if (requested == null) {
+            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지출은 결제 수단이 필요합니다.");
+        }
+        return requested;
     }
 
     // --------------------
@@ -78,9 +92,11 @@ public class LedgerService {
     // --------------------
     public LedgerResponse updateLedger(Long userId, Long ledgerId, LedgerUpdateRequest request) {
 
+        ledgerRollupService.lockUser(userId);
+
         Ledger ledger =
                 ledgerRepository
-                        .findById(ledgerId)
+                        .findWithCategoryByLedgerId(ledgerId)
                         .orElseThrow(
                                 () ->
                                         new ResponseStatusException(
@@ -90,29 +106,26 @@ public class LedgerService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인의 소비 내역만 수정할 수 있습니다.");
         }
 
-        Category category =
-                categoryRepository
-                        .findById(request.getCategoryId())
-                        .orElseThrow(
-                                () ->
-                                        new ResponseStatusException(
-                                                HttpStatus.NOT_FOUND, "존재하지 않는 카테고리입니다."));
+        CategoryInfo category = findCategory(request.getCategoryId());
 
-        boolean isIncome = "income".equals(category.getType());
+        PaymentType payment = resolvePayment(category.type(), request.getPayment());
 
-        if (!isIncome && request.getPayment() == null) {
-            throw new ResponseStatusException(HttpStatus.BAD_REQUEST, "지출은 결제 수단이 필요합니다.");
-        }
+        // 변경 전 값은 월간 롤업에서 차감
+        ledgerRollupService.subtract(
+                userId,
+                ledger.getDate(),
+                CategoryInfo.from(ledger.getCategory()),
+                ledger.getAmount());
 
-        PaymentType payment = isIncome ? null : request.getPayment();
-
-        ledger.setCategory(category);
+        ledger.setCategory(categoryRepository.getReferenceById(category.categoryId()));
         ledger.setAmount(request.getAmount());
         ledger.setMerchant(request.getMerchant());
         ledger.setDate(request.getDate());
         ledger.setPayment(payment);
 
-        return toLedgerResponse(ledger);
+        ledgerRollupService.add(userId, ledger.getDate(), category, ledger.getAmount());
+
+        return toLedgerResponse(ledger, category);
     }
 
     // --------------------
@@ -120,9 +133,11 @@ public class LedgerService {
     // --------------------
     public void deleteLedger(Long userId, Long ledgerId) {
 
+        ledgerRollupService.lockUser(userId);
+
         Ledger ledger =
                 ledgerRepository
-                        .findById(ledgerId)
+                        .findWithCategoryByLedgerId(ledgerId)
                         .orElseThrow(
                                 () ->
                                         new ResponseStatusException(
@@ -132,70 +147,85 @@ public class LedgerService {
             throw new ResponseStatusException(HttpStatus.FORBIDDEN, "본인의 소비 내역만 삭제할 수 있습니다.");
         }
 
+        ledgerRollupService.subtract(
+                userId,
+                ledger.getDate(),
+                CategoryInfo.from(ledger.getCategory()),
+                ledger.getAmount());
         ledgerRepository.delete(ledger);
     }
 
+    // --------------------
+    // LIST (키셋 페이지네이션)
+    // --------------------
+    @Transactional(readOnly = true)
+    public LedgerPageResponse getLedgers(
+            Long userId, LedgerSearchCondition condition, String cursor, Integer size) {
+
+        if (condition.type() != null
+                && !"income".equals(condition.type())
+                && !"expense".equals(condition.type())) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "type은 income 또는 expense만 가능합니다.");
+        }
+        if (condition.startDate() != null
+                && condition.endDate() != null
+                && condition.startDate().isAfter(condition.endDate())) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "시작 날짜가 종료 날짜보다 늦을 수 없습니다.");
+        }
+
+        int pageSize =
+                (size == null) ? DEFAULT_PAGE_SIZE : Math.min(Math.max(size, 1), MAX_PAGE_SIZE);
+        LedgerCursor after =
+                (cursor == null || cursor.isBlank()) ? null : LedgerCursor.decode(cursor);
+
+        // 한 건 더 읽어서 다음 페이지 존재 여부 판단
+        List<Ledger> rows =
+                ledgerRepository.findPage(
+                        userId,
+                        condition.categoryId(),
+                        condition.type(),
+                        condition.payment(),
+                        condition.startDate(),
+                        condition.endDate(),
+                        after != null ? after.date() : null,
+                        after != null ? after.ledgerId() : null,
+                        Limit.of(pageSize + 1));
+
+        boolean hasNext = rows.size() > pageSize;
+        List<LedgerResponse> ledgers =
+                rows.stream().limit(pageSize).map(LedgerService::toLedgerResponse).toList();
+
+        return LedgerPageResponse.builder()
+                .ledgers(ledgers)
+                .hasNext(hasNext)
+                .nextCursor(
+                        hasNext ? LedgerCursor.of(ledgers.get(ledgers.size() - 1)).encode() : null)
+                .build();
+    }
+
     // --------------------
     // DAILY / CALENDAR SUMMARY
     // --------------------
     public LedgerCalendarResponse getCalendarSummary(Long userId, LocalDate date) {
 
-        List<Ledger> ledgers = ledgerRepository.findAllByUser_IdAndDate(userId, date);
+        // 합계/카테고리 비율은 DB 집계 결과로 계산
+        List<LedgerCategorySummary> summaries =
+                ledgerRepository.summarizeByCategory(userId, date, date);
 
-        int totalIncome =
-                ledgers.stream()
-                        .filter(l -> "income".equals(l.getCategory().getType()))
-                        .mapToInt(Ledger::getAmount)
-                        .sum();
+        int totalIncome = sumAmount(summaries, "income");
+        LedgerAggregator expense = aggregate(summaries, "expense");
+        int totalExpense = (int) expense.total();
 
-        List<Ledger> expenseLedgers =
-                ledgers.stream().filter(l -> "expense".equals(l.getCategory().getType())).toList();
-
-        int totalExpense = expenseLedgers.stream().mapToInt(Ledger::getAmount).sum();
-
-        // 카테고리별 지출 합계
-        Map<Long, Integer> categoryMap =
-                expenseLedgers.stream()
-                        .collect(
-                                Collectors.groupingBy(
-                                        l -> l.getCategory().getCategoryId(),
-                                        Collectors.summingInt(Ledger::getAmount)));
-
-        // 카테고리별 비율 계산 (정수 퍼센트)
-        List<LedgerHomeResponse.CategoryRatio> categories =
-                categoryMap.entrySet().stream()
-                        .map(
-                                entry -> {
-                                    Long categoryId = entry.getKey();
-                                    int amount = entry.getValue();
-
-                                    Category category =
-                                            expenseLedgers.stream()
-                                                    .filter(
-                                                            l ->
-                                                                    l.getCategory()
-                                                                            .getCategoryId()
-                                                                            .equals(categoryId))
-                                                    .findFirst()
-                                                    .orElseThrow()
-                                                    .getCategory();
-
-                                    int percent = 0;
-                                    if (totalExpense != 0) {
-                                        percent = (int) Math.round(amount * 100.0 / totalExpense);
-                                    }
-
-                                    return LedgerHomeResponse.CategoryRatio.builder()
-                                            .categoryId(categoryId)
-                                            .categoryName(category.getCategoryName())
-                                            .amount(amount)
-                                            .percent(percent)
-                                            .build();
-                                })
-                        .toList();
+        // 카테고리별 비율 계산 (정수 퍼센트, 합계 100)
+        List<LedgerHomeResponse.CategoryRatio> categories = toCategoryRatios(expense);
 
+        // 상세 리스트만 엔티티로 조회
         List<LedgerResponse> ledgerResponses =
-                ledgers.stream().map(this::toLedgerResponse).toList();
+                ledgerRepository.findAllByUser_IdAndDate(userId, date).stream()
+                        .map(LedgerService::toLedgerResponse)
+                        .toList();
 
         return LedgerCalendarResponse.builder()
                 .date(date)
@@ -211,17 +241,36 @@ public class LedgerService {
     // --------------------
     public LedgerHomeResponse getLedgerHome(Long userId, LocalDate date) {
 
-        List<Ledger> todayLedgers = ledgerRepository.findAllByUser_IdAndDate(userId, date);
+        LedgerAggregator todayExpense =
+                aggregate(ledgerRepository.summarizeByCategory(userId, date, date), "expense");
 
-        List<Ledger> todayExpenseLedgers =
-                todayLedgers.stream()
-                        .filter(l -> "expense".equals(l.getCategory().getType()))
-                        .toList();
+        return toLedgerHome(
+                userId,
+                date,
+                todayExpense,
+                ledgerRepository.findAllByUser_IdAndDateAndCategory_Type(userId, date, "expense"));
+    }
+
+    // 홈 화면 통합 조회용: date의 지출 내역(카테고리 포함)을 이미 조회했으면 넘겨받는다
+    // 오늘 카테고리 집계도 같은 목록으로 메모리에서 계산하므로 월간 롤업 조회 1번만 남는다
+    @Transactional(readOnly = true)
+    public LedgerHomeResponse getLedgerHome(
+            Long userId, LocalDate date, List<Ledger> todayExpenses) {
+        LedgerAggregator todayExpense = new LedgerAggregator();
+        todayExpenses.forEach(todayExpense::add);
+        return toLedgerHome(userId, date, todayExpense, todayExpenses);
+    }
+
+    private LedgerHomeResponse toLedgerHome(
+            Long userId,
+            LocalDate date,
+            LedgerAggregator todayExpense,
+            List<Ledger> todayExpenses) {
 
-        int todayTotalExpense = todayExpenseLedgers.stream().mapToInt(Ledger::getAmount).sum();
+        int todayTotalExpense = (int) todayExpense.total();
 
         List<LedgerResponse> todayLedgerResponses =
-                todayExpenseLedgers.stream().map(this::toLedgerResponse).toList();
+                todayExpenses.stream().map(LedgerService::toLedgerResponse).toList();
 
         LedgerHomeResponse.TodaySpending today =
                 LedgerHomeResponse.TodaySpending.builder()
@@ -232,112 +281,29 @@ public class LedgerService {
         // -----------------------
         // 카테고리별 오늘 소비
         // -----------------------
-        List<LedgerHomeResponse.TodayCategory> todayCategories = List.of();
-
-        if (!todayExpenseLedgers.isEmpty()) {
-
-            Map<Long, Integer> todayCategoryMap =
-                    todayExpenseLedgers.stream()
-                            .collect(
-                                    Collectors.groupingBy(
-                                            l -> l.getCategory().getCategoryId(),
-                                            Collectors.summingInt(Ledger::getAmount)));
-
-            todayCategories =
-                    todayCategoryMap.entrySet().stream()
-                            .map(
-                                    entry -> {
-                                        Long categoryId = entry.getKey();
-                                        int amount = entry.getValue();
-
-                                        Category category =
-                                                todayExpenseLedgers.stream()
-                                                        .filter(
-                                                                l ->
-                                                                        l.getCategory()
-                                                                                .getCategoryId()
-                                                                                .equals(categoryId))
-                                                        .findFirst()
-                                                        .orElseThrow()
-                                                        .getCategory();
-
-                                        int percent = 0;
-                                        if (todayTotalExpense != 0) {
-                                            percent =
-                                                    (int)
-                                                            Math.round(
-                                                                    amount
-                                                                            * 100.0
-                                                                            / todayTotalExpense);
-                                        }
-
-                                        return LedgerHomeResponse.TodayCategory.builder()
-                                                .categoryId(categoryId)
-                                                .categoryName(category.getCategoryName())
-                                                .amount(amount)
-                                                .percent(percent)
-                                                .build();
-                                    })
-                            .toList();
-        }
+        List<LedgerHomeResponse.TodayCategory> todayCategories = toTodayCategories(todayExpense);
 
         // -----------------------
-        // 월간 소비 요약
+        // 월간 소비 요약 (월간 롤업 기준, 카테고리 수만큼만 조회)
         // -----------------------
         LocalDate startOfMonth = date.withDayOfMonth(1);
-        LocalDate endOfMonth = date.withDayOfMonth(date.lengthOfMonth());
 
-        List<Ledger> monthLedgers =
-                ledgerRepository.findAllByUser_IdAndDateBetween(userId, startOfMonth, endOfMonth);
+        LedgerAggregator monthExpense = new LedgerAggregator();
+        for (LedgerMonthlyRollup rollup :
+                rollupRepository.findByUserIdAndMonthStart(userId, startOfMonth)) {
+            if (rollup.getExpenseTotal() > 0) {
+                monthExpense.add(
+                        rollup.getCategory().getCategoryId(),
+                        rollup.getCategory().getCategoryName(),
+                        rollup.getCategory().getType(),
+                        rollup.getExpenseTotal(),
+                        rollup.getEntryCount());
+            }
+        }
 
-        List<Ledger> monthExpenseLedgers =
-                monthLedgers.stream()
-                        .filter(l -> "expense".equals(l.getCategory().getType()))
-                        .toList();
+        int monthTotalExpense = (int) monthExpense.total();
 
-        int monthTotalExpense = monthExpenseLedgers.stream().mapToInt(Ledger::getAmount).sum();
-
-        Map<Long, Integer> monthCategoryMap =
-                monthExpenseLedgers.stream()
-                        .collect(
-                                Collectors.groupingBy(
-                                        l -> l.getCategory().getCategoryId(),
-                                        Collectors.summingInt(Ledger::getAmount)));
-
-        List<LedgerHomeResponse.CategoryRatio> monthRatios =
-                monthCategoryMap.entrySet().stream()
-                        .map(
-                                entry -> {
-                                    Long categoryId = entry.getKey();
-                                    int amount = entry.getValue();
-
-                                    Category category =
-                                            monthExpenseLedgers.stream()
-                                                    .filter(
-                                                            l ->
-                                                                    l.getCategory()
-                                                                            .getCategoryId()
-                                                                            .equals(categoryId))
-                                                    .findFirst()
-                                                    .orElseThrow()
-                                                    .getCategory();
-
-                                    int percent = 0;
-                                    if (monthTotalExpense != 0) {
-                                        percent =
-                                                (int)
-                                                        Math.round(
-                                                                amount * 100.0 / monthTotalExpense);
-                                    }
-
-                                    return LedgerHomeResponse.CategoryRatio.builder()
-                                            .categoryId(categoryId)
-                                            .categoryName(category.getCategoryName())
-                                            .amount(amount)
-                                            .percent(percent)
-                                            .build();
-                                })
-                        .toList();
+        List<LedgerHomeResponse.CategoryRatio> monthRatios = toCategoryRatios(monthExpense);
 
         LedgerHomeResponse.MonthSummary monthSummary =
                 LedgerHomeResponse.MonthSummary.builder()
@@ -355,15 +321,66 @@ public class LedgerService {
                 .build();
     }
 
+    // --------------------
+    // 카테고리 비율 계산 (src/jmh 벤치마크에서 직접 호출하므로 package-private static)
+    // --------------------
+    static LedgerAggregator aggregate(List<LedgerCategorySummary> summaries, String type) {
+        LedgerAggregator aggregator = new LedgerAggregator(summaries.size());
+        for (LedgerCategorySummary summary : summaries) {
+            if (type.equals(summary.getType())) {
+                aggregator.add(summary);
+            }
+        }
+        return aggregator;
+    }
+
+    static List<LedgerHomeResponse.CategoryRatio> toCategoryRatios(LedgerAggregator aggregator) {
+        return aggregator.entries().stream()
+                .map(
+                        e ->
+                                LedgerHomeResponse.CategoryRatio.builder()
+                                        .categoryId(e.categoryId())
+                                        .categoryName(e.categoryName())
+                                        .amount((int) e.amount())
+                                        .percent(e.percent())
+                                        .build())
+                .toList();
+    }
+
+    static List<LedgerHomeResponse.TodayCategory> toTodayCategories(LedgerAggregator aggregator) {
+        return aggregator.entries().stream()
+                .map(
+                        e ->
+                                LedgerHomeResponse.TodayCategory.builder()
+                                        .categoryId(e.categoryId())
+                                        .categoryName(e.categoryName())
+                                        .amount((int) e.amount())
+                                        .percent(e.percent())
+                                        .build())
+                .toList();
+    }
+
+    private int sumAmount(List<LedgerCategorySummary> summaries, String type) {
+        return (int)
+                summaries.stream()
+                        .filter(s -> type.equals(s.getType()))
+                        .mapToLong(LedgerCategorySummary::getTotalAmount)
+                        .sum();
+    }
+
     // --------------------
     // DTO 변환 메소드
     // --------------------
-    private LedgerResponse toLedgerResponse(Ledger ledger) {
+    static LedgerResponse toLedgerResponse(Ledger ledger) {
+        return toLedgerResponse(ledger, CategoryInfo.from(ledger.getCategory()));
+    }
+
+    private static LedgerResponse toLedgerResponse(Ledger ledger, CategoryInfo category) {
         return LedgerResponse.builder()
                 .ledgerId(ledger.getLedgerId())
-                .categoryId(ledger.getCategory().getCategoryId())
-                .categoryName(ledger.getCategory().getCategoryName())
-                .type(ledger.getCategory().getType())
+                .categoryId(category.categoryId())
+                .categoryName(category.categoryName())
+                .type(category.type())
                 .amount(ledger.getAmount())
                 .merchant(ledger.getMerchant())
                 .date(ledger.getDate())
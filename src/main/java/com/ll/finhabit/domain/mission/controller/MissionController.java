@@ -6,6 +6,7 @@ import com.ll.finhabit.domain.mission.dto.MissionTodayResponse;
 import com.ll.finhabit.domain.mission.service.MissionService;
 import com.ll.finhabit.global.common.CurrentUser;
 import com.ll.finhabit.global.exception.ErrorResponse;
+import com.ll.finhabit.global.session.LoginUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -59,30 +60,11 @@ public class MissionController {
                                   "message": "로그인이 필요합니다.",
                                   "path": "/api/mission/today"
                                 }
-                                """))),
-        @ApiResponse(
-                responseCode = "404",
-                description = "존재하지 않는 유저",
-                content =
-                        @Content(
-                                mediaType = "application/json",
-                                schema = @Schema(implementation = ErrorResponse.class),
-                                examples =
-                                        @ExampleObject(
-                                                value =
-                                                        """
-                                {
-                                  "timestamp": "2025-12-18T17:30:00",
-                                  "status": 404,
-                                  "error": "404 NOT_FOUND",
-                                  "message": "사용자를 찾을 수 없습니다.",
-                                  "path": "/api/mission/today"
-                                }
                                 """)))
     })
     public MissionTodayResponse getTodayMission(
-            @Parameter(hidden = true) @CurrentUser Long userId) {
-        return missionService.getMissionToday(userId);
+            @Parameter(hidden = true) @CurrentUser LoginUser loginUser) {
+        return missionService.getMissionToday(loginUser);
     }
 
     @PostMapping("/{userMissionId}/check")
@@ -94,13 +76,33 @@ public class MissionController {
                     - 진행도가 totalCount 이상으로 넘어가지 않도록 제한됩니다.<br>
                     - 진행도가 totalCount에 도달하면 자동으로 완료 상태(isCompleted=true)로 변경되고, completedAt에 날짜가 기록됩니다. <br>
                     - 이미 완료된 상태라면 그대로 반환됩니다.<br>
-                    - 동시에 여러 요청이 들어와 충돌(낙관적 락)이 발생하면 409(CONFLICT)를 반환합니다.
+                    - 진행도 증가는 조건부 UPDATE 한 번으로 처리되어 동시에 여러 요청이 들어와도 충돌 없이 순서대로 반영됩니다.<br>
+                    - Idempotency-Key 헤더가 직전 요청과 같으면 (더블 탭, 재전송) 다시 반영하지 않고 현재 상태를 반환합니다.
                     """)
     @ApiResponses({
         @ApiResponse(
                 responseCode = "200",
                 description = "미션 체크 성공",
                 content = @Content(schema = @Schema(implementation = MissionProgressDto.class))),
+        @ApiResponse(
+                responseCode = "400",
+                description = "Idempotency-Key가 64자를 넘는 경우",
+                content =
+                        @Content(
+                                mediaType = "application/json",
+                                schema = @Schema(implementation = ErrorResponse.class),
+                                examples =
+                                        @ExampleObject(
+                                                value =
+                                                        """
+                                {
+                                  "timestamp": "2025-12-18T17:30:00",
+                                  "status": 400,
+                                  "error": "400 BAD_REQUEST",
+                                  "message": "Idempotency-Key는 64자 이하여야 합니다.",
+                                  "path": "/api/mission/123/check"
+                                }
+                                """))),
         @ApiResponse(
                 responseCode = "401",
                 description = "로그인되지 않은 사용자",
@@ -157,30 +159,15 @@ public class MissionController {
                                   "message":  "미션을 찾을 수 없습니다.",
                                   "path": "/api/mission/123/check"
                                 }
-                                """))),
-        @ApiResponse(
-                responseCode = "409",
-                description = "동시성 충돌 발생 (낙관적 락)",
-                content =
-                        @Content(
-                                mediaType = "application/json",
-                                schema = @Schema(implementation = ErrorResponse.class),
-                                examples =
-                                        @ExampleObject(
-                                                value =
-                                                        """
-                                {
-                                  "timestamp": "2025-12-18T17:30:00",
-                                  "status": 409,
-                                  "error": "409 CONFLICT",
-                                  "message":  "동시에 여러 요청이 발생했습니다.  다시 시도해주세요.",
-                                  "path": "/api/mission/123/check"
-                                }
                                 """)))
     })
     public MissionProgressDto checkMission(
-            @Parameter(hidden = true) @CurrentUser Long userId, @PathVariable Long userMissionId) {
-        return missionService.checkMission(userId, userMissionId);
+            @Parameter(hidden = true) @CurrentUser Long userId,
+            @PathVariable Long userMissionId,
+            @Parameter(description = "요청 고유 키 (같은 키의 재요청은 한 번만 반영, 최대 64자)")
+                    @RequestHeader(value = "Idempotency-Key", required = false)
+                    String idempotencyKey) {
+        return missionService.checkMission(userId, userMissionId, idempotencyKey);
     }
 
     @PostMapping("/{userMissionId}/uncheck")
@@ -191,13 +178,33 @@ public class MissionController {
                     로그인한 사용자의 유저 미션 진행도를 1 감소시키는 API입니다. <br>
                     - 진행도가 0보다 작아지지 않도록 제한됩니다. <br>
                     - 완료 상태였다가 진행도가 totalCount 미만으로 내려가면 자동으로 완료 상태가 해제되고 completedAt 값이 비워집니다. <br>
-                    - 동시에 여러 요청이 들어오면 409(CONFLICT) 충돌 응답이 발생합니다.
+                    - 진행도 감소는 조건부 UPDATE 한 번으로 처리되어 동시에 여러 요청이 들어와도 충돌 없이 순서대로 반영됩니다.<br>
+                    - Idempotency-Key 헤더가 직전 요청과 같으면 (더블 탭, 재전송) 다시 반영하지 않고 현재 상태를 반환합니다.
                     """)
     @ApiResponses({
         @ApiResponse(
                 responseCode = "200",
                 description = "미션 체크 취소 성공",
                 content = @Content(schema = @Schema(implementation = MissionProgressDto.class))),
+        @ApiResponse(
+                responseCode = "400",
+                description = "Idempotency-Key가 64자를 넘는 경우",
+                content =
+                        @Content(
+                                mediaType = "application/json",
+                                schema = @Schema(implementation = ErrorResponse.class),
+                                examples =
+                                        @ExampleObject(
+                                                value =
+                                                        """
+                                {
+                                  "timestamp": "2025-12-18T17:30:00",
+                                  "status": 400,
+                                  "error": "400 BAD_REQUEST",
+                                  "message": "Idempotency-Key는 64자 이하여야 합니다.",
+                                  "path": "/api/mission/123/uncheck"
+                                }
+                                """))),
         @ApiResponse(
                 responseCode = "401",
                 description = "로그인되지 않은 사용자",
@@ -254,30 +261,15 @@ public class MissionController {
                                   "message": "미션을 찾을 수 없습니다.",
                                   "path":  "/api/mission/123/uncheck"
                                 }
-                                """))),
-        @ApiResponse(
-                responseCode = "409",
-                description = "동시성 충돌 발생 (낙관적 락)",
-                content =
-                        @Content(
-                                mediaType = "application/json",
-                                schema = @Schema(implementation = ErrorResponse.class),
-                                examples =
-                                        @ExampleObject(
-                                                value =
-                                                        """
-                                {
-                                  "timestamp": "2025-12-18T17:30:00",
-                                  "status": 409,
-                                  "error": "409 CONFLICT",
-                                  "message": "동시에 여러 요청이 발생했습니다. 다시 시도해주세요.",
-                                  "path":  "/api/mission/123/uncheck"
-                                }
                                 """)))
     })
     public MissionProgressDto undoMissionCheck(
-            @Parameter(hidden = true) @CurrentUser Long userId, @PathVariable Long userMissionId) {
-        return missionService.undoMissionCheck(userId, userMissionId);
+            @Parameter(hidden = true) @CurrentUser Long userId,
+            @PathVariable Long userMissionId,
+            @Parameter(description = "요청 고유 키 (같은 키의 재요청은 한 번만 반영, 최대 64자)")
+                    @RequestHeader(value = "Idempotency-Key", required = false)
+                    String idempotencyKey) {
+        return missionService.undoMissionCheck(userId, userMissionId, idempotencyKey);
     }
 
     @GetMapping("/archive")
@@ -313,29 +305,10 @@ public class MissionController {
                                   "message": "로그인이 필요합니다.",
                                   "path": "/api/mission/archive"
                                 }
-                                """))),
-        @ApiResponse(
-                responseCode = "404",
-                description = "존재하지 않는 유저",
-                content =
-                        @Content(
-                                mediaType = "application/json",
-                                schema = @Schema(implementation = ErrorResponse.class),
-                                examples =
-                                        @ExampleObject(
-                                                value =
-                                                        """
-                                {
-                                  "timestamp": "2025-12-18T17:30:00",
-                                  "status": 404,
-                                  "error": "404 NOT_FOUND",
-                                  "message": "사용자를 찾을 수 없습니다.",
-                                  "path": "/api/mission/archive"
-                                }
                                 """)))
     })
     public List<MissionArchiveResponse> getMissionArchive(
-            @Parameter(hidden = true) @CurrentUser Long userId) {
-        return missionService.getMissionArchive(userId);
+            @Parameter(hidden = true) @CurrentUser LoginUser loginUser) {
+        return missionService.getMissionArchive(loginUser);
     }
 }
@@ -0,0 +1,5 @@
+package com.ll.finhabit.domain.mission.dto;
+
+// 미션 참조 데이터 (레벨별 후보 캐시 값, 엔티티 대신 불변 record)
+public record MissionInfo(
+        Long missionId, String missionContent, Integer missionLevel, Integer totalCount) {}
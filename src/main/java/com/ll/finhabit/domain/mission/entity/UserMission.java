@@ -1,6 +1,7 @@
 package com.ll.finhabit.domain.mission.entity;
 
 import com.ll.finhabit.domain.auth.entity.User;
+import com.ll.finhabit.global.jpa.TsidId;
 import jakarta.persistence.*;
 import java.time.LocalDate;
 import lombok.*;
@@ -12,6 +13,12 @@ import lombok.*;
             @UniqueConstraint(
                     name = "uk_usermission_user_mission_week",
                     columnNames = {"userid", "mission_id", "week_start"})
+        },
+        indexes = {
+            @Index(
+                    name = "idx_usermission_user_assigned_date",
+                    columnList = "userid, assigned_date"),
+            @Index(name = "idx_usermission_user_week_start", columnList = "userid, week_start")
         })
 @Getter
 @Setter
@@ -21,7 +28,7 @@ import lombok.*;
 public class UserMission {
 
     @Id
-    @GeneratedValue(strategy = GenerationType.IDENTITY)
+    @TsidId
     @Column(name = "usermission_id")
     private Long usermissionId;
 
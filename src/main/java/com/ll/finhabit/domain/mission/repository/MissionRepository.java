@@ -1,11 +1,24 @@
 package com.ll.finhabit.domain.mission.repository;
 
+import com.ll.finhabit.domain.mission.dto.MissionInfo;
 import com.ll.finhabit.domain.mission.entity.Mission;
+import com.ll.finhabit.global.common.CacheNames;
 import java.util.List;
+import org.springframework.cache.annotation.Cacheable;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface MissionRepository extends JpaRepository<Mission, Long> {
 
     // 유저 레벨 이하 미션만 후보로
-    List<Mission> findByMissionLevelLessThanEqual(Integer missionLevel);
+    @Cacheable(cacheNames = CacheNames.MISSIONS_BY_LEVEL)
+    @Query(
+            """
+            select new com.ll.finhabit.domain.mission.dto.MissionInfo(
+                       m.missionId, m.missionContent, m.missionLevel, m.totalCount)
+              from Mission m
+             where m.missionLevel <= :missionLevel
+            """)
+    List<MissionInfo> findInfosByMaxLevel(@Param("missionLevel") Integer missionLevel);
 }
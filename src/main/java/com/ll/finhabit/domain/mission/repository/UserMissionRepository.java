@@ -6,10 +6,14 @@ import java.util.List;
 import java.util.Optional;
 import org.springframework.data.jpa.repository.EntityGraph;
 import org.springframework.data.jpa.repository.JpaRepository;
+import org.springframework.data.jpa.repository.Modifying;
+import org.springframework.data.jpa.repository.Query;
+import org.springframework.data.repository.query.Param;
 
 public interface UserMissionRepository extends JpaRepository<UserMission, Long> {
 
     // 오늘 이미 배정된 미션 있는지
+    @EntityGraph(attributePaths = "mission")
     Optional<UserMission> findByUser_IdAndAssignedDate(Long userId, LocalDate assignedDate);
 
     // 이번 주에 특정 미션 템플릿이 몇 번이나 배정되었는지
@@ -42,5 +46,90 @@ public interface UserMissionRepository extends JpaRepository<UserMission, Long>
     Optional<UserMission> findByUser_IdAndMission_MissionIdAndWeekStart(
             Long userId, Long missionId, LocalDate weekStart);
 
+    // 체크: 조회 없이 조건부 UPDATE 한 번으로 진행도 +1 (소유자 / 미완료일 때만)
+    // MySQL 단일 테이블 UPDATE는 SET을 왼쪽부터 적용하므로 done_count는 마지막에 바꾼다
+    // total_count가 0인 미션은 나누지 않고 진행도 0
+    String CHECK_DONE_SQL =
+            """
+            update usermission um
+               set um.progress = coalesce(round(
+                       least(um.done_count + 1,
+                           (select m.total_count from mission m where m.mission_id = um.mission_id))
+                       * 100
+                       / nullif((select m.total_count from mission m
+                           where m.mission_id = um.mission_id), 0)), 0),
+                   um.is_completed = um.done_count + 1
+                       >= (select m.total_count from mission m where m.mission_id = um.mission_id),
+                   um.completed_at = if(um.done_count + 1
+                       >= (select m.total_count from mission m where m.mission_id = um.mission_id),
+                       :today, null),
+                   um.assigned_date = :today,
+                   um.version = coalesce(um.version, 0) + 1,
+                   um.done_count = least(um.done_count + 1,
+                       (select m.total_count from mission m where m.mission_id = um.mission_id))
+             where um.usermission_id = :userMissionId
+               and um.userid = :userId
+               and um.is_completed = false
+            """;
+
+    // 취소: 진행도 -1 (소유자 / 0보다 클 때만)
+    // done_count는 total 이하이므로 줄이고 나면 항상 미완료
+    String UNDO_DONE_SQL =
+            """
+            update usermission um
+               set um.progress = coalesce(round(
+                       (um.done_count - 1) * 100
+                       / nullif((select m.total_count from mission m
+                           where m.mission_id = um.mission_id), 0)), 0),
+                   um.is_completed = false,
+                   um.completed_at = null,
+                   um.version = coalesce(um.version, 0) + 1,
+                   um.done_count = um.done_count - 1
+             where um.usermission_id = :userMissionId
+               and um.userid = :userId
+               and um.done_count > 0
+            """;
+
+    // 요청 키 기록: 이미 기록된 키면 0건 (UPDATE와 같은 트랜잭션이라 갱신이 롤백되면 키도 남지 않는다)
+    // 같은 키가 동시에 들어오면 뒤 요청은 앞 트랜잭션이 끝날 때까지 기다렸다가 0건
+    String CLAIM_REQUEST_KEY_SQL =
+            """
+            insert ignore into usermission_request_key (usermission_id, request_key, created_at)
+            values (:userMissionId, :requestKey, now(6))
+            """;
+
+    // 체크/취소 결과 응답용: totalCount 계산에 미션 템플릿이 필요하므로 함께 조회
+    @EntityGraph(attributePaths = "mission")
+    Optional<UserMission> findWithMissionByUsermissionId(Long usermissionId);
+
+    // 영속성 컨텍스트를 비워 이어지는 조회가 갱신된 행을 읽도록 한다
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = CHECK_DONE_SQL, nativeQuery = true)
+    int checkDone(
+            @Param("userMissionId") Long userMissionId,
+            @Param("userId") Long userId,
+            @Param("today") LocalDate today);
+
+    @Modifying(flushAutomatically = true, clearAutomatically = true)
+    @Query(value = UNDO_DONE_SQL, nativeQuery = true)
+    int undoDone(@Param("userMissionId") Long userMissionId, @Param("userId") Long userId);
+
+    @Modifying
+    @Query(value = CLAIM_REQUEST_KEY_SQL, nativeQuery = true)
+    int claimRequestKey(
+            @Param("userMissionId") Long userMissionId, @Param("requestKey") String requestKey);
+
+    // 회원 탈퇴: 요청 키 테이블은 FK가 없으므로 유저 미션보다 먼저 지운다
+    @Modifying
+    @Query(
+            value =
+                    """
+                    delete k from usermission_request_key k
+                      join usermission um on um.usermission_id = k.usermission_id
+                     where um.userid = :userId
+                    """,
+            nativeQuery = true)
+    void deleteRequestKeysByUserId(@Param("userId") Long userId);
+
     void deleteByUser_Id(Long userId);
 }
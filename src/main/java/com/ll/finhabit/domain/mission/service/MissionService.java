@@ -1,14 +1,15 @@
 package com.ll.finhabit.domain.mission.service;
 
+import com.ll.finhabit.domain.auth.entity.User;
 import com.ll.finhabit.domain.auth.repository.UserRepository;
 import com.ll.finhabit.domain.mission.dto.MissionArchiveResponse;
+import com.ll.finhabit.domain.mission.dto.MissionInfo;
 import com.ll.finhabit.domain.mission.dto.MissionProgressDto;
 import com.ll.finhabit.domain.mission.dto.MissionTodayResponse;
-import com.ll.finhabit.domain.mission.entity.Mission;
 import com.ll.finhabit.domain.mission.entity.UserMission;
 import com.ll.finhabit.domain.mission.repository.MissionRepository;
 import com.ll.finhabit.domain.mission.repository.UserMissionRepository;
-import jakarta.persistence.OptimisticLockException;
+import com.ll.finhabit.global.session.LoginUser;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.util.Collections;
@@ -19,7 +20,6 @@ import java.util.stream.Collectors;
 import lombok.RequiredArgsConstructor;
 import org.springframework.dao.DataIntegrityViolationException;
 import org.springframework.http.HttpStatus;
-import org.springframework.orm.ObjectOptimisticLockingFailureException;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 import org.springframework.web.server.ResponseStatusException;
@@ -28,6 +28,8 @@ import org.springframework.web.server.ResponseStatusException;
 @RequiredArgsConstructor
 public class MissionService {
 
+    private static final int MAX_REQUEST_KEY_LENGTH = 64;
+
     private final UserMissionRepository userMissionRepository;
     private final MissionRepository missionRepository;
     private final UserRepository userRepository;
@@ -38,96 +40,29 @@ public class MissionService {
     }
 
     // 오늘의 미션 가져오기
+    // 유저 레벨은 로그인 사용자(principal)에 있으므로 유저를 다시 조회하지 않는다
     @Transactional
-    public MissionTodayResponse getMissionToday(Long userId) {
+    public MissionTodayResponse getMissionToday(LoginUser loginUser) {
+        Long userId = loginUser.id();
         LocalDate today = LocalDate.now();
-        LocalDate thisMonday = today.with(DayOfWeek.MONDAY);
 
         try {
-            // 1. 먼저 조회
+            // 1. 먼저 조회 (보통 전날 밤 배정 작업(DailyAssignmentJob)으로 이미 배정되어 있다)
             UserMission todayMission =
                     userMissionRepository.findByUser_IdAndAssignedDate(userId, today).orElse(null);
 
-            if (todayMission != null) {
-                return MissionTodayResponse.builder().todayMission(toDto(todayMission)).build();
-            }
-
-            // 2. 없으면 생성
-            var user =
-                    userRepository
-                            .findById(userId)
-                            .orElseThrow(
-                                    () ->
-                                            new ResponseStatusException(
-                                                    HttpStatus.NOT_FOUND, "존재하지 않는 유저입니다."));
-
-            int userLevel = user.getLevel();
-
-            List<Mission> allMissions =
-                    missionRepository.findByMissionLevelLessThanEqual(userLevel);
-
-            List<UserMission> thisWeekMissions =
-                    userMissionRepository.findByUser_IdAndWeekStart(userId, thisMonday);
-
-            // missionId -> UserMission 매핑
-            Map<Long, UserMission> userMissionByMissionId =
-                    thisWeekMissions.stream()
-                            .collect(
-                                    Collectors.toMap(
-                                            um -> um.getMission().getMissionId(),
-                                            um -> um,
-                                            (a, b) -> a // 혹시라도 중복 있으면 첫 번째만 사용
-                                            ));
-
-            // 이번 주에 아직 여유가 남아 있는 미션만 후보로 필터링
-            List<Mission> candidates =
-                    allMissions.stream()
-                            .filter(
-                                    mission -> {
-                                        UserMission um =
-                                                userMissionByMissionId.get(mission.getMissionId());
-                                        if (um == null) {
-                                            // 이번 주에 아직 한 번도 안 받은 미션 -> 후보
-                                            return true;
-                                        }
-                                        int totalCount = mission.getTotalCount();
-                                        // doneCount < totalCount 인 동안은 계속 후보
-                                        return um.getDoneCount() < totalCount;
-                                    })
-                            .toList();
-
-            if (candidates.isEmpty()) {
-                return MissionTodayResponse.builder().todayMission(null).build();
-            }
-
-            // 랜덤 선택 + UserMission 생성
-            int idx = ThreadLocalRandom.current().nextInt(candidates.size());
-            Mission chosen = candidates.get(idx);
-
-            // 이 미션에 대한 이번 주 UserMission이 이미 있으면 재사용, 없으면 새로 생성
-            UserMission userMission = userMissionByMissionId.get(chosen.getMissionId());
-
-            if (userMission == null) {
-                // 이번 주 첫 배정
-                userMission =
-                        UserMission.builder()
-                                .user(user)
-                                .mission(chosen)
-                                .isCompleted(false)
-                                .doneCount(0)
-                                .progress(0)
-                                .weekStart(thisMonday)
-                                .assignedDate(today) // 첫 배정 날짜
-                                .completedAt(null)
-                                .build();
-            } else {
-                // 이미 존재하는 주간 미션을 오늘의 미션으로 다시 보여주는 것
-                userMission.setAssignedDate(today); // 이 줄은 선택사항
+            if (todayMission == null) {
+                // 2. 없으면 (신규 가입, 배정 작업 대상이 아니었던 유저 등) 지금 배정
+                todayMission =
+                        assign(
+                                userRepository.getReferenceById(userId),
+                                loginUser.level(),
+                                today);
             }
 
-            todayMission = userMissionRepository.save(userMission);
-
-            return MissionTodayResponse.builder().todayMission(toDto(todayMission)).build();
+            return MissionTodayResponse.builder()
+                    .todayMission(todayMission != null ? toDto(todayMission) : null)
+                    .build();
 
         } catch (DataIntegrityViolationException e) {
             // 동시 요청으로 중복 생성 시도 시 다시 조회해서 반환
@@ -143,113 +78,147 @@ public class MissionService {
         }
     }
 
-    // 미션 수행 체크 버튼
+    // 배정 작업/요청 경로 공용: date에 배정된 미션이 없으면 그 주의 후보 중에서 골라 배정 (후보가 없으면 null)
     @Transactional
-    public MissionProgressDto checkMission(Long userId, Long userMissionId) {
-        try {
-            UserMission userMission =
-                    userMissionRepository
-                            .findById(userMissionId)
-                            .orElseThrow(
-                                    () ->
-                                            new ResponseStatusException(
-                                                    HttpStatus.NOT_FOUND, "존재하지 않는 유저 미션입니다."));
-
-            // 소유자 검사
-            if (!userMission.getUser().getId().equals(userId)) {
-                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "해당 미션에 대한 권한이 없습니다.");
-            }
-
-            // 이미 완료된 경우 그대로 반환
-            if (Boolean.TRUE.equals(userMission.getIsCompleted())) {
-                return toDto(userMission);
-            }
-
-            int newDoneCount = userMission.getDoneCount() + 1;
-            int totalCount = userMission.getMission().getTotalCount();
-
-            if (newDoneCount > totalCount) {
-                newDoneCount = totalCount;
-            }
-
-            userMission.setDoneCount(newDoneCount);
-            userMission.setProgress(calculateProgress(newDoneCount, totalCount));
+    public UserMission assignMission(User user, LocalDate date) {
+        return userMissionRepository
+                .findByUser_IdAndAssignedDate(user.getId(), date)
+                .orElseGet(() -> assign(user, user.getLevel(), date));
+    }
 
-            userMission.setAssignedDate(LocalDate.now());
+    // user는 연관관계용 (요청 경로에서는 조회 없이 getReferenceById 프록시)
+    private UserMission assign(User user, int userLevel, LocalDate date) {
+        LocalDate today = LocalDate.now();
+        LocalDate weekStart = date.with(DayOfWeek.MONDAY);
+
+        List<MissionInfo> allMissions = missionRepository.findInfosByMaxLevel(userLevel);
+
+        List<UserMission> thisWeekMissions =
+                userMissionRepository.findByUser_IdAndWeekStart(user.getId(), weekStart);
+
+        // missionId -> UserMission 매핑
+        Map<Long, UserMission> userMissionByMissionId =
+                thisWeekMissions.stream()
+                        .collect(
+                                Collectors.toMap(
+                                        um -> um.getMission().getMissionId(),
+                                        um -> um,
+                                        (a, b) -> a // 혹시라도 중복 있으면 첫 번째만 사용
+                                        ));
+
+        // 이번 주에 아직 여유가 남아 있는 미션만 후보로 필터링
+        List<MissionInfo> candidates =
+                allMissions.stream()
+                        .filter(
+                                mission -> {
+                                    UserMission um =
+                                            userMissionByMissionId.get(mission.missionId());
+                                    if (um == null) {
+                                        // 이번 주에 아직 한 번도 안 받은 미션 -> 후보
+                                        return true;
+                                    }
+                                    // 미리 배정할 때 지금 보여주고 있는 미션(오늘 배정분)을 다른 날로 옮기지 않는다
+                                    LocalDate assignedDate = um.getAssignedDate();
+                                    if (assignedDate != null
+                                            && !assignedDate.isBefore(today)
+                                            && assignedDate.isBefore(date)) {
+                                        return false;
+                                    }
+                                    int totalCount = mission.totalCount();
+                                    // doneCount < totalCount 인 동안은 계속 후보
+                                    return um.getDoneCount() < totalCount;
+                                })
+                        .toList();
+
+        if (candidates.isEmpty()) {
+            return null;
+        }
 
-            // 완료 처리
-            if (newDoneCount >= totalCount) {
-                userMission.setIsCompleted(true);
-                userMission.setCompletedAt(LocalDate.now());
-            }
-            userMissionRepository.flush();
+        // 랜덤 선택 + UserMission 생성
+        int idx = ThreadLocalRandom.current().nextInt(candidates.size());
+        MissionInfo chosen = candidates.get(idx);
+
+        // 이 미션에 대한 이번 주 UserMission이 이미 있으면 재사용, 없으면 새로 생성
+        UserMission userMission = userMissionByMissionId.get(chosen.missionId());
+
+        if (userMission == null) {
+            // 이번 주 첫 배정 (캐시 값은 엔티티가 아니므로 조회 없이 연관관계만 건다)
+            userMission =
+                    UserMission.builder()
+                            .user(user)
+                            .mission(missionRepository.getReferenceById(chosen.missionId()))
+                            .isCompleted(false)
+                            .doneCount(0)
+                            .progress(0)
+                            .weekStart(weekStart)
+                            .assignedDate(date) // 첫 배정 날짜
+                            .completedAt(null)
+                            .build();
+        } else {
+            // 이미 존재하는 주간 미션을 해당 날짜의 미션으로 다시 보여주는 것
+            userMission.setAssignedDate(date);
+        }
 
-            // JPA가 커밋 시 자동으로 version 체크
-            return toDto(userMission);
+        // ID를 애플리케이션에서 채우므로(TSID) insert가 커밋 시점으로 미뤄진다.
+        // 중복 배정(유니크 제약 위반)을 getMissionToday에서 잡을 수 있도록 바로 flush
+        return userMissionRepository.saveAndFlush(userMission);
+    }
 
-        } catch (OptimisticLockException | ObjectOptimisticLockingFailureException e) {
-            // 동시 요청 감지 시
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "다른 요청과 충돌했습니다. 다시 시도해주세요.");
+    // 미션 수행 체크 버튼
+    @Transactional
+    public MissionProgressDto checkMission(Long userId, Long userMissionId, String requestKey) {
+        // 이미 반영한 요청 키면 갱신하지 않는다
+        // 조건에 맞지 않으면 (이미 완료, 남의 미션) 0건 갱신 → 아래 조회로 현재 상태/에러 반환
+        if (claimRequestKey(userMissionId, requestKey)) {
+            userMissionRepository.checkDone(userMissionId, userId, LocalDate.now());
         }
+        return toDto(findOwnedUserMission(userId, userMissionId));
     }
 
     // 수행 버튼 취소
     @Transactional
-    public MissionProgressDto undoMissionCheck(Long userId, Long userMissionId) {
-        try {
-            UserMission userMission =
-                    userMissionRepository
-                            .findById(userMissionId)
-                            .orElseThrow(
-                                    () ->
-                                            new ResponseStatusException(
-                                                    HttpStatus.NOT_FOUND, "존재하지 않는 유저 미션입니다."));
-
-            // 소유자 검사
-            if (!userMission.getUser().getId().equals(userId)) {
-                throw new ResponseStatusException(HttpStatus.FORBIDDEN, "해당 미션에 대한 권한이 없습니다.");
-            }
-
-            int currentDone = userMission.getDoneCount();
-
-            // 이미 0이면 더 줄일 수 없음
-            if (currentDone <= 0) {
-                return toDto(userMission);
-            }
-
-            int newDoneCount = currentDone - 1;
-            int totalCount = userMission.getMission().getTotalCount();
-
-            userMission.setDoneCount(newDoneCount);
-            userMission.setProgress(calculateProgress(newDoneCount, totalCount));
+    public MissionProgressDto undoMissionCheck(
+            Long userId, Long userMissionId, String requestKey) {
+        // 이미 0이거나 이미 반영한 요청 키면 갱신 없이 현재 상태 반환
+        if (claimRequestKey(userMissionId, requestKey)) {
+            userMissionRepository.undoDone(userMissionId, userId);
+        }
+        return toDto(findOwnedUserMission(userId, userMissionId));
+    }
 
-            // 완료 취소시 완료 상태 false로 변경
-            if (newDoneCount < totalCount) {
-                userMission.setIsCompleted(false);
-                userMission.setCompletedAt(null);
-            }
-            userMissionRepository.flush();
+    private UserMission findOwnedUserMission(Long userId, Long userMissionId) {
+        UserMission userMission =
+                userMissionRepository
+                        .findWithMissionByUsermissionId(userMissionId)
+                        .orElseThrow(
+                                () ->
+                                        new ResponseStatusException(
+                                                HttpStatus.NOT_FOUND, "존재하지 않는 유저 미션입니다."));
 
-            // JPA가 커밋 시 자동으로 version 체크
-            return toDto(userMission);
+        // 소유자 검사 (UPDATE 조건에도 userid가 있어 남의 미션은 갱신되지 않는다)
+        if (!userMission.getUser().getId().equals(userId)) {
+            throw new ResponseStatusException(HttpStatus.FORBIDDEN, "해당 미션에 대한 권한이 없습니다.");
+        }
+        return userMission;
+    }
 
-        } catch (OptimisticLockException | ObjectOptimisticLockingFailureException e) {
-            // 동시 요청 감지 시
-            throw new ResponseStatusException(HttpStatus.CONFLICT, "다른 요청과 충돌했습니다. 다시 시도해주세요.");
+    // 키가 없으면 항상 반영, 있으면 처음 본 키일 때만 반영
+    // 남의 미션이면 뒤의 소유자 검사가 403으로 트랜잭션을 롤백하므로 키도 남지 않는다
+    private boolean claimRequestKey(Long userMissionId, String requestKey) {
+        if (requestKey == null || requestKey.isBlank()) {
+            return true;
         }
+        if (requestKey.length() > MAX_REQUEST_KEY_LENGTH) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "Idempotency-Key는 64자 이하여야 합니다.");
+        }
+        return userMissionRepository.claimRequestKey(userMissionId, requestKey) == 1;
     }
 
     // 미션 완료 아카이브
     @Transactional(readOnly = true)
-    public List<MissionArchiveResponse> getMissionArchive(Long userId) {
-
-        var user =
-                userRepository
-                        .findById(userId)
-                        .orElseThrow(
-                                () ->
-                                        new ResponseStatusException(
-                                                HttpStatus.NOT_FOUND, "존재하지 않는 유저입니다."));
+    public List<MissionArchiveResponse> getMissionArchive(LoginUser loginUser) {
+        Long userId = loginUser.id();
 
         List<UserMission> completed =
                 userMissionRepository.findByUser_IdAndIsCompletedTrueAndWeekStartIsNotNull(userId);
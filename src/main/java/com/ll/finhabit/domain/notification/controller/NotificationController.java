@@ -6,6 +6,7 @@ import com.ll.finhabit.domain.notification.service.NotificationService;
 import com.ll.finhabit.domain.notification.service.NotificationSettingService;
 import com.ll.finhabit.global.common.CurrentUser;
 import com.ll.finhabit.global.exception.ErrorResponse;
+import com.ll.finhabit.global.session.LoginUser;
 import io.swagger.v3.oas.annotations.Operation;
 import io.swagger.v3.oas.annotations.Parameter;
 import io.swagger.v3.oas.annotations.media.Content;
@@ -14,6 +15,7 @@ import io.swagger.v3.oas.annotations.media.Schema;
 import io.swagger.v3.oas.annotations.responses.ApiResponse;
 import io.swagger.v3.oas.annotations.responses.ApiResponses;
 import io.swagger.v3.oas.annotations.tags.Tag;
+import java.util.List;
 import lombok.RequiredArgsConstructor;
 import org.springframework.web.bind.annotation.GetMapping;
 import org.springframework.web.bind.annotation.PatchMapping;
@@ -29,6 +31,46 @@ public class NotificationController {
     private final NotificationService notificationService;
     private final NotificationSettingService notificationSettingService;
 
+    @Operation(
+            summary = "알림 카드 전체 조회",
+            description =
+                    """
+                    미션/학습/피드백 알림 카드 3개를 한 번에 반환합니다.<br>
+                    - 카드 순서는 미션, 학습, 피드백 순입니다.<br>
+                    - 알림 설정은 한 번만 확인하며, 꺼져 있으면 3개 모두 '알림이 꺼져있어요' 카드로 반환됩니다.<br>
+                    - 개별 카드 API를 연달아 호출하는 대신 이 API를 사용하면 요청 수와 조회 수가 줄어듭니다.
+                    """)
+    @ApiResponses({
+        @ApiResponse(
+                responseCode = "200",
+                description = "알림 카드 목록 반환 성공",
+                content = @Content(schema = @Schema(implementation = NotificationResponse.class))),
+        @ApiResponse(
+                responseCode = "401",
+                description = "인증되지 않은 사용자",
+                content =
+                        @Content(
+                                mediaType = "application/json",
+                                schema = @Schema(implementation = ErrorResponse.class),
+                                examples =
+                                        @ExampleObject(
+                                                value =
+                                                        """
+                                {
+                                  "timestamp": "2025-12-18T17:30:00",
+                                  "status": 401,
+                                  "error": "401 UNAUTHORIZED",
+                                  "message": "로그인이 필요합니다.",
+                                  "path": "/api/notifications"
+                                }
+                                """)))
+    })
+    @GetMapping
+    public List<NotificationResponse> all(
+            @CurrentUser @Parameter(hidden = true) LoginUser loginUser) {
+        return notificationService.getAllCards(loginUser.id(), loginUser.notificationEnabled());
+    }
+
     @Operation(
             summary = "미션 알림 카드 조회",
             description = "오늘 미션 완료 여부를 조회하여 알림 카드 1개를 반환합니다.   (저장/히스토리 없음)")
@@ -77,8 +119,9 @@ public class NotificationController {
                                 """)))
     })
     @GetMapping("/mission")
-    public NotificationResponse mission(@CurrentUser @Parameter(hidden = true) Long userId) {
-        return notificationService.getMissionCard(userId);
+    public NotificationResponse mission(
+            @CurrentUser @Parameter(hidden = true) LoginUser loginUser) {
+        return notificationService.getMissionCard(loginUser.id(), loginUser.notificationEnabled());
     }
 
     @Operation(
@@ -129,8 +172,9 @@ public class NotificationController {
                                 """)))
     })
     @GetMapping("/finance")
-    public NotificationResponse finance(@Parameter(hidden = true) @CurrentUser Long userId) {
-        return notificationService.getLearningCard(userId);
+    public NotificationResponse finance(
+            @Parameter(hidden = true) @CurrentUser LoginUser loginUser) {
+        return notificationService.getLearningCard(loginUser.id(), loginUser.notificationEnabled());
     }
 
     @Operation(
@@ -181,8 +225,9 @@ public class NotificationController {
                                 """)))
     })
     @GetMapping("/feedback")
-    public NotificationResponse feedback(@Parameter(hidden = true) @CurrentUser Long userId) {
-        return notificationService.getFeedbackCard(userId);
+    public NotificationResponse feedback(
+            @Parameter(hidden = true) @CurrentUser LoginUser loginUser) {
+        return notificationService.getFeedbackCard(loginUser.id(), loginUser.notificationEnabled());
     }
 
     @Operation(
@@ -4,18 +4,15 @@ import com.ll.finhabit.domain.finance.entity.DailyFinance;
 import com.ll.finhabit.domain.finance.repository.DailyFinanceRepository;
 import com.ll.finhabit.domain.ledger.entity.Ledger;
 import com.ll.finhabit.domain.ledger.repository.LedgerRepository;
+import com.ll.finhabit.domain.ledger.service.LedgerAggregator;
 import com.ll.finhabit.domain.mission.entity.UserMission;
 import com.ll.finhabit.domain.mission.repository.UserMissionRepository;
 import com.ll.finhabit.domain.notification.dto.NotificationResponse;
-import com.ll.finhabit.domain.notification.entity.NotificationSetting;
 import com.ll.finhabit.domain.notification.entity.NotificationType;
-import com.ll.finhabit.domain.notification.repository.NotificationSettingRepository;
 import java.time.DayOfWeek;
 import java.time.LocalDate;
 import java.time.LocalDateTime;
-import java.util.HashMap;
 import java.util.List;
-import java.util.Map;
 import lombok.RequiredArgsConstructor;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
@@ -28,13 +25,37 @@ public class NotificationService {
     private final DailyFinanceRepository dailyFinanceRepository;
     private final UserMissionRepository userMissionRepository;
     private final LedgerRepository ledgerRepository;
-    private final NotificationSettingRepository notificationSettingRepository;
 
-    public NotificationResponse getMissionCard(Long userId) {
-        if (!isNotificationEnabled(userId)) return offCard(NotificationType.MISSION);
+    // 알림 카드 3종(미션/학습/피드백)을 같은 기준 날짜로 한 번에 계산
+    public List<NotificationResponse> getAllCards(Long userId, boolean enabled) {
+        if (!enabled) {
+            return List.of(
+                    offCard(NotificationType.MISSION),
+                    offCard(NotificationType.LEARNING),
+                    offCard(NotificationType.FEEDBACK));
+        }
 
         LocalDate today = LocalDate.now();
+        return List.of(
+                missionCard(userId, today), learningCard(today), feedbackCard(userId, today));
+    }
+
+    public NotificationResponse getMissionCard(Long userId, boolean enabled) {
+        if (!enabled) return offCard(NotificationType.MISSION);
+        return missionCard(userId, LocalDate.now());
+    }
+
+    public NotificationResponse getLearningCard(Long userId, boolean enabled) {
+        if (!enabled) return offCard(NotificationType.LEARNING);
+        return learningCard(LocalDate.now());
+    }
 
+    public NotificationResponse getFeedbackCard(Long userId, boolean enabled) {
+        if (!enabled) return offCard(NotificationType.FEEDBACK);
+        return feedbackCard(userId, LocalDate.now());
+    }
+
+    private NotificationResponse missionCard(Long userId, LocalDate today) {
         UserMission todayMission =
                 userMissionRepository.findByUser_IdAndAssignedDate(userId, today).orElse(null);
 
@@ -65,12 +86,10 @@ public class NotificationService {
                 .build();
     }
 
-    public NotificationResponse getLearningCard(Long userId) {
-        if (!isNotificationEnabled(userId)) return offCard(NotificationType.LEARNING);
-
+    private NotificationResponse learningCard(LocalDate today) {
         DailyFinance finance =
                 dailyFinanceRepository
-                        .findTopByCreatedDateOrderByIdDesc(LocalDate.now())
+                        .findTopByCreatedDateOrderByIdDesc(today)
                         .orElseGet(
                                 () ->
                                         dailyFinanceRepository
@@ -92,11 +111,35 @@ public class NotificationService {
                 .build();
     }
 
-    public NotificationResponse getFeedbackCard(Long userId) {
-        if (!isNotificationEnabled(userId)) return offCard(NotificationType.FEEDBACK);
+    // 홈 화면 통합 조회용: 피드백 카드 기간을 이미 조회했으면 넘겨받는다 (getFeedbackLedgers)
+    public NotificationResponse getFeedbackCard(
+            boolean enabled, LocalDate today, List<Ledger> ledgers) {
+        if (!enabled) return offCard(NotificationType.FEEDBACK);
+        return feedbackCard(today, ledgers);
+    }
 
-        LocalDate today = LocalDate.now();
+    // 피드백 카드가 보는 기간(지난주 월요일과 지난달 1일 중 이른 날 ~ 이번 주 일요일)의 가계부, 카테고리 포함
+    public List<Ledger> getFeedbackLedgers(Long userId, LocalDate today) {
+        return ledgerRepository.findAllByUser_IdAndDateBetween(
+                userId, feedbackRangeStart(today), feedbackRangeEnd(today));
+    }
 
+    public static LocalDate feedbackRangeStart(LocalDate today) {
+        LocalDate lastMonday = today.with(DayOfWeek.MONDAY).minusWeeks(1);
+        LocalDate firstDayLastMonth = today.withDayOfMonth(1).minusMonths(1);
+        return lastMonday.isBefore(firstDayLastMonth) ? lastMonday : firstDayLastMonth;
+    }
+
+    public static LocalDate feedbackRangeEnd(LocalDate today) {
+        return today.with(DayOfWeek.MONDAY).plusDays(6);
+    }
+
+    private NotificationResponse feedbackCard(Long userId, LocalDate today) {
+        // 주간/월간 범위를 모두 덮는 기간을 한 번만 조회하고 범위별 집계는 메모리에서 나눈다
+        return feedbackCard(today, getFeedbackLedgers(userId, today));
+    }
+
+    private NotificationResponse feedbackCard(LocalDate today, List<Ledger> ledgers) {
         // ====== 주간 범위 ======
         LocalDate thisMonday = today.with(DayOfWeek.MONDAY);
         LocalDate thisSunday = thisMonday.plusDays(6);
@@ -104,21 +147,24 @@ public class NotificationService {
         LocalDate lastMonday = thisMonday.minusWeeks(1);
         LocalDate lastSunday = lastMonday.plusDays(6);
 
-        List<Ledger> thisWeekLedgers =
-                expenseLedgers(
-                        ledgerRepository.findAllByUser_IdAndDateBetween(
-                                userId, thisMonday, thisSunday));
-        List<Ledger> lastWeekLedgers =
-                expenseLedgers(
-                        ledgerRepository.findAllByUser_IdAndDateBetween(
-                                userId, lastMonday, lastSunday));
+        // 월간 범위(이번달: 1일~오늘, 지난달: 지난달 1일~동일 일자)
+        LocalDate firstDayThisMonth = today.withDayOfMonth(1);
+        LocalDate firstDayLastMonth = firstDayThisMonth.minusMonths(1);
 
-        int thisWeekTotal = sumAmount(thisWeekLedgers);
-        int lastWeekTotal = sumAmount(lastWeekLedgers);
+        LocalDate endDayLastMonth = firstDayLastMonth.plusDays(today.getDayOfMonth() - 1L);
+        LocalDate lastMonthLastDay =
+                firstDayLastMonth.withDayOfMonth(firstDayLastMonth.lengthOfMonth());
+        if (endDayLastMonth.isAfter(lastMonthLastDay)) endDayLastMonth = lastMonthLastDay;
+
+        LedgerAggregator thisWeek = sumByCategory(ledgers, thisMonday, thisSunday);
+        LedgerAggregator lastWeek = sumByCategory(ledgers, lastMonday, lastSunday);
+
+        int thisWeekTotal = (int) thisWeek.total();
+        int lastWeekTotal = (int) lastWeek.total();
 
         /** 우선순위: 1) 소비 급증(카테고리) 2) 주간 리포트(총액) 3) 월간 리포트(총액) 4) 기본 */
         // 소비 급증
-        SpikeResult spike = detectSpike(thisWeekLedgers, lastWeekLedgers);
+        SpikeResult spike = detectSpike(thisWeek, lastWeek);
         if (spike != null) {
             return NotificationResponse.builder()
                     .type(NotificationType.FEEDBACK)
@@ -144,26 +190,9 @@ public class NotificationService {
                     .build();
         }
 
-        // 월간 범위(이번달: 1일~오늘, 지난달: 지난달 1일~동일 일자)
-        LocalDate firstDayThisMonth = today.withDayOfMonth(1);
-        LocalDate firstDayLastMonth = firstDayThisMonth.minusMonths(1);
-
-        LocalDate endDayLastMonth = firstDayLastMonth.plusDays(today.getDayOfMonth() - 1L);
-        LocalDate lastMonthLastDay =
-                firstDayLastMonth.withDayOfMonth(firstDayLastMonth.lengthOfMonth());
-        if (endDayLastMonth.isAfter(lastMonthLastDay)) endDayLastMonth = lastMonthLastDay;
-
-        List<Ledger> thisMonthLedgers =
-                expenseLedgers(
-                        ledgerRepository.findAllByUser_IdAndDateBetween(
-                                userId, firstDayThisMonth, today));
-        List<Ledger> lastMonthLedgers =
-                expenseLedgers(
-                        ledgerRepository.findAllByUser_IdAndDateBetween(
-                                userId, firstDayLastMonth, endDayLastMonth));
-
-        int thisMonthTotal = sumAmount(thisMonthLedgers);
-        int lastMonthTotal = sumAmount(lastMonthLedgers);
+        int thisMonthTotal = (int) sumByCategory(ledgers, firstDayThisMonth, today).total();
+        int lastMonthTotal =
+                (int) sumByCategory(ledgers, firstDayLastMonth, endDayLastMonth).total();
 
         if (thisMonthTotal > 0 || lastMonthTotal > 0) {
             int diff = thisMonthTotal - lastMonthTotal;
@@ -187,13 +216,6 @@ public class NotificationService {
     }
 
     // helpers
-    private boolean isNotificationEnabled(Long userId) {
-        return notificationSettingRepository
-                .findByUserId(userId)
-                .map(NotificationSetting::isEnabled)
-                .orElse(true);
-    }
-
     private NotificationResponse offCard(NotificationType type) {
         return NotificationResponse.builder()
                 .type(type)
@@ -207,47 +229,33 @@ public class NotificationService {
         return v == null || v.trim().isEmpty();
     }
 
-    private List<Ledger> expenseLedgers(List<Ledger> ledgers) {
-        if (ledgers == null || ledgers.isEmpty()) return List.of();
-        return ledgers.stream()
-                .filter(l -> l.getCategory() != null)
-                .filter(l -> isExpense(l.getCategory().getType()))
-                .toList();
-    }
-
-    private boolean isExpense(String type) {
+    private static boolean isExpense(String type) {
         if (type == null) return false;
         String t = type.trim().toLowerCase();
         return t.equals("expense") || t.equals("지출");
     }
 
-    private int sumAmount(List<Ledger> ledgers) {
-        return ledgers.stream().mapToInt(l -> l.getAmount() == null ? 0 : l.getAmount()).sum();
-    }
-
-    private Map<String, Integer> sumByCategory(List<Ledger> ledgers) {
-        Map<String, Integer> map = new HashMap<>();
+    // 아래 집계 메소드는 src/jmh 벤치마크에서 직접 호출하므로 package-private static
+    // 한 번에 조회한 가계부 중 [from, to] 기간의 지출만 카테고리별로 집계
+    static LedgerAggregator sumByCategory(List<Ledger> ledgers, LocalDate from, LocalDate to) {
+        LedgerAggregator aggregator = new LedgerAggregator();
         for (Ledger l : ledgers) {
-            String name =
-                    (l.getCategory() == null || l.getCategory().getCategoryName() == null)
-                            ? "기타"
-                            : l.getCategory().getCategoryName();
-            int amt = l.getAmount() == null ? 0 : l.getAmount();
-            map.put(name, map.getOrDefault(name, 0) + amt);
+            LocalDate date = l.getDate();
+            if (date.isBefore(from) || date.isAfter(to)) continue;
+            if (l.getCategory() != null && isExpense(l.getCategory().getType())) {
+                aggregator.add(l);
+            }
         }
-        return map;
+        return aggregator;
     }
 
-    private SpikeResult detectSpike(List<Ledger> thisWeek, List<Ledger> lastWeek) {
-        Map<String, Integer> thisSum = sumByCategory(thisWeek);
-        Map<String, Integer> lastSum = sumByCategory(lastWeek);
-
+    static SpikeResult detectSpike(LedgerAggregator thisWeek, LedgerAggregator lastWeek) {
         SpikeResult best = null;
 
-        for (Map.Entry<String, Integer> e : thisSum.entrySet()) {
-            String cat = e.getKey();
-            int cur = e.getValue();
-            int prev = lastSum.getOrDefault(cat, 0);
+        for (LedgerAggregator.Entry e : thisWeek.entries()) {
+            String cat = e.categoryName() == null ? "기타" : e.categoryName();
+            int cur = (int) e.amount();
+            int prev = (int) lastWeek.amountOf(e.categoryId());
 
             if (cur <= 0) continue;
 
@@ -286,11 +294,11 @@ public class NotificationService {
         return "변동이 없어요";
     }
 
-    private String formatWon(int amount) {
+    private static String formatWon(int amount) {
         return String.format("%,d원", amount);
     }
 
-    private static class SpikeResult {
+    static class SpikeResult {
         final String categoryName;
         final String diffText;
 
@@ -1,9 +1,12 @@
 package com.ll.finhabit.domain.notification.service;
 
+import com.ll.finhabit.domain.auth.service.LoginUserService;
 import com.ll.finhabit.domain.notification.dto.NotificationSettingResponse;
 import com.ll.finhabit.domain.notification.entity.NotificationSetting;
 import com.ll.finhabit.domain.notification.repository.NotificationSettingRepository;
+import com.ll.finhabit.global.common.CacheNames;
 import lombok.RequiredArgsConstructor;
+import org.springframework.cache.annotation.CacheEvict;
 import org.springframework.stereotype.Service;
 import org.springframework.transaction.annotation.Transactional;
 
@@ -13,7 +16,10 @@ import org.springframework.transaction.annotation.Transactional;
 public class NotificationSettingService {
 
     private final NotificationSettingRepository notificationSettingRepository;
+    private final LoginUserService loginUserService;
 
+    // 로그인 사용자 캐시에 알림 설정이 들어 있으므로 함께 삭제 (커밋 전에 다시 캐시된 값은 커밋 뒤에 한 번 더 삭제)
+    @CacheEvict(cacheNames = CacheNames.LOGIN_USER, key = "#userId")
     public NotificationSettingResponse toggle(Long userId) {
         NotificationSetting setting =
                 notificationSettingRepository
@@ -27,6 +33,7 @@ public class NotificationSettingService {
                                                         .build()));
 
         setting.setEnabled(!setting.isEnabled());
+        loginUserService.evictAfterCommit(userId);
 
         return NotificationSettingResponse.builder().enabled(setting.isEnabled()).build();
     }
@@ -0,0 +1,32 @@
+package com.ll.finhabit.global.common;
+
+import java.util.List;
+
+public final class CacheNames {
+
+    private CacheNames() {}
+
+    // 정적 참조 데이터 캐시
+    public static final String CATEGORY = "category";
+    public static final String MISSIONS_BY_LEVEL = "missionsByLevel";
+    public static final String LEVEL_TEST = "levelTest";
+    public static final String LEVEL_TESTS = "levelTests";
+    public static final String QUIZ = "quiz";
+    public static final String DAILY_FINANCE_BY_FINANCE_ID = "dailyFinanceByFinanceId";
+    public static final String DAILY_FINANCE_BY_QUIZ_ID = "dailyFinanceByQuizId";
+    public static final String DAILY_FINANCE_BY_LEVEL = "dailyFinanceByLevel";
+
+    // 로그인 사용자 principal (짧은 TTL, 알림 설정 변경/탈퇴 시 삭제)
+    public static final String LOGIN_USER = "loginUser";
+
+    public static final List<String> REFERENCE_DATA =
+            List.of(
+                    CATEGORY,
+                    MISSIONS_BY_LEVEL,
+                    LEVEL_TEST,
+                    LEVEL_TESTS,
+                    QUIZ,
+                    DAILY_FINANCE_BY_FINANCE_ID,
+                    DAILY_FINANCE_BY_QUIZ_ID,
+                    DAILY_FINANCE_BY_LEVEL);
+}
@@ -0,0 +1,73 @@
+package com.ll.finhabit.global.idempotency;
+
+import jakarta.servlet.ReadListener;
+import jakarta.servlet.ServletInputStream;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletRequestWrapper;
+import java.io.BufferedReader;
+import java.io.ByteArrayInputStream;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+
+// 요청 본문을 미리 읽어 두고 컨트롤러(메시지 컨버터)가 다시 읽을 수 있게 하는 래퍼 (Idempotency-Key 지문 계산용)
+public class CachedBodyHttpServletRequest extends HttpServletRequestWrapper {
+
+    // 메모리에 올리는 본문 상한: CSV 일괄 등록 한도(2,000,000자, UTF-8로 최대 약 6MB)를 담을 수 있는 크기.
+    // 넘으면 한도 + 1바이트까지만 읽고 필터가 413으로 응답한다
+    public static final int MAX_BODY_BYTES = 8 * 1024 * 1024;
+
+    private final byte[] body;
+
+    public CachedBodyHttpServletRequest(HttpServletRequest request) throws IOException {
+        super(request);
+        this.body = request.getInputStream().readNBytes(MAX_BODY_BYTES + 1);
+    }
+
+    public byte[] getBody() {
+        return body;
+    }
+
+    public boolean isTooLarge() {
+        return body.length > MAX_BODY_BYTES;
+    }
+
+    @Override
+    public ServletInputStream getInputStream() {
+        ByteArrayInputStream in = new ByteArrayInputStream(body);
+        return new ServletInputStream() {
+            @Override
+            public boolean isFinished() {
+                return in.available() == 0;
+            }
+
+            @Override
+            public boolean isReady() {
+                return true;
+            }
+
+            @Override
+            public void setReadListener(ReadListener readListener) {
+                throw new UnsupportedOperationException("비동기 읽기는 지원하지 않습니다.");
+            }
+
+            @Override
+            public int read() {
+                return in.read();
+            }
+
+            @Override
+            public int read(byte[] b, int off, int len) {
+                return in.read(b, off, len);
+            }
+        };
+    }
+
+    @Override
+    public BufferedReader getReader() {
+        String encoding = getCharacterEncoding();
+        Charset charset = encoding != null ? Charset.forName(encoding) : StandardCharsets.UTF_8;
+        return new BufferedReader(new InputStreamReader(getInputStream(), charset));
+    }
+}
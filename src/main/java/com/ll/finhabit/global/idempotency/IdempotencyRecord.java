@@ -0,0 +1,35 @@
+package com.ll.finhabit.global.idempotency;
+
+import java.time.Instant;
+
+/**
+ * Idempotency-Key 하나에 대한 저장 기록.
+ *
+ * <p>처리 중(completed=false)에는 fingerprint와 만료 시각만 갖고, 처리가 끝나면 재전송에 그대로 돌려줄 응답(상태 코드, Content-Type,
+ * 본문)을 함께 갖는다.
+ */
+public record IdempotencyRecord(
+        String fingerprint,
+        boolean completed,
+        int statusCode,
+        String contentType,
+        byte[] body,
+        Instant expiresAt) {
+
+    public static IdempotencyRecord inProgress(String fingerprint, Instant expiresAt) {
+        return new IdempotencyRecord(fingerprint, false, 0, null, null, expiresAt);
+    }
+
+    public static IdempotencyRecord completed(
+            String fingerprint,
+            int statusCode,
+            String contentType,
+            byte[] body,
+            Instant expiresAt) {
+        return new IdempotencyRecord(fingerprint, true, statusCode, contentType, body, expiresAt);
+    }
+
+    public boolean isExpired(Instant now) {
+        return !expiresAt.isAfter(now);
+    }
+}
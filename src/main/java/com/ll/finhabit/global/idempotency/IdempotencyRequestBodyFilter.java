@@ -0,0 +1,57 @@
+package com.ll.finhabit.global.idempotency;
+
+import com.ll.finhabit.global.interceptor.IdempotencyInterceptor;
+import com.ll.finhabit.global.session.LoginSessionFilter;
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import org.springframework.core.annotation.Order;
+import org.springframework.http.MediaType;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// IdempotencyInterceptor가 처리할 요청(키가 붙은 로그인 사용자의 변경 요청, 대상 경로)만 본문을 미리 읽어 둔다.
+// 인터셉터는 컨트롤러가 본문을 읽기 전에 실행되므로, 같은 키에 다른 본문이 오면 422로 막으려면 여기서 읽어야 한다.
+// 로그인 여부를 보므로 LoginSessionFilter 뒤에 실행한다
+@Component
+@Order(LoginSessionFilter.ORDER + 1)
+public class IdempotencyRequestBodyFilter extends OncePerRequestFilter {
+
+    private static final MediaType TEXT_CSV = MediaType.parseMediaType("text/csv");
+
+    @Override
+    protected boolean shouldNotFilter(HttpServletRequest request) {
+        return !IdempotencyInterceptor.handles(request) || isStreamed(request.getContentType());
+    }
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        CachedBodyHttpServletRequest cached = new CachedBodyHttpServletRequest(request);
+        if (cached.isTooLarge()) {
+            response.sendError(
+                    HttpServletResponse.SC_REQUEST_ENTITY_TOO_LARGE, "요청 본문이 너무 큽니다.");
+            return;
+        }
+        filterChain.doFilter(cached, response);
+    }
+
+    // 폼/멀티파트는 서블릿 컨테이너가 getParameter/getPart로 직접 읽고,
+    // CSV 일괄 등록은 컨트롤러가 읽으면서 바로 처리하므로 메모리에 올리지 않는다
+    private static boolean isStreamed(String contentType) {
+        if (contentType == null) {
+            return false;
+        }
+        try {
+            MediaType mediaType = MediaType.parseMediaType(contentType);
+            return MediaType.APPLICATION_FORM_URLENCODED.includes(mediaType)
+                    || MediaType.MULTIPART_FORM_DATA.includes(mediaType)
+                    || TEXT_CSV.includes(mediaType);
+        } catch (IllegalArgumentException e) {
+            return false;
+        }
+    }
+}
@@ -0,0 +1,81 @@
+package com.ll.finhabit.global.idempotency;
+
+import com.fasterxml.jackson.core.JsonProcessingException;
+import com.fasterxml.jackson.databind.ObjectMapper;
+import com.ll.finhabit.global.interceptor.IdempotencyInterceptor;
+import java.nio.charset.StandardCharsets;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.core.MethodParameter;
+import org.springframework.http.MediaType;
+import org.springframework.http.converter.HttpMessageConverter;
+import org.springframework.http.server.ServerHttpRequest;
+import org.springframework.http.server.ServerHttpResponse;
+import org.springframework.http.server.ServletServerHttpRequest;
+import org.springframework.web.bind.annotation.ControllerAdvice;
+import org.springframework.web.context.request.RequestAttributes;
+import org.springframework.web.context.request.RequestContextHolder;
+import org.springframework.web.servlet.mvc.method.annotation.ResponseBodyAdvice;
+
+// Idempotency-Key 요청의 응답 본문을 직렬화해 두었다가 IdempotencyInterceptor가 처리 완료 시 저장소에 남긴다
+// 인터셉터가 키를 선점한 요청에만 적용한다
+@Slf4j
+@ControllerAdvice
+@RequiredArgsConstructor
+public class IdempotencyResponseBodyAdvice implements ResponseBodyAdvice<Object> {
+
+    private final ObjectMapper objectMapper;
+
+    @Override
+    public boolean supports(
+            MethodParameter returnType, Class<? extends HttpMessageConverter<?>> converterType) {
+        RequestAttributes attributes = RequestContextHolder.getRequestAttributes();
+        return attributes != null
+                && attributes.getAttribute(
+                                IdempotencyInterceptor.STORE_KEY_ATTRIBUTE,
+                                RequestAttributes.SCOPE_REQUEST)
+                        != null;
+    }
+
+    @Override
+    public Object beforeBodyWrite(
+            Object body,
+            MethodParameter returnType,
+            MediaType selectedContentType,
+            Class<? extends HttpMessageConverter<?>> selectedConverterType,
+            ServerHttpRequest request,
+            ServerHttpResponse response) {
+        if (!(request instanceof ServletServerHttpRequest servletRequest)) {
+            return body;
+        }
+
+        servletRequest
+                .getServletRequest()
+                .setAttribute(
+                        IdempotencyInterceptor.RESPONSE_ATTRIBUTE,
+                        new CapturedResponse(selectedContentType.toString(), serialize(body)));
+        return body;
+    }
+
+    // 직렬화할 수 없는 본문이면 null → 저장하지 않고 키를 해제한다
+    private byte[] serialize(Object body) {
+        if (body == null) {
+            return new byte[0];
+        }
+        if (body instanceof byte[] bytes) {
+            return bytes;
+        }
+        if (body instanceof String text) {
+            return text.getBytes(StandardCharsets.UTF_8);
+        }
+        try {
+            return objectMapper.writeValueAsBytes(body);
+        } catch (JsonProcessingException e) {
+            log.warn("Idempotency-Key 응답 직렬화 실패: {}", body.getClass().getName(), e);
+            return null;
+        }
+    }
+
+    // body가 null이면 재전송용으로 저장할 수 없는 응답
+    public record CapturedResponse(String contentType, byte[] body) {}
+}
@@ -0,0 +1,17 @@
+package com.ll.finhabit.global.idempotency;
+
+import java.time.Instant;
+import java.util.Optional;
+
+// Idempotency-Key 저장소: 인메모리(기본) / JDBC (finhabit.idempotency.store=jdbc)
+public interface IdempotencyStore {
+
+    // 키 선점: 만료되지 않은 기록이 있으면 그 기록을 반환, 없으면 처리 중 기록을 남기고 empty 반환
+    Optional<IdempotencyRecord> reserve(String key, String fingerprint, Instant lockExpiresAt);
+
+    // 처리 완료: 재전송에 돌려줄 응답 저장
+    void complete(String key, IdempotencyRecord record);
+
+    // 처리 실패: 같은 키로 다시 시도할 수 있도록 처리 중 기록 삭제
+    void release(String key);
+}
@@ -0,0 +1,45 @@
+package com.ll.finhabit.global.idempotency;
+
+import com.github.benmanes.caffeine.cache.Cache;
+import com.github.benmanes.caffeine.cache.Caffeine;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Optional;
+
+// 단일 인스턴스용: 크기 제한 + TTL(Caffeine), 처리 중 기록은 잠금 만료 시각이 지나면 새 요청이 가져간다
+public class InMemoryIdempotencyStore implements IdempotencyStore {
+
+    private final Cache<String, IdempotencyRecord> records;
+
+    public InMemoryIdempotencyStore(long maxEntries, Duration ttl) {
+        this.records = Caffeine.newBuilder().maximumSize(maxEntries).expireAfterWrite(ttl).build();
+    }
+
+    @Override
+    public Optional<IdempotencyRecord> reserve(
+            String key, String fingerprint, Instant lockExpiresAt) {
+        Instant now = Instant.now();
+        IdempotencyRecord[] existing = new IdempotencyRecord[1];
+        records.asMap()
+                .compute(
+                        key,
+                        (k, current) -> {
+                            if (current != null && !current.isExpired(now)) {
+                                existing[0] = current;
+                                return current;
+                            }
+                            return IdempotencyRecord.inProgress(fingerprint, lockExpiresAt);
+                        });
+        return Optional.ofNullable(existing[0]);
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record) {
+        records.put(key, record);
+    }
+
+    @Override
+    public void release(String key) {
+        records.asMap().computeIfPresent(key, (k, current) -> current.completed() ? current : null);
+    }
+}
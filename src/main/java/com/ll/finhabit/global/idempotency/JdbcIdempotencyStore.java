@@ -0,0 +1,88 @@
+package com.ll.finhabit.global.idempotency;
+
+import java.sql.Timestamp;
+import java.time.Instant;
+import java.util.List;
+import java.util.Optional;
+import lombok.RequiredArgsConstructor;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.dao.DuplicateKeyException;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.scheduling.annotation.Scheduled;
+
+// 여러 인스턴스가 키를 공유해야 할 때: idempotency_key 테이블 (V8), PK 중복으로 선점 경쟁을 판정한다
+@Slf4j
+@RequiredArgsConstructor
+public class JdbcIdempotencyStore implements IdempotencyStore {
+
+    private final JdbcTemplate jdbcTemplate;
+
+    @Override
+    public Optional<IdempotencyRecord> reserve(
+            String key, String fingerprint, Instant lockExpiresAt) {
+        Timestamp now = Timestamp.from(Instant.now());
+        // 만료된 기록은 없는 것으로 보고 새로 선점
+        jdbcTemplate.update(
+                "delete from idempotency_key where store_key = ? and expires_at <= ?", key, now);
+        try {
+            jdbcTemplate.update(
+                    "insert into idempotency_key (store_key, fingerprint, completed, expires_at)"
+                            + " values (?, ?, false, ?)",
+                    key,
+                    fingerprint,
+                    Timestamp.from(lockExpiresAt));
+            return Optional.empty();
+        } catch (DuplicateKeyException e) {
+            List<IdempotencyRecord> found =
+                    jdbcTemplate.query(
+                            "select fingerprint, completed, status_code, content_type, body,"
+                                    + " expires_at from idempotency_key"
+                                    + " where store_key = ? and expires_at > ?",
+                            (rs, rowNum) ->
+                                    new IdempotencyRecord(
+                                            rs.getString("fingerprint"),
+                                            rs.getBoolean("completed"),
+                                            rs.getInt("status_code"),
+                                            rs.getString("content_type"),
+                                            rs.getBytes("body"),
+                                            rs.getTimestamp("expires_at").toInstant()),
+                            key,
+                            now);
+            // 그 사이 만료된 경우에도 선점에 실패했으므로 처리 중으로 응답한다
+            return Optional.of(
+                    found.isEmpty()
+                            ? IdempotencyRecord.inProgress(fingerprint, lockExpiresAt)
+                            : found.get(0));
+        }
+    }
+
+    @Override
+    public void complete(String key, IdempotencyRecord record) {
+        jdbcTemplate.update(
+                "update idempotency_key set completed = true, status_code = ?, content_type = ?,"
+                        + " body = ?, expires_at = ? where store_key = ?",
+                record.statusCode(),
+                record.contentType(),
+                record.body(),
+                Timestamp.from(record.expiresAt()),
+                key);
+    }
+
+    @Override
+    public void release(String key) {
+        jdbcTemplate.update(
+                "delete from idempotency_key where store_key = ? and completed = false", key);
+    }
+
+    // 만료된 기록 정리
+    @Scheduled(fixedDelayString = "${finhabit.idempotency.purge-interval:PT10M}")
+    public void purgeExpired() {
+        int deleted =
+                jdbcTemplate.update(
+                        "delete from idempotency_key where expires_at <= ?",
+                        Timestamp.from(Instant.now()));
+        if (deleted > 0) {
+            log.debug("만료된 Idempotency-Key 기록 삭제: {}건", deleted);
+        }
+    }
+}
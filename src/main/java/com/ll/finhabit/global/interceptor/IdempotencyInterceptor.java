@@ -0,0 +1,209 @@
+package com.ll.finhabit.global.interceptor;
+
+import com.ll.finhabit.global.idempotency.CachedBodyHttpServletRequest;
+import com.ll.finhabit.global.idempotency.IdempotencyRecord;
+import com.ll.finhabit.global.idempotency.IdempotencyRequestBodyFilter;
+import com.ll.finhabit.global.idempotency.IdempotencyResponseBodyAdvice.CapturedResponse;
+import com.ll.finhabit.global.idempotency.IdempotencyStore;
+import com.ll.finhabit.global.session.LoginSessionService;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.security.MessageDigest;
+import java.security.NoSuchAlgorithmException;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.Arrays;
+import java.util.HexFormat;
+import java.util.Optional;
+import java.util.Set;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpStatus;
+import org.springframework.stereotype.Component;
+import org.springframework.util.AntPathMatcher;
+import org.springframework.web.server.ResponseStatusException;
+import org.springframework.web.servlet.HandlerInterceptor;
+import org.springframework.web.util.WebUtils;
+
+/**
+ * 변경 요청(POST/PUT/PATCH/DELETE)의 Idempotency-Key 헤더 처리.
+ *
+ * <p>처음 보는 키는 처리 중으로 선점하고, 2xx 응답이 나가면 그 응답을 저장해 두었다가 같은 키의 재전송에는 서비스를 호출하지 않고 저장된 응답을
+ * 그대로 돌려준다. 키는 로그인 사용자별로 구분하며, 같은 키가 다른 메소드/경로/본문에 쓰이면 422, 첫 요청이 아직 처리 중이면 409를 반환한다.
+ * 2xx가 아닌 응답은 저장하지 않고 키를 해제해 같은 키로 다시 시도할 수 있게 한다. 로그인 전 요청(회원가입 등)은 키 공간을 나눌 수 없으므로
+ * 처리하지 않는다.
+ *
+ * <p>본문은 {@link IdempotencyRequestBodyFilter}가 미리 읽어 둔 것을 지문에 넣는다. 필터는 {@link #handles}가 참인 요청만
+ * 읽으며, 본문을 미리 읽지 않는 폼/멀티파트/CSV 요청에는 키를 쓸 수 없다(400). 미션 체크/취소는 서비스에서 같은 헤더로 직접 중복을 막으므로
+ * 대상에서 제외한다({@link #EXCLUDED_PATH_PATTERNS}).
+ */
+@Slf4j
+@Component
+public class IdempotencyInterceptor implements HandlerInterceptor {
+
+    public static final String HEADER = "Idempotency-Key";
+    public static final String REPLAYED_HEADER = "Idempotent-Replayed";
+    public static final String STORE_KEY_ATTRIBUTE =
+            IdempotencyInterceptor.class.getName() + ".storeKey";
+    public static final String RESPONSE_ATTRIBUTE =
+            IdempotencyInterceptor.class.getName() + ".response";
+
+    // WebConfig 등록과 IdempotencyRequestBodyFilter가 같은 경로 조건을 쓴다
+    public static final String[] PATH_PATTERNS = {"/api/**"};
+
+    // 로그인/로그아웃은 세션을 바꾸므로 재전송 대상에서 제외
+    // 미션 체크/취소는 MissionService가 같은 헤더를 usermission_request_key에 직접 기록하므로 제외
+    // (더블 탭에 409 대신 현재 상태를 반환)
+    public static final String[] EXCLUDED_PATH_PATTERNS = {
+        "/api/auth/login", "/api/auth/logout", "/api/mission/*/check", "/api/mission/*/uncheck"
+    };
+
+    private static final String FINGERPRINT_ATTRIBUTE =
+            IdempotencyInterceptor.class.getName() + ".fingerprint";
+    private static final Set<String> MUTATING_METHODS = Set.of("POST", "PUT", "PATCH", "DELETE");
+    private static final int MAX_KEY_LENGTH = 64;
+    private static final AntPathMatcher PATH_MATCHER = new AntPathMatcher();
+
+    private final IdempotencyStore store;
+    private final Duration ttl;
+    private final Duration lockTimeout;
+
+    public IdempotencyInterceptor(
+            IdempotencyStore store,
+            @Value("${finhabit.idempotency.ttl:24h}") Duration ttl,
+            @Value("${finhabit.idempotency.lock-timeout:1m}") Duration lockTimeout) {
+        this.store = store;
+        this.ttl = ttl;
+        this.lockTimeout = lockTimeout;
+    }
+
+    @Override
+    public boolean preHandle(
+            HttpServletRequest request, HttpServletResponse response, Object handler)
+            throws IOException {
+        if (!handles(request)) {
+            return true;
+        }
+        String key = request.getHeader(HEADER);
+        if (key.length() > MAX_KEY_LENGTH) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "Idempotency-Key는 64자 이하여야 합니다.");
+        }
+
+        String storeKey = sha256("user:" + LoginSessionService.currentUserId(request) + ":" + key);
+        String fingerprint = fingerprintOf(request);
+        Optional<IdempotencyRecord> existing =
+                store.reserve(storeKey, fingerprint, Instant.now().plus(lockTimeout));
+
+        if (existing.isEmpty()) {
+            request.setAttribute(STORE_KEY_ATTRIBUTE, storeKey);
+            request.setAttribute(FINGERPRINT_ATTRIBUTE, fingerprint);
+            return true;
+        }
+
+        IdempotencyRecord record = existing.get();
+        if (!record.fingerprint().equals(fingerprint)) {
+            throw new ResponseStatusException(
+                    HttpStatus.UNPROCESSABLE_ENTITY, "같은 Idempotency-Key가 다른 요청에 사용되었습니다.");
+        }
+        if (!record.completed()) {
+            throw new ResponseStatusException(
+                    HttpStatus.CONFLICT, "같은 요청을 처리 중입니다. 잠시 후 다시 시도해주세요.");
+        }
+
+        // 재전송: 서비스를 호출하지 않고 저장된 응답 반환
+        response.setStatus(record.statusCode());
+        response.setHeader(REPLAYED_HEADER, "true");
+        if (record.contentType() != null) {
+            response.setContentType(record.contentType());
+        }
+        if (record.body() != null && record.body().length > 0) {
+            response.getOutputStream().write(record.body());
+        }
+        return false;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        String storeKey = (String) request.getAttribute(STORE_KEY_ATTRIBUTE);
+        if (storeKey == null) {
+            return;
+        }
+
+        try {
+            int status = response.getStatus();
+            // 본문 없는 응답이면 advice가 호출되지 않는다
+            CapturedResponse captured =
+                    (CapturedResponse) request.getAttribute(RESPONSE_ATTRIBUTE);
+            if (ex != null
+                    || status < 200
+                    || status >= 300
+                    || (captured != null && captured.body() == null)) {
+                store.release(storeKey);
+                return;
+            }
+
+            store.complete(
+                    storeKey,
+                    IdempotencyRecord.completed(
+                            (String) request.getAttribute(FINGERPRINT_ATTRIBUTE),
+                            status,
+                            captured != null ? captured.contentType() : null,
+                            captured != null ? captured.body() : new byte[0],
+                            Instant.now().plus(ttl)));
+        } catch (RuntimeException e) {
+            // 응답은 이미 나갔으므로 저장 실패는 로그만 남긴다 (처리 중 기록은 잠금 만료 후 풀린다)
+            log.warn("Idempotency-Key 기록 저장 실패: {}", request.getRequestURI(), e);
+        }
+    }
+
+    // 키가 붙은 로그인 사용자의 변경 요청 중 대상 경로만 처리한다
+    public static boolean handles(HttpServletRequest request) {
+        String key = request.getHeader(HEADER);
+        if (key == null
+                || key.isBlank()
+                || !MUTATING_METHODS.contains(request.getMethod())
+                || LoginSessionService.currentUserId(request) == null) {
+            return false;
+        }
+        String path = request.getRequestURI().substring(request.getContextPath().length());
+        return Arrays.stream(PATH_PATTERNS).anyMatch(pattern -> PATH_MATCHER.match(pattern, path))
+                && Arrays.stream(EXCLUDED_PATH_PATTERNS)
+                        .noneMatch(pattern -> PATH_MATCHER.match(pattern, path));
+    }
+
+    // 메소드 + 경로 + 쿼리 + 본문
+    private static String fingerprintOf(HttpServletRequest request) {
+        CachedBodyHttpServletRequest cached =
+                WebUtils.getNativeRequest(request, CachedBodyHttpServletRequest.class);
+        // 본문이 있는데 필터가 읽어 두지 않았으면 폼/멀티파트/CSV 요청
+        if (cached == null && request.getContentType() != null) {
+            throw new ResponseStatusException(
+                    HttpStatus.BAD_REQUEST, "폼/멀티파트/CSV 요청에는 Idempotency-Key를 사용할 수 없습니다.");
+        }
+
+        String query = request.getQueryString();
+        String target =
+                request.getMethod()
+                        + " "
+                        + request.getRequestURI()
+                        + (query != null ? "?" + query : "");
+        byte[] body = cached != null ? cached.getBody() : new byte[0];
+        return sha256(target + "\n" + HexFormat.of().formatHex(digest(body)));
+    }
+
+    private static String sha256(String value) {
+        return HexFormat.of().formatHex(digest(value.getBytes(StandardCharsets.UTF_8)));
+    }
+
+    private static byte[] digest(byte[] value) {
+        try {
+            return MessageDigest.getInstance("SHA-256").digest(value);
+        } catch (NoSuchAlgorithmException e) {
+            throw new IllegalStateException(e);
+        }
+    }
+}
@@ -1,8 +1,8 @@
 package com.ll.finhabit.global.interceptor;
 
+import com.ll.finhabit.global.session.LoginSessionService;
 import jakarta.servlet.http.HttpServletRequest;
 import jakarta.servlet.http.HttpServletResponse;
-import jakarta.servlet.http.HttpSession;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
 import org.springframework.web.server.ResponseStatusException;
@@ -19,9 +19,8 @@ public class LoginCheckInterceptor implements HandlerInterceptor {
             return true;
         }
 
-        HttpSession session = request.getSession(false);
-
-        if (session == null || session.getAttribute("LOGIN_USER_ID") == null) {
+        // LoginSessionFilter가 세션/토큰에서 확인해 둔 사용자 ID
+        if (LoginSessionService.currentUserId(request) == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
         }
 
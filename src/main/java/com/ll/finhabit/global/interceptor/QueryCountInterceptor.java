@@ -0,0 +1,50 @@
+package com.ll.finhabit.global.interceptor;
+
+import com.ll.finhabit.global.jpa.QueryCounter;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import lombok.extern.slf4j.Slf4j;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.stereotype.Component;
+import org.springframework.web.servlet.HandlerInterceptor;
+
+// 엔드포인트별 SQL 실행 횟수를 로그로 남겨 N+1 회귀를 잡는다
+@Slf4j
+@Component
+public class QueryCountInterceptor implements HandlerInterceptor {
+
+    @Value("${finhabit.query-count.enabled:false}")
+    private boolean enabled;
+
+    @Value("${finhabit.query-count.warn-threshold:10}")
+    private int warnThreshold;
+
+    @Override
+    public boolean preHandle(
+            HttpServletRequest request, HttpServletResponse response, Object handler) {
+        if (enabled) {
+            QueryCounter.start();
+        }
+        return true;
+    }
+
+    @Override
+    public void afterCompletion(
+            HttpServletRequest request, HttpServletResponse response, Object handler, Exception ex) {
+        if (!enabled) {
+            return;
+        }
+
+        int count = QueryCounter.stop();
+        if (count > warnThreshold) {
+            log.warn(
+                    "SQL 실행 횟수 임계치 초과: {} {} -> {}회 (임계치 {})",
+                    request.getMethod(),
+                    request.getRequestURI(),
+                    count,
+                    warnThreshold);
+        } else {
+            log.debug("SQL 실행 횟수: {} {} -> {}회", request.getMethod(), request.getRequestURI(), count);
+        }
+    }
+}
@@ -0,0 +1,87 @@
+package com.ll.finhabit.global.jpa;
+
+import java.security.SecureRandom;
+import java.time.Instant;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * 시간 순 정렬되는 53비트 ID 생성기 (TSID 변형).
+ *
+ * <p>구성: 41비트 밀리초(2025-01-01 기준, 약 69년) + 6비트 노드 + 6비트 순번. JavaScript에서 정밀도 손실 없이 다룰 수
+ * 있도록 {@code Number.MAX_SAFE_INTEGER}(2^53 - 1) 이하로 유지한다. 값이 기존 AUTO_INCREMENT ID보다 항상 크고 시간
+ * 순으로 증가하므로 ID 정렬/키셋 커서가 그대로 동작한다.
+ *
+ * <p>노드 번호(0~63)는 {@code FINHABIT_TSID_NODE} 환경 변수(또는 {@code finhabit.tsid.node} 시스템 속성)로
+ * 지정한다. 여러 인스턴스를 띄울 때는 인스턴스마다 다르게 지정해야 한다. 없으면 무작위 값을 쓰며, 이는 로컬/테스트에서만
+ * 허용된다({@code TsidConfig}).
+ *
+ * <p>밀리초마다 순번을 0이 아니라 앞쪽 절반 중 무작위 위치에서 시작한다. 노드 번호가 겹치더라도 같은 밀리초에 같은 ID가 나올
+ * 가능성을 줄이고, 한 밀리초에 최소 32개는 발급할 수 있다.
+ */
+public final class Tsid {
+
+    static final long EPOCH_MILLIS = Instant.parse("2025-01-01T00:00:00Z").toEpochMilli();
+    static final int NODE_BITS = 6;
+    static final int SEQUENCE_BITS = 6;
+
+    private static final int NODE_SHIFT = SEQUENCE_BITS;
+    private static final int TIME_SHIFT = NODE_BITS + SEQUENCE_BITS;
+    private static final long SEQUENCE_MASK = (1L << SEQUENCE_BITS) - 1;
+    private static final int SEQUENCE_START_BOUND = 1 << (SEQUENCE_BITS - 1);
+
+    private static final String CONFIGURED_NODE =
+            System.getProperty("finhabit.tsid.node", System.getenv("FINHABIT_TSID_NODE"));
+    private static final long NODE = resolveNode();
+
+    private static long lastMillis = -1;
+    private static long sequence;
+
+    private Tsid() {}
+
+    public static synchronized long next() {
+        // 시계가 뒤로 가도 직전 시각을 계속 사용해 단조 증가를 유지한다
+        long millis = Math.max(System.currentTimeMillis() - EPOCH_MILLIS, lastMillis);
+        if (millis == lastMillis) {
+            sequence++;
+            if (sequence > SEQUENCE_MASK) {
+                // 같은 밀리초에 순번을 다 쓰면 다음 밀리초까지 대기
+                millis = waitNextMillis(lastMillis);
+                sequence = randomSequenceStart();
+            }
+        } else {
+            sequence = randomSequenceStart();
+        }
+        lastMillis = millis;
+        return (millis << TIME_SHIFT) | (NODE << NODE_SHIFT) | sequence;
+    }
+
+    private static long randomSequenceStart() {
+        return ThreadLocalRandom.current().nextInt(SEQUENCE_START_BOUND);
+    }
+
+    // 노드 번호를 환경 변수/시스템 속성으로 지정했는지 (지정하지 않았으면 무작위 노드)
+    public static boolean isNodeConfigured() {
+        return CONFIGURED_NODE != null && !CONFIGURED_NODE.isBlank();
+    }
+
+    private static long waitNextMillis(long last) {
+        long millis;
+        do {
+            Thread.onSpinWait();
+            millis = System.currentTimeMillis() - EPOCH_MILLIS;
+        } while (millis <= last);
+        return millis;
+    }
+
+    private static long resolveNode() {
+        long max = (1L << NODE_BITS) - 1;
+        if (isNodeConfigured()) {
+            long node = Long.parseLong(CONFIGURED_NODE.strip());
+            if (node < 0 || node > max) {
+                throw new IllegalStateException("TSID 노드 번호는 0~" + max + " 사이여야 합니다: " + node);
+            }
+            return node;
+        }
+        return new SecureRandom().nextInt((int) max + 1);
+    }
+}
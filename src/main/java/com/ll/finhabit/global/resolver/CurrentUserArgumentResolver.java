@@ -1,8 +1,11 @@
 package com.ll.finhabit.global.resolver;
 
+import com.ll.finhabit.domain.auth.service.LoginUserService;
 import com.ll.finhabit.global.common.CurrentUser;
+import com.ll.finhabit.global.session.LoginSessionService;
+import com.ll.finhabit.global.session.LoginUser;
 import jakarta.servlet.http.HttpServletRequest;
-import jakarta.servlet.http.HttpSession;
+import lombok.RequiredArgsConstructor;
 import org.springframework.core.MethodParameter;
 import org.springframework.http.HttpStatus;
 import org.springframework.stereotype.Component;
@@ -12,16 +15,21 @@ import org.springframework.web.method.support.HandlerMethodArgumentResolver;
 import org.springframework.web.method.support.ModelAndViewContainer;
 import org.springframework.web.server.ResponseStatusException;
 
+// @CurrentUser Long: 로그인 사용자 ID, @CurrentUser LoginUser: ID + 레벨 + 알림 설정 (요청당 한 번 조회)
 @Component
+@RequiredArgsConstructor
 public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolver {
 
-    private static final String LOGIN_USER_ID = "LOGIN_USER_ID"; // 세션 키 이름, AuthController와 동일해야 함
+    private static final String LOGIN_USER_ATTRIBUTE =
+            CurrentUserArgumentResolver.class.getName() + ".loginUser";
+
+    private final LoginUserService loginUserService;
 
     @Override
     public boolean supportsParameter(MethodParameter parameter) {
         boolean hasAnnotation = parameter.hasParameterAnnotation(CurrentUser.class);
-        boolean isLongType = Long.class.isAssignableFrom(parameter.getParameterType());
-        return hasAnnotation && isLongType;
+        Class<?> type = parameter.getParameterType();
+        return hasAnnotation && (Long.class.isAssignableFrom(type) || type == LoginUser.class);
     }
 
     @Override
@@ -31,26 +39,26 @@ public class CurrentUserArgumentResolver implements HandlerMethodArgumentResolve
             NativeWebRequest webRequest,
             WebDataBinderFactory binderFactory) {
         HttpServletRequest request = (HttpServletRequest) webRequest.getNativeRequest();
-        HttpSession session = request.getSession(false);
-
-        if (session == null) {
-            throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
-        }
-
-        Object userId = session.getAttribute(LOGIN_USER_ID);
+        // LoginSessionFilter가 세션/토큰에서 확인해 둔 사용자 ID
+        Long userId = LoginSessionService.currentUserId(request);
 
         if (userId == null) {
             throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "로그인이 필요합니다.");
         }
 
-        if (userId instanceof Long) {
+        if (parameter.getParameterType() != LoginUser.class) {
             return userId;
         }
 
-        if (userId instanceof String s) { // 혹시 문자열로 저장됐을 경우 대비
-            return Long.valueOf(s);
+        LoginUser loginUser = (LoginUser) request.getAttribute(LOGIN_USER_ATTRIBUTE);
+        if (loginUser == null) {
+            loginUser = loginUserService.load(userId);
+            if (loginUser == null) {
+                throw new ResponseStatusException(
+                        HttpStatus.UNAUTHORIZED, "유효하지 않은 로그인 정보입니다.");
+            }
+            request.setAttribute(LOGIN_USER_ATTRIBUTE, loginUser);
         }
-
-        throw new ResponseStatusException(HttpStatus.UNAUTHORIZED, "유효하지 않은 로그인 정보입니다.");
+        return loginUser;
     }
 }
@@ -0,0 +1,35 @@
+package com.ll.finhabit.global.session;
+
+import jakarta.servlet.FilterChain;
+import jakarta.servlet.ServletException;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import java.io.IOException;
+import lombok.RequiredArgsConstructor;
+import org.springframework.core.Ordered;
+import org.springframework.core.annotation.Order;
+import org.springframework.stereotype.Component;
+import org.springframework.web.filter.OncePerRequestFilter;
+
+// 요청마다 로그인 사용자 ID를 한 번만 확인해 요청 속성에 넣는다 (LoginCheckInterceptor / @CurrentUser 공용)
+@Component
+@Order(LoginSessionFilter.ORDER)
+@RequiredArgsConstructor
+public class LoginSessionFilter extends OncePerRequestFilter {
+
+    // 로그인 사용자가 필요한 필터(IdempotencyRequestBodyFilter)는 이 뒤에 둔다
+    public static final int ORDER = Ordered.LOWEST_PRECEDENCE - 10;
+
+    private final LoginSessionService loginSessionService;
+
+    @Override
+    protected void doFilterInternal(
+            HttpServletRequest request, HttpServletResponse response, FilterChain filterChain)
+            throws ServletException, IOException {
+        Long userId = loginSessionService.resolve(request, response);
+        if (userId != null) {
+            request.setAttribute(LoginSessionService.USER_ID_ATTRIBUTE, userId);
+        }
+        filterChain.doFilter(request, response);
+    }
+}
@@ -0,0 +1,145 @@
+package com.ll.finhabit.global.session;
+
+import com.ll.finhabit.global.session.SessionTokenCodec.SessionToken;
+import jakarta.servlet.http.Cookie;
+import jakarta.servlet.http.HttpServletRequest;
+import jakarta.servlet.http.HttpServletResponse;
+import jakarta.servlet.http.HttpSession;
+import java.time.Duration;
+import java.time.Instant;
+import java.util.List;
+import org.springframework.beans.factory.annotation.Value;
+import org.springframework.http.HttpHeaders;
+import org.springframework.http.ResponseCookie;
+import org.springframework.stereotype.Component;
+
+/**
+ * 로그인 상태 저장/조회.
+ *
+ * <ul>
+ *   <li>servlet (기본): 기존처럼 HttpSession에 LOGIN_USER_ID 저장 (인스턴스 1대 또는 sticky session 필요)
+ *   <li>token: 서버에 상태를 두지 않고 HMAC 서명 토큰을 쿠키로 발급 (라운드 로빈 뒤에 여러 대 운영 가능)
+ * </ul>
+ *
+ * <p>요청의 사용자 ID는 {@link LoginSessionFilter}가 요청마다 한 번 확인해 요청 속성에 넣고, 인터셉터/리졸버는 {@link
+ * #currentUserId(HttpServletRequest)}로 꺼내 쓴다.
+ */
+@Component
+public class LoginSessionService {
+
+    public static final String USER_ID_ATTRIBUTE = LoginSessionService.class.getName() + ".userId";
+
+    private static final String LOGIN_USER_ID = "LOGIN_USER_ID"; // HttpSession 키 이름
+
+    private final boolean tokenMode;
+    private final SessionTokenCodec codec;
+    private final Duration ttl;
+    private final String cookieName;
+    private final String sameSite;
+    private final boolean secure;
+
+    public LoginSessionService(
+            @Value("${finhabit.session.mode:servlet}") String mode,
+            @Value("${finhabit.session.token.keys:}") List<String> keys,
+            @Value("${finhabit.session.token.ttl:14d}") Duration ttl,
+            @Value("${finhabit.session.cookie.name:FINHABIT_SESSION}") String cookieName,
+            @Value("${finhabit.session.cookie.same-site:None}") String sameSite,
+            @Value("${finhabit.session.cookie.secure:true}") boolean secure) {
+        this.tokenMode = "token".equalsIgnoreCase(mode);
+        this.codec =
+                tokenMode
+                        ? new SessionTokenCodec(keys.stream().filter(k -> !k.isBlank()).toList())
+                        : null;
+        this.ttl = ttl;
+        this.cookieName = cookieName;
+        this.sameSite = sameSite;
+        this.secure = secure;
+    }
+
+    public static Long currentUserId(HttpServletRequest request) {
+        return (Long) request.getAttribute(USER_ID_ATTRIBUTE);
+    }
+
+    // LoginSessionFilter에서 요청마다 한 번 호출
+    Long resolve(HttpServletRequest request, HttpServletResponse response) {
+        if (!tokenMode) {
+            HttpSession session = request.getSession(false);
+            return session != null ? toUserId(session.getAttribute(LOGIN_USER_ID)) : null;
+        }
+
+        String token = readCookie(request);
+        if (token == null) {
+            return null;
+        }
+        long now = Instant.now().getEpochSecond();
+        SessionToken verified = codec.verify(token, now);
+        if (verified == null) {
+            return null;
+        }
+        // 남은 기간이 절반 아래로 내려가면 새 토큰으로 연장 (HttpSession의 활동 기준 만료와 같은 효과)
+        if (verified.expiresAtEpochSecond() - now < ttl.toSeconds() / 2) {
+            writeToken(response, verified.userId(), now);
+        }
+        return verified.userId();
+    }
+
+    public void login(HttpServletRequest request, HttpServletResponse response, Long userId) {
+        if (tokenMode) {
+            writeToken(response, userId, Instant.now().getEpochSecond());
+        } else {
+            request.getSession().setAttribute(LOGIN_USER_ID, userId);
+        }
+        request.setAttribute(USER_ID_ATTRIBUTE, userId);
+    }
+
+    // 토큰은 서버에 상태가 없으므로 쿠키만 지운다 (탈취된 토큰은 만료 또는 서명 키 교체로 무효화)
+    public void logout(HttpServletRequest request, HttpServletResponse response) {
+        if (tokenMode) {
+            response.addHeader(HttpHeaders.SET_COOKIE, cookie("", Duration.ZERO).toString());
+        } else {
+            HttpSession session = request.getSession(false);
+            if (session != null) {
+                session.invalidate();
+            }
+        }
+        request.removeAttribute(USER_ID_ATTRIBUTE);
+    }
+
+    private void writeToken(HttpServletResponse response, long userId, long nowEpochSecond) {
+        String token = codec.issue(userId, nowEpochSecond + ttl.toSeconds());
+        response.addHeader(HttpHeaders.SET_COOKIE, cookie(token, ttl).toString());
+    }
+
+    private ResponseCookie cookie(String value, Duration maxAge) {
+        return ResponseCookie.from(cookieName, value)
+                .httpOnly(true)
+                .secure(secure)
+                .sameSite(sameSite)
+                .path("/")
+                .maxAge(maxAge)
+                .build();
+    }
+
+    private String readCookie(HttpServletRequest request) {
+        Cookie[] cookies = request.getCookies();
+        if (cookies == null) {
+            return null;
+        }
+        for (Cookie cookie : cookies) {
+            if (cookieName.equals(cookie.getName())) {
+                return cookie.getValue();
+            }
+        }
+        return null;
+    }
+
+    private static Long toUserId(Object value) {
+        if (value instanceof Long userId) {
+            return userId;
+        }
+        if (value instanceof String s) { // 혹시 문자열로 저장됐을 경우 대비
+            return Long.valueOf(s);
+        }
+        return null;
+    }
+}
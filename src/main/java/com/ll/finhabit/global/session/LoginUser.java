@@ -0,0 +1,9 @@
+package com.ll.finhabit.global.session;
+
+/**
+ * 로그인 사용자: 대부분의 API가 필요로 하는 값(ID, 레벨, 알림 설정)만 담은 요청 단위 principal.
+ *
+ * <p>{@code @CurrentUser LoginUser}로 주입하면 요청당 한 번 (짧은 TTL 캐시에 있으면 0번) 조회된다. 엔티티가 필요할 때는
+ * {@code userRepository.getReferenceById(id)}로 조회 없이 연관관계만 건다.
+ */
+public record LoginUser(Long id, Integer level, Boolean notificationEnabled) {}
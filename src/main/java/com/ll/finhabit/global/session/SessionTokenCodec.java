@@ -0,0 +1,137 @@
+package com.ll.finhabit.global.session;
+
+import java.nio.charset.StandardCharsets;
+import java.security.GeneralSecurityException;
+import java.util.ArrayList;
+import java.util.Base64;
+import java.util.List;
+import javax.crypto.Mac;
+import javax.crypto.spec.SecretKeySpec;
+
+/**
+ * HMAC-SHA256 서명 세션 토큰: {@code {kid}.{userId(36진수)}.{만료 epoch초(36진수)}.{서명(base64url)}}.
+ *
+ * <p>키 목록의 첫 번째 키로 서명하고, 나머지 키는 검증에만 쓴다. 키를 교체할 때는 새 키를 맨 앞에 추가하고 이전 키를 토큰 TTL 동안 뒤에 남겨두면
+ * 로그인이 끊기지 않는다. 검증은 문자열을 나누거나 JSON을 파싱하지 않고 구분자 위치만으로 처리한다.
+ */
+public class SessionTokenCodec {
+
+    private static final String ALGORITHM = "HmacSHA256";
+    private static final int MIN_SECRET_BYTES = 32;
+    private static final Base64.Encoder SIGNATURE_ENCODER = Base64.getUrlEncoder().withoutPadding();
+
+    private final List<SigningKey> keys;
+
+    // keys: "kid:base64비밀키" 목록, 첫 번째가 서명 키
+    public SessionTokenCodec(List<String> keys) {
+        if (keys.isEmpty()) {
+            throw new IllegalStateException("세션 토큰 서명 키가 없습니다. (finhabit.session.token.keys)");
+        }
+        this.keys = new ArrayList<>(keys.size());
+        for (String key : keys) {
+            this.keys.add(SigningKey.parse(key.strip()));
+        }
+    }
+
+    public String issue(long userId, long expiresAtEpochSecond) {
+        SigningKey key = keys.get(0);
+        String payload =
+                key.id()
+                        + "."
+                        + Long.toString(userId, 36)
+                        + "."
+                        + Long.toString(expiresAtEpochSecond, 36);
+        byte[] payloadBytes = payload.getBytes(StandardCharsets.US_ASCII);
+        return payload
+                + "."
+                + SIGNATURE_ENCODER.encodeToString(key.sign(payloadBytes, payloadBytes.length));
+    }
+
+    // 서명/만료가 유효하면 토큰, 아니면 null
+    public SessionToken verify(String token, long nowEpochSecond) {
+        int kidEnd = token.indexOf('.');
+        int userIdEnd = kidEnd > 0 ? token.indexOf('.', kidEnd + 1) : -1;
+        int payloadEnd = userIdEnd > 0 ? token.indexOf('.', userIdEnd + 1) : -1;
+        if (payloadEnd < 0 || token.indexOf('.', payloadEnd + 1) >= 0) {
+            return null;
+        }
+
+        SigningKey key = findKey(token, kidEnd);
+        if (key == null) {
+            return null;
+        }
+
+        long userId;
+        long expiresAt;
+        try {
+            userId = Long.parseLong(token, kidEnd + 1, userIdEnd, 36);
+            expiresAt = Long.parseLong(token, userIdEnd + 1, payloadEnd, 36);
+        } catch (NumberFormatException e) {
+            return null;
+        }
+        if (expiresAt <= nowEpochSecond) {
+            return null;
+        }
+
+        byte[] tokenBytes = token.getBytes(StandardCharsets.US_ASCII);
+        byte[] expected = SIGNATURE_ENCODER.encode(key.sign(tokenBytes, payloadEnd));
+        if (!constantTimeEquals(expected, tokenBytes, payloadEnd + 1)) {
+            return null;
+        }
+        return new SessionToken(userId, expiresAt);
+    }
+
+    private SigningKey findKey(String token, int kidEnd) {
+        for (SigningKey key : keys) {
+            if (key.id().length() == kidEnd && token.startsWith(key.id())) {
+                return key;
+            }
+        }
+        return null;
+    }
+
+    private static boolean constantTimeEquals(byte[] expected, byte[] token, int offset) {
+        if (token.length - offset != expected.length) {
+            return false;
+        }
+        int diff = 0;
+        for (int i = 0; i < expected.length; i++) {
+            diff |= expected[i] ^ token[offset + i];
+        }
+        return diff == 0;
+    }
+
+    public record SessionToken(long userId, long expiresAtEpochSecond) {}
+
+    private record SigningKey(String id, Mac prototype) {
+
+        static SigningKey parse(String value) {
+            int separator = value.indexOf(':');
+            if (separator <= 0 || value.substring(0, separator).contains(".")) {
+                throw new IllegalStateException("세션 토큰 키 형식은 kid:base64비밀키 입니다.");
+            }
+            byte[] secret = Base64.getDecoder().decode(value.substring(separator + 1));
+            if (secret.length < MIN_SECRET_BYTES) {
+                throw new IllegalStateException("세션 토큰 비밀키는 32바이트 이상이어야 합니다.");
+            }
+            try {
+                Mac mac = Mac.getInstance(ALGORITHM);
+                mac.init(new SecretKeySpec(secret, ALGORITHM));
+                return new SigningKey(value.substring(0, separator), mac);
+            } catch (GeneralSecurityException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+
+        // 키 초기화가 끝난 Mac을 복제해 요청마다 getInstance/init 하지 않는다 (스레드마다 별도 인스턴스 필요)
+        byte[] sign(byte[] data, int length) {
+            try {
+                Mac mac = (Mac) prototype.clone();
+                mac.update(data, 0, length);
+                return mac.doFinal();
+            } catch (CloneNotSupportedException e) {
+                throw new IllegalStateException(e);
+            }
+        }
+    }
+}
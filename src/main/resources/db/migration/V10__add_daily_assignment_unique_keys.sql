@@ -0,0 +1,29 @@
+-- 하루 한 장/한 문제 배정 보장: 여러 인스턴스의 배정 작업이나 동시 요청이 같은 날짜를 두 번 배정하지 못하게 한다
+-- (중복 행이 있으면 Optional 조회가 IncorrectResultSize로 실패)
+
+-- 이미 생긴 중복 정리: 같은 (유저, 날짜)에서 가장 먼저 만들어진 카드만 남긴다
+delete k
+  from user_knowledge k
+  join user_knowledge o
+    on o.user_id = k.user_id
+   and o.opend_date = k.opend_date
+   and o.id < k.id;
+
+-- 퀴즈는 풀이한 기록을 우선으로 남기고, 같으면 먼저 만들어진 것을 남긴다
+delete q
+  from user_quiz q
+  join user_quiz o
+    on o.user_id = q.user_id
+   and o.attempted_date = q.attempted_date
+   and (o.is_answered > q.is_answered or (o.is_answered = q.is_answered and o.id < q.id));
+
+-- 기존 (유저, 날짜) 조회 인덱스를 같은 컬럼의 유니크 인덱스로 교체
+alter table user_knowledge
+    add unique index uk_user_knowledge_user_opend_date (user_id, opend_date),
+    drop index idx_user_knowledge_user_opend_date,
+    algorithm = inplace, lock = none;
+
+alter table user_quiz
+    add unique index uk_user_quiz_user_attempted_date (user_id, attempted_date),
+    drop index idx_user_quiz_user_attempted_date,
+    algorithm = inplace, lock = none;
@@ -0,0 +1,14 @@
+-- 미션 체크/취소 멱등 처리(MissionService.checkMission/undoMissionCheck): 반영한 요청 키를 키마다 기록
+-- 마지막 키 하나(last_request_key)로는 A → B → A 재전송이 두 번 반영되므로 키별 행으로 바꾼다
+-- FK를 두지 않는다: 자식 insert가 usermission 행에 공유 락을 잡으면 이어지는 UPDATE와 교착 상태가 난다
+-- (삭제는 AuthService.deleteUser가 함께 처리)
+create table usermission_request_key (
+    usermission_id bigint not null,
+    request_key varchar(64) not null,
+    created_at datetime(6) not null,
+    primary key (usermission_id, request_key)
+) engine = InnoDB;
+
+alter table usermission
+    drop column last_request_key,
+    algorithm = inplace, lock = none;
@@ -0,0 +1,7 @@
+-- 가계부 월간 롤업 보정 작업(LedgerRollupRebuildJob) 실행 기록: 실행 날짜별 행을 잠근 인스턴스 하나만 재계산한다
+create table ledger_rollup_rebuild_checkpoint (
+    run_date date not null,
+    completed bit not null,
+    updated_at datetime(6) not null,
+    primary key (run_date)
+) engine = InnoDB;
@@ -0,0 +1,142 @@
+-- 기준 스키마: ddl-auto로 운영하던 기존 DB와 동일 (Hibernate ddl-auto가 만들던 스키마)
+-- 이후에 추가된 테이블/인덱스는 V2부터의 마이그레이션에서 만든다
+-- 이미 ddl-auto로 만들어진 DB는 baselineOnMigrate로 이 버전을 건너뛴다 (FlywayConfig)
+
+create table users (
+    id bigint not null auto_increment,
+    nickname varchar(15) not null,
+    email varchar(50) not null,
+    password varchar(100) not null,
+    level integer not null,
+    primary key (id),
+    constraint uk_users_email unique (email)
+) engine = InnoDB;
+
+create table leveltest (
+    test_id bigint not null auto_increment,
+    test_category varchar(10) not null,
+    test_question varchar(30) not null,
+    test_option1 varchar(20) not null,
+    test_option2 varchar(30) not null,
+    test_option3 varchar(30) not null,
+    test_answer integer not null,
+    primary key (test_id)
+) engine = InnoDB;
+
+create table userlevel (
+    userlevel_id bigint not null auto_increment,
+    user_id bigint not null,
+    test_id bigint not null,
+    is_correct bit not null,
+    user_answer integer not null,
+    primary key (userlevel_id),
+    constraint fk_userlevel_user foreign key (user_id) references users (id),
+    constraint fk_userlevel_test foreign key (test_id) references leveltest (test_id)
+) engine = InnoDB;
+
+create table category (
+    category_id bigint not null auto_increment,
+    category_name varchar(15) not null,
+    type varchar(10) not null,
+    primary key (category_id)
+) engine = InnoDB;
+
+create table ledger (
+    ledger_id bigint not null auto_increment,
+    user_id bigint not null,
+    category_id bigint not null,
+    amount integer not null,
+    merchant varchar(30) not null,
+    date date not null,
+    payment enum ('CARD','CASH','ETC'),
+    primary key (ledger_id),
+    constraint fk_ledger_user foreign key (user_id) references users (id),
+    constraint fk_ledger_category foreign key (category_id) references category (category_id)
+) engine = InnoDB;
+
+create table mission (
+    mission_id bigint not null auto_increment,
+    mission_content varchar(50) not null,
+    mission_level integer not null,
+    total_count integer not null,
+    primary key (mission_id)
+) engine = InnoDB;
+
+create table usermission (
+    usermission_id bigint not null auto_increment,
+    userid bigint not null,
+    mission_id bigint not null,
+    is_completed bit not null,
+    progress integer not null,
+    done_count integer not null,
+    completed_at date,
+    week_start date,
+    assigned_date date,
+    version bigint,
+    primary key (usermission_id),
+    constraint uk_usermission_user_mission_week unique (userid, mission_id, week_start),
+    constraint fk_usermission_user foreign key (userid) references users (id),
+    constraint fk_usermission_mission foreign key (mission_id) references mission (mission_id)
+) engine = InnoDB;
+
+create table daily_finance (
+    id bigint not null auto_increment,
+    finance_id integer,
+    quiz_id integer,
+    card_content text,
+    card_title varchar(30),
+    card_level integer,
+    created_date date,
+    primary key (id)
+) engine = InnoDB;
+
+create table user_knowledge (
+    id bigint not null auto_increment,
+    finance_id integer,
+    user_id bigint,
+    opend_date date,
+    viewed_at date,
+    primary key (id)
+) engine = InnoDB;
+
+create table quiz (
+    id bigint not null auto_increment,
+    quiz_id integer not null,
+    question text not null,
+    option1 varchar(50) not null,
+    option2 varchar(50) not null,
+    option3 varchar(50) not null,
+    answer integer not null,
+    explanation text,
+    primary key (id),
+    constraint uk_quiz_quiz_id unique (quiz_id)
+) engine = InnoDB;
+
+create table user_quiz (
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    quiz_id integer not null,
+    attempted_date date not null,
+    is_answered bit not null,
+    is_correct bit not null,
+    selected_answer integer,
+    primary key (id)
+) engine = InnoDB;
+
+create table notification (
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    type enum ('MISSION','LEARNING','FEEDBACK') not null,
+    title varchar(50) not null,
+    message text not null,
+    created_at datetime(6) not null,
+    primary key (id)
+) engine = InnoDB;
+
+create table notification_setting (
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    enabled bit not null,
+    primary key (id),
+    constraint uk_notification_setting_user unique (user_id)
+) engine = InnoDB;
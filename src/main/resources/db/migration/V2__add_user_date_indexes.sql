@@ -0,0 +1,21 @@
+-- 사용자 + 날짜 조건 조회용 복합 인덱스 (온라인 DDL: 빌드 중에도 읽기/쓰기 가능)
+-- ledger: findAllByUser_IdAndDate(Between), summarizeByCategory
+alter table ledger
+    add index idx_ledger_user_date (user_id, date),
+    algorithm = inplace, lock = none;
+
+-- usermission: findByUser_IdAndAssignedDate / findByUser_IdAndWeekStart
+alter table usermission
+    add index idx_usermission_user_assigned_date (userid, assigned_date),
+    add index idx_usermission_user_week_start (userid, week_start),
+    algorithm = inplace, lock = none;
+
+-- user_quiz: findByUserIdAndAttemptedDate
+alter table user_quiz
+    add index idx_user_quiz_user_attempted_date (user_id, attempted_date),
+    algorithm = inplace, lock = none;
+
+-- user_knowledge: findByUserIdAndOpendDate
+alter table user_knowledge
+    add index idx_user_knowledge_user_opend_date (user_id, opend_date),
+    algorithm = inplace, lock = none;
@@ -0,0 +1,10 @@
+-- 일일 배정 작업(DailyAssignmentJob) 진행 상황: 대상 날짜별로 마지막으로 처리한 유저 ID를 기록해 중단 시 이어서 실행
+create table daily_assignment_checkpoint (
+    target_date date not null,
+    last_user_id bigint not null,
+    processed_users integer not null,
+    failed_users integer not null,
+    completed bit not null,
+    updated_at datetime(6) not null,
+    primary key (target_date)
+) engine = InnoDB;
@@ -0,0 +1,10 @@
+-- 다음 카드 조회(DailyFinanceRepository.findNextUnseenFinanceIds)용 인덱스
+-- user_knowledge: NOT EXISTS (user_id, finance_id) 조건을 인덱스만으로 판정
+alter table user_knowledge
+    add index idx_user_knowledge_user_finance (user_id, finance_id),
+    algorithm = inplace, lock = none;
+
+-- daily_finance: 레벨별 카드를 등록일 순으로 읽기
+alter table daily_finance
+    add index idx_daily_finance_level_created (card_level, created_date),
+    algorithm = inplace, lock = none;
@@ -0,0 +1,24 @@
+-- 유저별/레벨별 지식 카드 진행 커서: 레벨 카탈로그(created_date, id 순)에서 마지막으로 배정한 카드 위치
+create table user_knowledge_progress (
+    id bigint not null auto_increment,
+    user_id bigint not null,
+    card_level integer not null,
+    last_created_date date,
+    last_card_id bigint not null,
+    updated_at datetime(6) not null,
+    primary key (id),
+    constraint uk_user_knowledge_progress_user_level unique (user_id, card_level)
+) engine = InnoDB;
+
+-- 기존 열람 기록으로 1회 채우기: 유저/레벨별로 카탈로그 순서상 가장 뒤에 있는 카드를 커서로 사용
+insert into user_knowledge_progress
+    (user_id, card_level, last_created_date, last_card_id, updated_at)
+select user_id, card_level, created_date, id, now(6)
+  from (select k.user_id, d.card_level, d.created_date, d.id,
+               row_number() over (partition by k.user_id, d.card_level
+                                  order by d.created_date desc, d.id desc) as rn
+          from user_knowledge k
+          join daily_finance d on d.finance_id = k.finance_id
+         where k.user_id is not null
+           and d.card_level is not null) latest
+ where rn = 1;
@@ -0,0 +1,5 @@
+-- 퀴즈 히스토리 상세(UserQuizRepository.findAnsweredDetail): 유저 + 퀴즈 + 풀이 여부로 바로 조회
+-- (user_knowledge(user_id, finance_id)는 V4에서 추가)
+alter table user_quiz
+    add index idx_user_quiz_user_quiz_answered (user_id, quiz_id, is_answered),
+    algorithm = inplace, lock = none;
@@ -0,0 +1,4 @@
+-- 미션 체크/취소 멱등 처리(UserMissionRepository.checkDone/undoDone): 마지막으로 반영한 요청 키
+alter table usermission
+    add column last_request_key varchar(64) null,
+    algorithm = inplace, lock = none;
@@ -0,0 +1,13 @@
+-- Idempotency-Key JDBC 저장소 (finhabit.idempotency.store=jdbc): 키별 처리 상태와 재전송용 응답
+-- store_key = sha256(사용자 + 키), fingerprint = sha256(메소드 + 경로 + 쿼리)
+create table idempotency_key (
+    store_key char(64) not null,
+    fingerprint char(64) not null,
+    completed bit not null,
+    status_code integer,
+    content_type varchar(100),
+    body mediumblob,
+    expires_at datetime(6) not null,
+    primary key (store_key),
+    index idx_idempotency_key_expires_at (expires_at)
+) engine = InnoDB;
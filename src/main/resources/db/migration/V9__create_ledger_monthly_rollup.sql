@@ -0,0 +1,34 @@
+-- 사용자별 월간 가계부 롤업 (LedgerMonthlyRollup)
+-- V1을 건너뛴(baseline) 기존 DB에도 만들어지도록 별도 버전으로 둔다
+-- ddl-auto 시절에 이미 만들어진 DB도 있을 수 있으므로 if not exists
+create table if not exists ledger_monthly_rollup (
+    rollup_id bigint not null auto_increment,
+    user_id bigint not null,
+    month_start date not null,
+    category_id bigint not null,
+    income_total bigint not null,
+    expense_total bigint not null,
+    entry_count integer not null,
+    primary key (rollup_id),
+    constraint uk_ledger_rollup_user_month_category unique (user_id, month_start, category_id),
+    constraint fk_ledger_rollup_category foreign key (category_id) references category (category_id)
+) engine = InnoDB;
+
+-- 원본 가계부로 1회 채우기 (이미 있던 행은 원본 기준 값으로 덮어쓴다)
+insert into ledger_monthly_rollup
+    (user_id, month_start, category_id, income_total, expense_total, entry_count)
+select src.user_id, src.month_start, src.category_id,
+       src.income_total, src.expense_total, src.entry_count
+  from (select l.user_id,
+               l.date - interval (dayofmonth(l.date) - 1) day as month_start,
+               l.category_id,
+               sum(case when c.type = 'income' then l.amount else 0 end) as income_total,
+               sum(case when c.type = 'expense' then l.amount else 0 end) as expense_total,
+               count(*) as entry_count
+          from ledger l
+          join category c on c.category_id = l.category_id
+         group by l.user_id, month_start, l.category_id) src
+on duplicate key update
+    income_total = src.income_total,
+    expense_total = src.expense_total,
+    entry_count = src.entry_count;
@@ -0,0 +1,251 @@
+package com.ll.finhabit.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ll.finhabit.config.JpaConfig;
+import com.ll.finhabit.domain.auth.entity.LevelTest;
+import com.ll.finhabit.domain.auth.entity.UserLevel;
+import com.ll.finhabit.domain.auth.repository.UserLevelRepository;
+import com.ll.finhabit.domain.ledger.dto.LedgerCalendarResponse;
+import com.ll.finhabit.domain.ledger.entity.Ledger;
+import com.ll.finhabit.domain.ledger.repository.LedgerRepository;
+import com.ll.finhabit.domain.ledger.service.LedgerRollupService;
+import com.ll.finhabit.domain.ledger.service.LedgerService;
+import com.ll.finhabit.domain.mission.dto.MissionArchiveResponse;
+import com.ll.finhabit.domain.mission.dto.MissionTodayResponse;
+import com.ll.finhabit.domain.mission.service.MissionService;
+import com.ll.finhabit.domain.notification.dto.NotificationResponse;
+import com.ll.finhabit.domain.notification.service.NotificationService;
+import com.ll.finhabit.global.session.LoginUser;
+import jakarta.persistence.EntityManager;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.function.Supplier;
+import org.hibernate.SessionFactory;
+import org.hibernate.stat.Statistics;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 가계부/미션/알림 서비스 메소드와 EntityGraph를 건 조회가 데이터 양(1, 100, 10,000행)과 관계없이 같은 횟수의 SQL만 실행하는지
+ * Hibernate 통계({@link Statistics#getPrepareStatementCount()})로 확인한다. 연관 엔티티(카테고리/미션/레벨 테스트 문항)를 최대
+ * {@value #DISTINCT_ASSOCIATIONS}개의 서로 다른 행으로 나눠 두므로, 지연 로딩으로 돌아가면 행 수에 따라 실행 횟수가 늘어난다. Docker가
+ * 없으면 건너뛴다.
+ */
+@DataJpaTest(properties = "spring.jpa.properties.hibernate.generate_statistics=true")
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({
+    JpaConfig.class,
+    LedgerService.class,
+    LedgerRollupService.class,
+    MissionService.class,
+    NotificationService.class
+})
+class EntityGraphStatementCountTest {
+
+    private static final int DISTINCT_ASSOCIATIONS = 100;
+    private static final long USER_ID = 1L;
+    private static final LocalDate TODAY = LocalDate.now();
+    private static final LoginUser LOGIN_USER = new LoginUser(USER_ID, 1, true);
+
+    @Container @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.43");
+
+    @Autowired private LedgerService ledgerService;
+    @Autowired private MissionService missionService;
+    @Autowired private NotificationService notificationService;
+    @Autowired private LedgerRepository ledgerRepository;
+    @Autowired private UserLevelRepository userLevelRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManager entityManager;
+
+    private Statistics statistics;
+
+    @BeforeEach
+    void seedUser() {
+        statistics =
+                entityManager
+                        .getEntityManagerFactory()
+                        .unwrap(SessionFactory.class)
+                        .getStatistics();
+
+        jdbcTemplate.update(
+                "insert into users (id, nickname, email, password, level)"
+                        + " values (?, 'owner', 'owner@finhabit.shop', 'pw', 1)",
+                USER_ID);
+    }
+
+    // 캘린더: 카테고리 집계 1 + 상세 리스트(카테고리 포함) 1, 응답 변환(toLedgerResponse)에서 추가 조회 없음
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10_000})
+    void calendarSummaryStatementsDoNotGrow(int rows) {
+        seedLedgers(rows);
+
+        LedgerCalendarResponse response =
+                statementsOf(2, () -> ledgerService.getCalendarSummary(USER_ID, TODAY));
+
+        assertThat(response.getLedgers()).hasSize(rows);
+    }
+
+    // 피드백 카드: 기간 조회(카테고리 포함) 1, 카테고리별 집계(sumByCategory)에서 추가 조회 없음
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10_000})
+    void feedbackCardStatementsDoNotGrow(int rows) {
+        seedLedgers(rows);
+
+        NotificationResponse card =
+                statementsOf(1, () -> notificationService.getFeedbackCard(USER_ID, true));
+
+        assertThat(card.getTitle()).isNotBlank();
+    }
+
+    // 미션 아카이브: 완료 미션 조회(미션 포함) 1, 응답 변환(toDto)에서 추가 조회 없음
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10_000})
+    void missionArchiveStatementsDoNotGrow(int rows) {
+        seedCompletedMissions(rows);
+
+        List<MissionArchiveResponse> archive =
+                statementsOf(1, () -> missionService.getMissionArchive(LOGIN_USER));
+
+        assertThat(archive.stream().mapToInt(week -> week.getMissions().size()).sum())
+                .isEqualTo(rows);
+    }
+
+    // 오늘의 미션: 이미 배정돼 있으면 (유저, 배정일) 조회(미션 포함) 1
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100, 10_000})
+    void todayMissionStatementsDoNotGrow(int rows) {
+        seedCompletedMissions(rows);
+        jdbcTemplate.update(
+                "update usermission set assigned_date = ? where usermission_id = 1", TODAY);
+
+        MissionTodayResponse today =
+                statementsOf(1, () -> missionService.getMissionToday(LOGIN_USER));
+
+        assertThat(today.getTodayMission().getUserMissionId()).isEqualTo(1L);
+    }
+
+    // 수정/삭제용 단건 조회(카테고리 포함)
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100})
+    void ledgerForUpdateFetchesCategory(int rows) {
+        seedLedgers(rows);
+        long ledgerId =
+                jdbcTemplate.queryForObject("select min(ledger_id) from ledger", Long.class);
+
+        String categoryName =
+                statementsOf(
+                        1,
+                        () -> {
+                            Ledger ledger =
+                                    ledgerRepository.findWithCategoryByLedgerId(ledgerId).get();
+                            return ledger.getCategory().getCategoryName();
+                        });
+
+        assertThat(categoryName).isNotBlank();
+    }
+
+    // 레벨 테스트 결과는 서비스 경로가 없어 리포지토리로 확인
+    @ParameterizedTest
+    @ValueSource(ints = {1, 100})
+    void levelResultsFetchTest(int rows) {
+        List<Object[]> tests = new ArrayList<>();
+        List<Object[]> answers = new ArrayList<>();
+        for (int i = 1; i <= rows; i++) {
+            tests.add(new Object[] {i, "문항" + i});
+            answers.add(new Object[] {USER_ID, i});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into leveltest (test_id, test_category, test_question, test_option1,"
+                        + " test_option2, test_option3, test_answer)"
+                        + " values (?, '저축', ?, '1', '2', '3', 1)",
+                tests);
+        jdbcTemplate.batchUpdate(
+                "insert into userlevel (user_id, test_id, is_correct, user_answer)"
+                        + " values (?, ?, 1, 1)",
+                answers);
+
+        List<String> questions =
+                statementsOf(
+                        1,
+                        () ->
+                                userLevelRepository.findByUserId(USER_ID).stream()
+                                        .map(UserLevel::getTest)
+                                        .map(LevelTest::getTestQuestion)
+                                        .toList());
+
+        assertThat(questions).hasSize(rows);
+    }
+
+    // 오늘 날짜 지출 rows건, 카테고리는 최대 DISTINCT_ASSOCIATIONS개를 돌아가며 쓴다
+    private void seedLedgers(int rows) {
+        int categories = Math.min(rows, DISTINCT_ASSOCIATIONS);
+        List<Object[]> categoryRows = new ArrayList<>();
+        for (int c = 1; c <= categories; c++) {
+            categoryRows.add(new Object[] {c, "지출" + c});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into category (category_id, category_name, type) values (?, ?, 'expense')",
+                categoryRows);
+
+        List<Object[]> ledgerRows = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            ledgerRows.add(new Object[] {USER_ID, i % categories + 1, TODAY});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into ledger (user_id, category_id, amount, merchant, date, payment)"
+                        + " values (?, ?, 1000, 'm', ?, 'CARD')",
+                ledgerRows);
+    }
+
+    // 완료된 미션 rows건 (usermission_id 1부터), 미션 템플릿은 최대 DISTINCT_ASSOCIATIONS개, 템플릿이 겹치면 주를 나눈다
+    private void seedCompletedMissions(int rows) {
+        int missions = Math.min(rows, DISTINCT_ASSOCIATIONS);
+        List<Object[]> missionRows = new ArrayList<>();
+        for (int m = 1; m <= missions; m++) {
+            missionRows.add(new Object[] {m, "미션" + m});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into mission (mission_id, mission_content, mission_level, total_count)"
+                        + " values (?, ?, 1, 3)",
+                missionRows);
+
+        LocalDate thisWeek = TODAY.with(DayOfWeek.MONDAY);
+        List<Object[]> userMissionRows = new ArrayList<>();
+        for (int i = 0; i < rows; i++) {
+            userMissionRows.add(
+                    new Object[] {
+                        i + 1, USER_ID, i % missions + 1, thisWeek.minusWeeks(i / missions)
+                    });
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into usermission (usermission_id, userid, mission_id, is_completed,"
+                        + " progress, done_count, week_start, version)"
+                        + " values (?, ?, ?, 1, 100, 3, ?, 0)",
+                userMissionRows);
+    }
+
+    // 영속성 컨텍스트와 통계를 비운 뒤 서비스/조회 + 연관 엔티티 접근까지 실행한 SQL 수가 expected인지 확인
+    private <T> T statementsOf(long expected, Supplier<T> work) {
+        entityManager.clear();
+        statistics.clear();
+        T result = work.get();
+        assertThat(result).isNotNull();
+        assertThat(statistics.getPrepareStatementCount()).isEqualTo(expected);
+        return result;
+    }
+}
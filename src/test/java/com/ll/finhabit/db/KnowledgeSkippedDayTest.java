@@ -0,0 +1,100 @@
+package com.ll.finhabit.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ll.finhabit.config.JpaConfig;
+import com.ll.finhabit.domain.auth.entity.User;
+import com.ll.finhabit.domain.auth.repository.UserRepository;
+import com.ll.finhabit.domain.finance.dto.FinanceCardDto;
+import com.ll.finhabit.domain.finance.repository.UserKnowledgeRepository;
+import com.ll.finhabit.domain.finance.service.FinanceService;
+import com.ll.finhabit.global.session.LoginUser;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 전날 밤 미리 배정한 지식 카드를 열지 않고 하루를 건너뛰어도 그 카드가 소모되지 않는지 확인한다. 건너뛴 카드는 다음 배정 때 다시 배정되고, 열어보지
+ * 않은 카드는 주간/월간 목록에 나오지 않는다. Docker가 없으면 건너뛴다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({JpaConfig.class, FinanceService.class})
+class KnowledgeSkippedDayTest {
+
+    private static final long USER_ID = 1L;
+    private static final LocalDate TODAY = LocalDate.now();
+
+    @Container @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.43");
+
+    @Autowired private FinanceService financeService;
+    @Autowired private UserRepository userRepository;
+    @Autowired private UserKnowledgeRepository userKnowledgeRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seedUserAndCatalog() {
+        jdbcTemplate.update(
+                "insert into users (id, nickname, email, password, level)"
+                        + " values (?, 'owner', 'owner@finhabit.shop', 'pw', 1)",
+                USER_ID);
+        // 레벨 1 카탈로그: 101 → 102 → 103 순서 (등록일 순)
+        for (int i = 1; i <= 3; i++) {
+            jdbcTemplate.update(
+                    "insert into daily_finance (finance_id, card_title, card_content, card_level,"
+                            + " created_date) values (?, ?, 'c', 1, ?)",
+                    100 + i,
+                    "카드" + i,
+                    LocalDate.of(2025, 11, i));
+        }
+    }
+
+    @Test
+    void skippedCardIsShownOnNextVisit() {
+        User user = userRepository.findById(USER_ID).orElseThrow();
+
+        // 어제 카드를 미리 배정했지만 유저가 어제 들어오지 않았다
+        financeService.assignKnowledge(user, TODAY.minusDays(1));
+
+        FinanceCardDto today = financeService.getTodayFinanceKnowledge(loginUser());
+
+        assertThat(today.getFinanceId()).isEqualTo(101);
+        assertThat(today.getOpendDate()).isEqualTo(TODAY);
+        assertThat(userKnowledgeRepository.findByUserIdAndOpendDate(USER_ID, TODAY.minusDays(1)))
+                .isEmpty();
+
+        // 다음 배정은 건너뛴 카드 다음 카드
+        assertThat(financeService.assignKnowledge(user, TODAY.plusDays(1)).getFinanceId())
+                .isEqualTo(102);
+    }
+
+    @Test
+    void unopenedCardIsNotListed() {
+        User user = userRepository.findById(USER_ID).orElseThrow();
+        financeService.assignKnowledge(user, TODAY);
+
+        assertThat(financeService.getWeeklyKnowledge(USER_ID)).isEmpty();
+        assertThat(financeService.getMonthlyKnowledge(USER_ID)).isEmpty();
+
+        financeService.getTodayFinanceKnowledge(loginUser());
+
+        assertThat(financeService.getWeeklyKnowledge(USER_ID))
+                .extracting(FinanceCardDto::getFinanceId)
+                .containsExactly(101);
+    }
+
+    private static LoginUser loginUser() {
+        return new LoginUser(USER_ID, 1, true);
+    }
+}
@@ -0,0 +1,126 @@
+package com.ll.finhabit.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ll.finhabit.config.JpaConfig;
+import com.ll.finhabit.domain.ledger.dto.LedgerExportFormat;
+import com.ll.finhabit.domain.ledger.service.LedgerExportService;
+import java.io.ByteArrayOutputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.json.AutoConfigureJson;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.transaction.annotation.Propagation;
+import org.springframework.transaction.annotation.Transactional;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * {@link LedgerExportService#export}가 작은 힙(-Xmx32m)에서 {@value #ROWS}건을 OOM 없이 내보내는지 MySQL에서 확인한다:
+ * ./gradlew smallHeapTest
+ *
+ * <p>fetch size {@link Integer#MIN_VALUE}로 드라이버가 결과를 한 행씩 스트리밍하지 않거나, 쓰고 난 엔티티를 detach하지 않아 영속성
+ * 컨텍스트에 쌓이면 이 힙에서는 끝까지 읽지 못한다. 카테고리는 join fetch로 같이 읽어 행마다 카테고리 조회가 나가지 않아야 한다. 내보내기는
+ * 비동기 스레드에서 트랜잭션 없이 호출되므로 테스트 트랜잭션을 쓰지 않는다. Docker가 없으면 건너뛴다.
+ */
+@Tag("small-heap")
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@AutoConfigureJson
+@Testcontainers(disabledWithoutDocker = true)
+@Transactional(propagation = Propagation.NOT_SUPPORTED)
+@Import({JpaConfig.class, LedgerExportService.class})
+class LedgerExportStreamingTest {
+
+    // 2건에서 시작해 16번 두 배로 늘린다
+    private static final int DOUBLINGS = 16;
+    private static final int ROWS = 2 << DOUBLINGS;
+    private static final long USER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+
+    @Container @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.43");
+
+    @Autowired private LedgerExportService ledgerExportService;
+
+    // 시드 데이터를 테스트 JVM에 올리지 않도록 DB 안에서 insert ... select로 늘린다
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update(
+                "insert into users (id, nickname, email, password, level) values"
+                        + " (1, 'owner', 'owner@finhabit.shop', 'pw', 1),"
+                        + " (2, 'other', 'other@finhabit.shop', 'pw', 1)");
+        jdbcTemplate.update(
+                "insert into category (category_id, category_name, type)"
+                        + " values (1, '식비', 'expense'), (2, '월급', 'income')");
+        jdbcTemplate.update(
+                "insert into ledger (user_id, category_id, amount, merchant, date, payment) values"
+                        + " (?, 1, 12000, '점심', '2025-12-01', 'CARD'),"
+                        + " (?, 2, 3000000, '회사', '2025-12-02', 'ETC')",
+                USER_ID,
+                USER_ID);
+        for (int i = 0; i < DOUBLINGS; i++) {
+            jdbcTemplate.update(
+                    "insert into ledger (user_id, category_id, amount, merchant, date, payment)"
+                            + " select user_id, category_id, amount, merchant, date, payment"
+                            + " from ledger");
+        }
+        jdbcTemplate.update(
+                "insert into ledger (user_id, category_id, amount, merchant, date, payment)"
+                        + " values (?, 1, 5000, '다른 유저', '2025-12-01', 'CASH')",
+                OTHER_USER_ID);
+    }
+
+    // 다른 유저의 내역은 빠지고, 행마다 join fetch한 카테고리 이름이 들어간다
+    @ParameterizedTest
+    @EnumSource(LedgerExportFormat.class)
+    void exportStreamsAllRowsOfUserWithinSmallHeap(LedgerExportFormat format) {
+        HeadCapturingOutputStream out = new HeadCapturingOutputStream();
+
+        ledgerExportService.export(USER_ID, format, out);
+
+        int headerLines = format == LedgerExportFormat.CSV ? 1 : 0;
+        assertThat(out.lines).isEqualTo(ROWS + headerLines);
+        assertThat(out.head()).contains("식비").contains("점심");
+    }
+
+    // 줄 수만 세고 내용은 앞부분만 남긴다
+    private static final class HeadCapturingOutputStream extends OutputStream {
+
+        private static final int HEAD_BYTES = 1024;
+
+        private final ByteArrayOutputStream head = new ByteArrayOutputStream();
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (head.size() < HEAD_BYTES) {
+                head.write(b);
+            }
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                write(b[i]);
+            }
+        }
+
+        String head() {
+            return head.toString(StandardCharsets.UTF_8);
+        }
+    }
+}
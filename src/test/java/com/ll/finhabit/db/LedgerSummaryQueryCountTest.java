@@ -0,0 +1,128 @@
+package com.ll.finhabit.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ll.finhabit.config.JpaConfig;
+import com.ll.finhabit.domain.ledger.dto.LedgerCalendarResponse;
+import com.ll.finhabit.domain.ledger.dto.LedgerHomeResponse;
+import com.ll.finhabit.domain.ledger.service.LedgerRollupService;
+import com.ll.finhabit.domain.ledger.service.LedgerService;
+import com.ll.finhabit.global.jpa.QueryCounter;
+import jakarta.persistence.EntityManager;
+import java.time.LocalDate;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 가계부 캘린더/홈 요약이 내역 수와 관계없이 고정된 횟수의 SQL만 실행하는지 {@link QueryCounter}로 확인한다.
+ *
+ * <p>캘린더: 카테고리 집계 1 + 상세 리스트 1, 홈: 오늘 카테고리 집계 1 + 오늘 지출 리스트 1 + 월간 롤업 1. 카테고리를 지연 로딩하면
+ * 카테고리 수만큼 늘어난다. Docker가 없으면 건너뛴다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({JpaConfig.class, LedgerService.class, LedgerRollupService.class})
+class LedgerSummaryQueryCountTest {
+
+    private static final long USER_ID = 1L;
+    private static final int EXPENSE_CATEGORIES = 5;
+    private static final long INCOME_CATEGORY_ID = EXPENSE_CATEGORIES + 1;
+    private static final LocalDate DATE = LocalDate.of(2025, 12, 18);
+
+    @Container @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.43");
+
+    @Autowired private LedgerService ledgerService;
+    @Autowired private JdbcTemplate jdbcTemplate;
+    @Autowired private EntityManager entityManager;
+
+    @BeforeEach
+    void seedUserAndCategories() {
+        jdbcTemplate.update(
+                "insert into users (id, nickname, email, password, level)"
+                        + " values (?, 'owner', 'owner@finhabit.shop', 'pw', 1)",
+                USER_ID);
+        for (long id = 1; id <= EXPENSE_CATEGORIES; id++) {
+            jdbcTemplate.update(
+                    "insert into category (category_id, category_name, type)"
+                            + " values (?, ?, 'expense')",
+                    id,
+                    "지출" + id);
+        }
+        jdbcTemplate.update(
+                "insert into category (category_id, category_name, type)"
+                        + " values (?, '월급', 'income')",
+                INCOME_CATEGORY_ID);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 40})
+    void calendarSummaryRunsTwoStatements(int ledgers) {
+        seedLedgers(ledgers);
+
+        QueryCounter.start();
+        LedgerCalendarResponse response = ledgerService.getCalendarSummary(USER_ID, DATE);
+        int statements = QueryCounter.stop();
+
+        assertThat(response.getLedgers()).hasSize(ledgers + 1);
+        assertThat(statements).isEqualTo(2);
+    }
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 40})
+    void homeSummaryRunsThreeStatements(int ledgers) {
+        seedLedgers(ledgers);
+
+        QueryCounter.start();
+        LedgerHomeResponse response = ledgerService.getLedgerHome(USER_ID, DATE);
+        int statements = QueryCounter.stop();
+
+        assertThat(response.getToday().getLedgers()).hasSize(ledgers);
+        assertThat(response.getMonthSummary().getCategories())
+                .hasSize(Math.min(ledgers, EXPENSE_CATEGORIES));
+        assertThat(statements).isEqualTo(3);
+    }
+
+    // 지출 내역을 카테고리마다 돌아가며 넣고 수입 1건을 더한 뒤, 월간 롤업을 원본 기준으로 채운다
+    private void seedLedgers(int ledgers) {
+        for (int i = 0; i < ledgers; i++) {
+            jdbcTemplate.update(
+                    "insert into ledger (user_id, category_id, amount, merchant, date, payment)"
+                            + " values (?, ?, ?, 'm', ?, 'CARD')",
+                    USER_ID,
+                    i % EXPENSE_CATEGORIES + 1,
+                    1000 + i,
+                    DATE);
+        }
+        jdbcTemplate.update(
+                "insert into ledger (user_id, category_id, amount, merchant, date)"
+                        + " values (?, ?, 3000000, 'salary', ?)",
+                USER_ID,
+                INCOME_CATEGORY_ID,
+                DATE);
+        jdbcTemplate.update(
+                "insert into ledger_monthly_rollup"
+                        + " (user_id, month_start, category_id, income_total, expense_total,"
+                        + " entry_count)"
+                        + " select l.user_id, ?, l.category_id,"
+                        + " sum(case when c.type = 'income' then l.amount else 0 end),"
+                        + " sum(case when c.type = 'expense' then l.amount else 0 end), count(*)"
+                        + " from ledger l join category c on c.category_id = l.category_id"
+                        + " group by l.user_id, l.category_id",
+                DATE.withDayOfMonth(1));
+
+        // 시드 데이터가 영속성 컨텍스트에 남아 조회를 대신하지 않도록 비운다
+        entityManager.clear();
+    }
+}
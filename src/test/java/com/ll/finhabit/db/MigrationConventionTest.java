@@ -0,0 +1,64 @@
+package com.ll.finhabit.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.regex.Pattern;
+import org.junit.jupiter.api.Test;
+import org.springframework.core.io.Resource;
+import org.springframework.core.io.support.PathMatchingResourcePatternResolver;
+
+/**
+ * 마이그레이션 작성 규칙 검사: 기준 스키마(V1) 이후의 인덱스/컬럼 추가는 운영 중인 테이블을 잠그지 않도록 온라인 DDL
+ * ({@code ALGORITHM=INPLACE, LOCK=NONE})로 작성한다.
+ */
+class MigrationConventionTest {
+
+    private static final Pattern COMMENT = Pattern.compile("--[^\\n]*");
+    private static final Pattern CREATE_INDEX =
+            Pattern.compile("^create\\s+(unique\\s+)?index\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ALTER_TABLE =
+            Pattern.compile("^alter\\s+table\\b", Pattern.CASE_INSENSITIVE);
+    private static final Pattern ONLINE =
+            Pattern.compile(
+                    "algorithm\\s*=\\s*inplace\\s*,\\s*lock\\s*=\\s*none",
+                    Pattern.CASE_INSENSITIVE);
+
+    @Test
+    void indexAndColumnChangesUseOnlineDdl() throws IOException {
+        List<String> violations = new ArrayList<>();
+
+        for (Resource resource :
+                new PathMatchingResourcePatternResolver()
+                        .getResources("classpath:db/migration/V*__*.sql")) {
+            String filename = resource.getFilename();
+            if (filename == null || filename.startsWith("V1__")) {
+                continue;
+            }
+
+            String sql =
+                    COMMENT.matcher(resource.getContentAsString(StandardCharsets.UTF_8))
+                            .replaceAll("");
+            for (String statement : sql.split(";")) {
+                String trimmed = statement.strip().replaceAll("\\s+", " ");
+                if (trimmed.isEmpty()) {
+                    continue;
+                }
+                if (CREATE_INDEX.matcher(trimmed).find()) {
+                    violations.add(
+                            filename
+                                    + ": CREATE INDEX 대신 ALTER TABLE ... ADD INDEX 사용 → "
+                                    + trimmed);
+                } else if (ALTER_TABLE.matcher(trimmed).find()
+                        && !ONLINE.matcher(trimmed).find()) {
+                    violations.add(filename + ": ALGORITHM=INPLACE, LOCK=NONE 누락 → " + trimmed);
+                }
+            }
+        }
+
+        assertThat(violations).isEmpty();
+    }
+}
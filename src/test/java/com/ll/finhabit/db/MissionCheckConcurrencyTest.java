@@ -0,0 +1,235 @@
+package com.ll.finhabit.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ll.finhabit.domain.mission.repository.UserMissionRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.function.IntFunction;
+import org.flywaydb.core.Flyway;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.jdbc.core.namedparam.NamedParameterJdbcTemplate;
+import org.springframework.jdbc.datasource.DataSourceTransactionManager;
+import org.springframework.jdbc.datasource.DriverManagerDataSource;
+import org.springframework.transaction.support.TransactionTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 미션 체크/취소 조건부 UPDATE({@link UserMissionRepository#CHECK_DONE_SQL}, {@link
+ * UserMissionRepository#UNDO_DONE_SQL})를 요청 키 기록({@link
+ * UserMissionRepository#CLAIM_REQUEST_KEY_SQL})과 한 트랜잭션으로 여러 스레드에서 한 미션에 동시에 실행해 갱신이 빠지거나
+ * totalCount를 넘지 않는지 확인한다. Docker가 없으면 건너뛴다.
+ */
+@Testcontainers(disabledWithoutDocker = true)
+class MissionCheckConcurrencyTest {
+
+    private static final int TOTAL_COUNT = 50;
+    private static final int THREADS = 32;
+    private static final int REQUESTS = 80;
+    private static final long OWNER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+    private static final long USER_MISSION_ID = 1L;
+    private static final long ZERO_TOTAL_USER_MISSION_ID = 2L;
+    private static final LocalDate TODAY = LocalDate.of(2025, 12, 18);
+
+    @Container static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.43");
+
+    private static NamedParameterJdbcTemplate jdbc;
+    private static TransactionTemplate transaction;
+
+    @BeforeAll
+    static void migrateAndSeed() {
+        Flyway.configure()
+                .dataSource(MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword())
+                .load()
+                .migrate();
+
+        DriverManagerDataSource dataSource =
+                new DriverManagerDataSource(
+                        MYSQL.getJdbcUrl(), MYSQL.getUsername(), MYSQL.getPassword());
+        jdbc = new NamedParameterJdbcTemplate(dataSource);
+        transaction = new TransactionTemplate(new DataSourceTransactionManager(dataSource));
+        jdbc.getJdbcTemplate()
+                .update(
+                        "insert into users (id, nickname, email, password, level) values"
+                                + " (1, 'owner', 'owner@finhabit.shop', 'pw', 1),"
+                                + " (2, 'other', 'other@finhabit.shop', 'pw', 1)");
+        jdbc.getJdbcTemplate()
+                .update(
+                        "insert into mission (mission_id, mission_content, mission_level,"
+                                + " total_count) values (1, '커피 줄이기', 1, ?),"
+                                + " (2, '횟수 없는 미션', 1, 0)",
+                        TOTAL_COUNT);
+        jdbc.getJdbcTemplate()
+                .update(
+                        "insert into usermission (usermission_id, userid, mission_id,"
+                                + " is_completed, progress, done_count, version)"
+                                + " values (?, ?, 1, 0, 0, 0, 0), (?, ?, 2, 0, 0, 0, 0)",
+                        USER_MISSION_ID,
+                        OWNER_ID,
+                        ZERO_TOTAL_USER_MISSION_ID,
+                        OWNER_ID);
+    }
+
+    @BeforeEach
+    void resetProgress() {
+        jdbc.getJdbcTemplate()
+                .update(
+                        "update usermission set is_completed = 0, progress = 0, done_count = 0,"
+                                + " completed_at = null, version = 0");
+        jdbc.getJdbcTemplate().update("delete from usermission_request_key");
+    }
+
+    @Test
+    void concurrentChecksAreAllAppliedUpToTotalCount() throws Exception {
+        int applied = runConcurrently(i -> check(OWNER_ID, "check-" + i));
+
+        assertThat(applied).isEqualTo(TOTAL_COUNT);
+        Map<String, Object> row = loadUserMission();
+        assertThat(row.get("done_count")).isEqualTo(TOTAL_COUNT);
+        assertThat(row.get("progress")).isEqualTo(100);
+        assertThat(row.get("is_completed")).isEqualTo(true);
+        assertThat(row.get("completed_at")).isEqualTo(java.sql.Date.valueOf(TODAY));
+        assertThat(row.get("version")).isEqualTo((long) TOTAL_COUNT);
+    }
+
+    @Test
+    void concurrentUndosStopAtZero() throws Exception {
+        runConcurrently(i -> check(OWNER_ID, "check-" + i));
+
+        int applied = runConcurrently(i -> undo(OWNER_ID, "undo-" + i));
+
+        assertThat(applied).isEqualTo(TOTAL_COUNT);
+        Map<String, Object> row = loadUserMission();
+        assertThat(row.get("done_count")).isEqualTo(0);
+        assertThat(row.get("progress")).isEqualTo(0);
+        assertThat(row.get("is_completed")).isEqualTo(false);
+        assertThat(row.get("completed_at")).isNull();
+    }
+
+    @Test
+    void repeatedRequestKeyIsAppliedOnce() throws Exception {
+        int applied = runConcurrently(i -> check(OWNER_ID, "double-tap"));
+
+        assertThat(applied).isEqualTo(1);
+        Map<String, Object> row = loadUserMission();
+        assertThat(row.get("done_count")).isEqualTo(1);
+        assertThat(row.get("progress")).isEqualTo(2);
+        assertThat(row.get("is_completed")).isEqualTo(false);
+    }
+
+    @Test
+    void requestKeyRetriedAfterAnotherKeyIsNotAppliedAgain() {
+        check(USER_MISSION_ID, OWNER_ID, "A");
+        check(USER_MISSION_ID, OWNER_ID, "B");
+
+        assertThat(check(USER_MISSION_ID, OWNER_ID, "A")).isZero();
+        assertThat(undo(OWNER_ID, "B")).isZero();
+        assertThat(loadUserMission().get("done_count")).isEqualTo(2);
+    }
+
+    @Test
+    void missionWithoutTotalCountDoesNotDivideByZero() {
+        assertThat(check(ZERO_TOTAL_USER_MISSION_ID, OWNER_ID, null)).isEqualTo(1);
+
+        Map<String, Object> row =
+                jdbc.getJdbcTemplate()
+                        .queryForMap(
+                                "select done_count, progress, is_completed from usermission"
+                                        + " where usermission_id = ?",
+                                ZERO_TOTAL_USER_MISSION_ID);
+        assertThat(row.get("done_count")).isEqualTo(0);
+        assertThat(row.get("progress")).isEqualTo(0);
+        assertThat(row.get("is_completed")).isEqualTo(true);
+    }
+
+    @Test
+    void otherUsersMissionIsNotUpdated() throws Exception {
+        int applied = runConcurrently(i -> check(OTHER_USER_ID, "check-" + i));
+
+        assertThat(applied).isZero();
+        assertThat(loadUserMission().get("done_count")).isEqualTo(0);
+    }
+
+    // 출발 신호를 맞춰 REQUESTS개의 요청을 THREADS개 스레드에서 동시에 실행하고 갱신된 행 수의 합을 반환
+    private static int runConcurrently(IntFunction<Integer> request) throws Exception {
+        ExecutorService executor = Executors.newFixedThreadPool(THREADS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> results = new ArrayList<>();
+            for (int i = 0; i < REQUESTS; i++) {
+                int index = i;
+                results.add(
+                        executor.submit(
+                                () -> {
+                                    start.await();
+                                    return request.apply(index);
+                                }));
+            }
+            start.countDown();
+
+            int applied = 0;
+            for (Future<Integer> result : results) {
+                applied += result.get();
+            }
+            return applied;
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    private static int check(long userId, String requestKey) {
+        return check(USER_MISSION_ID, userId, requestKey);
+    }
+
+    private static int check(long userMissionId, long userId, String requestKey) {
+        Map<String, Object> params = params(userMissionId, userId, requestKey);
+        params.put("today", TODAY);
+        return applyOnce(UserMissionRepository.CHECK_DONE_SQL, params);
+    }
+
+    private static int undo(long userId, String requestKey) {
+        return applyOnce(
+                UserMissionRepository.UNDO_DONE_SQL, params(USER_MISSION_ID, userId, requestKey));
+    }
+
+    // MissionService와 같은 순서: 요청 키를 먼저 기록하고, 처음 본 키일 때만 같은 트랜잭션에서 UPDATE
+    private static int applyOnce(String updateSql, Map<String, Object> params) {
+        return transaction.execute(
+                status -> {
+                    if (params.get("requestKey") != null
+                            && jdbc.update(UserMissionRepository.CLAIM_REQUEST_KEY_SQL, params)
+                                    == 0) {
+                        return 0;
+                    }
+                    return jdbc.update(updateSql, params);
+                });
+    }
+
+    private static Map<String, Object> params(long userMissionId, long userId, String requestKey) {
+        Map<String, Object> params = new HashMap<>();
+        params.put("userMissionId", userMissionId);
+        params.put("userId", userId);
+        params.put("requestKey", requestKey);
+        return params;
+    }
+
+    private static Map<String, Object> loadUserMission() {
+        return jdbc.getJdbcTemplate()
+                .queryForMap(
+                        "select done_count, progress, is_completed, completed_at, version"
+                                + " from usermission where usermission_id = ?",
+                        USER_MISSION_ID);
+    }
+}
@@ -0,0 +1,110 @@
+package com.ll.finhabit.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ll.finhabit.config.JpaConfig;
+import com.ll.finhabit.domain.mission.dto.MissionProgressDto;
+import com.ll.finhabit.domain.mission.repository.UserMissionRepository;
+import com.ll.finhabit.domain.mission.service.MissionService;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Import;
+import org.springframework.http.HttpStatus;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.web.server.ResponseStatusException;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 미션 체크/취소를 {@link MissionService}로 호출해 조건부 UPDATE 뒤의 조회가 갱신된 행을 돌려주는지, 요청 키가 키마다 한 번만
+ * 반영되는지 확인한다. Docker가 없으면 건너뛴다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+@Import({JpaConfig.class, MissionService.class})
+class MissionCheckServiceTest {
+
+    private static final long OWNER_ID = 1L;
+    private static final long OTHER_USER_ID = 2L;
+    private static final long USER_MISSION_ID = 1L;
+    private static final long ZERO_TOTAL_USER_MISSION_ID = 2L;
+
+    @Container @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.43");
+
+    @Autowired private MissionService missionService;
+    @Autowired private UserMissionRepository userMissionRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update(
+                "insert into users (id, nickname, email, password, level) values"
+                        + " (1, 'owner', 'owner@finhabit.shop', 'pw', 1),"
+                        + " (2, 'other', 'other@finhabit.shop', 'pw', 1)");
+        jdbcTemplate.update(
+                "insert into mission (mission_id, mission_content, mission_level, total_count)"
+                        + " values (1, '커피 줄이기', 1, 3), (2, '횟수 없는 미션', 1, 0)");
+        jdbcTemplate.update(
+                "insert into usermission (usermission_id, userid, mission_id, is_completed,"
+                        + " progress, done_count, version)"
+                        + " values (1, 1, 1, 0, 0, 0, 0), (2, 1, 2, 0, 0, 0, 0)");
+    }
+
+    @Test
+    void checkReturnsUpdatedRowEvenWhenAlreadyLoaded() {
+        // 영속성 컨텍스트에 갱신 전 엔티티를 올려 둔다 (clearAutomatically가 없으면 이 값이 응답된다)
+        userMissionRepository.findWithMissionByUsermissionId(USER_MISSION_ID).orElseThrow();
+
+        MissionProgressDto progress = missionService.checkMission(OWNER_ID, USER_MISSION_ID, null);
+
+        assertThat(progress.getDoneCount()).isEqualTo(1);
+        assertThat(progress.getProgress()).isEqualTo(33);
+        assertThat(progress.getCompleted()).isFalse();
+    }
+
+    @Test
+    void requestKeyRetriedAfterAnotherKeyIsNotAppliedAgain() {
+        missionService.checkMission(OWNER_ID, USER_MISSION_ID, "A");
+        missionService.checkMission(OWNER_ID, USER_MISSION_ID, "B");
+
+        MissionProgressDto retried = missionService.checkMission(OWNER_ID, USER_MISSION_ID, "A");
+
+        assertThat(retried.getDoneCount()).isEqualTo(2);
+        assertThat(missionService.undoMissionCheck(OWNER_ID, USER_MISSION_ID, "C").getDoneCount())
+                .isEqualTo(1);
+        assertThat(missionService.undoMissionCheck(OWNER_ID, USER_MISSION_ID, "C").getDoneCount())
+                .isEqualTo(1);
+    }
+
+    @Test
+    void missionWithoutTotalCountCompletesWithZeroProgress() {
+        MissionProgressDto progress =
+                missionService.checkMission(OWNER_ID, ZERO_TOTAL_USER_MISSION_ID, null);
+
+        assertThat(progress.getDoneCount()).isZero();
+        assertThat(progress.getProgress()).isZero();
+        assertThat(progress.getCompleted()).isTrue();
+    }
+
+    @Test
+    void otherUsersMissionIsForbidden() {
+        assertThatThrownBy(() -> missionService.checkMission(OTHER_USER_ID, USER_MISSION_ID, "A"))
+                .isInstanceOfSatisfying(
+                        ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.FORBIDDEN));
+        assertThat(
+                        jdbcTemplate.queryForObject(
+                                "select done_count from usermission where usermission_id = ?",
+                                Integer.class,
+                                USER_MISSION_ID))
+                .isZero();
+    }
+}
@@ -0,0 +1,207 @@
+package com.ll.finhabit.db;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ll.finhabit.domain.finance.repository.UserKnowledgeRepository;
+import com.ll.finhabit.domain.finance.repository.UserQuizRepository;
+import com.ll.finhabit.domain.ledger.repository.LedgerRepository;
+import com.ll.finhabit.domain.mission.repository.UserMissionRepository;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+import java.util.stream.Stream;
+import org.hibernate.cfg.AvailableSettings;
+import org.hibernate.resource.jdbc.spi.StatementInspector;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.Arguments;
+import org.junit.jupiter.params.provider.MethodSource;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.autoconfigure.orm.jpa.HibernatePropertiesCustomizer;
+import org.springframework.boot.test.autoconfigure.jdbc.AutoConfigureTestDatabase;
+import org.springframework.boot.test.autoconfigure.orm.jpa.DataJpaTest;
+import org.springframework.boot.test.context.TestConfiguration;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.context.annotation.Bean;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * 사용자 + 날짜 조건 조회가 V2/V10에서 추가한 (사용자, 날짜) 복합 인덱스를 타는지 마이그레이션을 적용한 MySQL에서 EXPLAIN으로 확인한다.
+ *
+ * <p>리포지토리 메소드를 실제로 호출하고 Hibernate가 보낸 SQL을 {@link StatementInspector}로 받아 그대로 EXPLAIN한다. 사용자 컬럼만
+ * 있는 FK 인덱스로도 풀 스캔은 피하므로 풀 스캔 여부가 아니라 기대하는 인덱스 이름을 확인한다. 옵티마이저가 작은 테이블에서는 풀 스캔을 고를 수
+ * 있으므로 여러 사용자의 데이터를 넣고 ANALYZE TABLE 후 확인한다. Docker가 없으면 건너뛴다.
+ */
+@DataJpaTest
+@AutoConfigureTestDatabase(replace = AutoConfigureTestDatabase.Replace.NONE)
+@Testcontainers(disabledWithoutDocker = true)
+class UserDateIndexExplainTest {
+
+    private static final int USERS = 200;
+    private static final int ROWS_PER_USER = 30;
+    private static final long USER_ID = 7L;
+    private static final LocalDate START = LocalDate.of(2025, 11, 1);
+    private static final LocalDate DATE = LocalDate.of(2025, 11, 10);
+    private static final LocalDate MONDAY = LocalDate.of(2025, 11, 3);
+    private static final LocalDate SUNDAY = LocalDate.of(2025, 11, 9);
+
+    private static final List<String> STATEMENTS = new ArrayList<>();
+
+    @Container @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.43");
+
+    @Autowired private LedgerRepository ledgerRepository;
+    @Autowired private UserMissionRepository userMissionRepository;
+    @Autowired private UserQuizRepository userQuizRepository;
+    @Autowired private UserKnowledgeRepository userKnowledgeRepository;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    // Hibernate가 보내는 SQL을 그대로 받아 둔다 (스키마 관리는 Flyway만 하도록 JpaConfig와 같이 끈다)
+    @TestConfiguration
+    static class CaptureConfig {
+
+        @Bean
+        HibernatePropertiesCustomizer statementCaptureCustomizer() {
+            return properties -> {
+                properties.put(
+                        AvailableSettings.STATEMENT_INSPECTOR,
+                        (StatementInspector)
+                                sql -> {
+                                    STATEMENTS.add(sql);
+                                    return sql;
+                                });
+                properties.put(AvailableSettings.HBM2DDL_AUTO, "none");
+            };
+        }
+    }
+
+    @BeforeAll
+    static void seed(@Autowired JdbcTemplate jdbcTemplate) {
+        jdbcTemplate.update("insert into category (category_name, type) values ('식비', 'expense')");
+        jdbcTemplate.update(
+                "insert into mission (mission_content, mission_level, total_count)"
+                        + " values ('커피 줄이기', 1, 3)");
+        List<Object[]> users = new ArrayList<>();
+        for (int u = 1; u <= USERS; u++) {
+            users.add(new Object[] {"u" + u, "u" + u + "@finhabit.shop"});
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into users (nickname, email, password, level) values (?, ?, 'pw', 1)",
+                users);
+
+        List<Object[]> ledgers = new ArrayList<>();
+        List<Object[]> userMissions = new ArrayList<>();
+        List<Object[]> userQuizzes = new ArrayList<>();
+        List<Object[]> userKnowledge = new ArrayList<>();
+        for (long u = 1; u <= USERS; u++) {
+            for (int d = 0; d < ROWS_PER_USER; d++) {
+                LocalDate date = START.plusDays(d);
+                ledgers.add(new Object[] {u, date});
+                userMissions.add(new Object[] {u, START.plusWeeks(d), date});
+                userQuizzes.add(new Object[] {u, d + 1, date});
+                userKnowledge.add(new Object[] {u, d + 1, date});
+            }
+        }
+        jdbcTemplate.batchUpdate(
+                "insert into ledger (user_id, category_id, amount, merchant, date)"
+                        + " values (?, 1, 1000, 'm', ?)",
+                ledgers);
+        jdbcTemplate.batchUpdate(
+                "insert into usermission (userid, mission_id, is_completed, progress,"
+                        + " done_count, week_start, assigned_date) values (?, 1, 0, 0, 0, ?, ?)",
+                userMissions);
+        jdbcTemplate.batchUpdate(
+                "insert into user_quiz (user_id, quiz_id, attempted_date, is_answered,"
+                        + " is_correct) values (?, ?, ?, 0, 0)",
+                userQuizzes);
+        jdbcTemplate.batchUpdate(
+                "insert into user_knowledge (user_id, finance_id, opend_date) values (?, ?, ?)",
+                userKnowledge);
+
+        jdbcTemplate.execute("analyze table ledger, usermission, user_quiz, user_knowledge");
+    }
+
+    static Stream<Arguments> hotFinders() {
+        return Stream.of(
+                finder(
+                        "LedgerRepository.findAllByUser_IdAndDate",
+                        t -> t.ledgerRepository.findAllByUser_IdAndDate(USER_ID, DATE),
+                        "idx_ledger_user_date",
+                        USER_ID,
+                        DATE),
+                finder(
+                        "LedgerRepository.findAllByUser_IdAndDateBetween",
+                        t ->
+                                t.ledgerRepository.findAllByUser_IdAndDateBetween(
+                                        USER_ID, MONDAY, SUNDAY),
+                        "idx_ledger_user_date",
+                        USER_ID,
+                        MONDAY,
+                        SUNDAY),
+                finder(
+                        "LedgerRepository.summarizeByCategory",
+                        t -> t.ledgerRepository.summarizeByCategory(USER_ID, MONDAY, SUNDAY),
+                        "idx_ledger_user_date",
+                        USER_ID,
+                        MONDAY,
+                        SUNDAY),
+                finder(
+                        "UserMissionRepository.findByUser_IdAndAssignedDate",
+                        t -> t.userMissionRepository.findByUser_IdAndAssignedDate(USER_ID, DATE),
+                        "idx_usermission_user_assigned_date",
+                        USER_ID,
+                        DATE),
+                finder(
+                        "UserMissionRepository.findByUser_IdAndWeekStart",
+                        t -> t.userMissionRepository.findByUser_IdAndWeekStart(USER_ID, MONDAY),
+                        "idx_usermission_user_week_start",
+                        USER_ID,
+                        MONDAY),
+                finder(
+                        "UserQuizRepository.findByUserIdAndAttemptedDate",
+                        t -> t.userQuizRepository.findByUserIdAndAttemptedDate(USER_ID, DATE),
+                        "uk_user_quiz_user_attempted_date",
+                        USER_ID,
+                        DATE),
+                finder(
+                        "UserKnowledgeRepository.findByUserIdAndOpendDate",
+                        t -> t.userKnowledgeRepository.findByUserIdAndOpendDate(USER_ID, DATE),
+                        "uk_user_knowledge_user_opend_date",
+                        USER_ID,
+                        DATE));
+    }
+
+    // params: 리포지토리가 바인딩하는 순서 그대로의 파라미터 값 (EXPLAIN에 다시 바인딩)
+    private static Arguments finder(
+            String name,
+            Consumer<UserDateIndexExplainTest> call,
+            String expectedIndex,
+            Object... params) {
+        return Arguments.of(name, call, expectedIndex, params);
+    }
+
+    @ParameterizedTest(name = "{0}")
+    @MethodSource("hotFinders")
+    void hotFinderUsesUserDateIndex(
+            String name,
+            Consumer<UserDateIndexExplainTest> call,
+            String expectedIndex,
+            Object[] params) {
+        STATEMENTS.clear();
+        call.accept(this);
+        assertThat(STATEMENTS).as("SQL sent by %s", name).hasSize(1);
+
+        List<Map<String, Object>> plan =
+                jdbcTemplate.queryForList("explain " + STATEMENTS.get(0), params);
+
+        // 카테고리 조인이 있으면 카테고리 행도 나오므로 대상 테이블 행이 기대 인덱스를 쓰는지만 본다
+        assertThat(plan)
+                .as("plan of %s", name)
+                .anySatisfy(row -> assertThat(row.get("key")).isEqualTo(expectedIndex));
+    }
+}
@@ -0,0 +1,70 @@
+package com.ll.finhabit.domain.auth.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ll.finhabit.global.common.CacheNames;
+import com.ll.finhabit.global.session.LoginUser;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.cache.Cache;
+import org.springframework.cache.concurrent.ConcurrentMapCacheManager;
+import org.springframework.transaction.support.TransactionSynchronization;
+import org.springframework.transaction.support.TransactionSynchronizationManager;
+import org.springframework.transaction.support.TransactionSynchronizationUtils;
+
+class LoginUserServiceTest {
+
+    private static final long USER_ID = 1L;
+
+    private final ConcurrentMapCacheManager cacheManager =
+            new ConcurrentMapCacheManager(CacheNames.LOGIN_USER);
+    private final LoginUserService loginUserService = new LoginUserService(null, cacheManager);
+    private final Cache cache = cacheManager.getCache(CacheNames.LOGIN_USER);
+
+    @BeforeEach
+    void cacheLoginUser() {
+        cache.put(USER_ID, new LoginUser(USER_ID, 1, true));
+    }
+
+    @AfterEach
+    void clearSynchronization() {
+        if (TransactionSynchronizationManager.isSynchronizationActive()) {
+            TransactionSynchronizationManager.clearSynchronization();
+        }
+    }
+
+    @Test
+    void evictsImmediatelyWithoutTransaction() {
+        loginUserService.evictAfterCommit(USER_ID);
+
+        assertThat(cache.get(USER_ID)).isNull();
+    }
+
+    @Test
+    void evictsOnlyAfterCommit() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        loginUserService.evictAfterCommit(USER_ID);
+        // 커밋 전에 다른 요청이 다시 캐시한 값
+        cache.put(USER_ID, new LoginUser(USER_ID, 1, true));
+        assertThat(cache.get(USER_ID)).isNotNull();
+
+        TransactionSynchronizationUtils.invokeAfterCommit(
+                TransactionSynchronizationManager.getSynchronizations());
+
+        assertThat(cache.get(USER_ID)).isNull();
+    }
+
+    @Test
+    void keepsCacheWhenRolledBack() {
+        TransactionSynchronizationManager.initSynchronization();
+
+        loginUserService.evictAfterCommit(USER_ID);
+        TransactionSynchronizationUtils.invokeAfterCompletion(
+                TransactionSynchronizationManager.getSynchronizations(),
+                TransactionSynchronization.STATUS_ROLLED_BACK);
+
+        assertThat(cache.get(USER_ID)).isNotNull();
+    }
+}
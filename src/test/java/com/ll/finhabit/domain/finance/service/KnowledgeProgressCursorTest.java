@@ -0,0 +1,52 @@
+package com.ll.finhabit.domain.finance.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ll.finhabit.domain.finance.dto.DailyFinanceInfo;
+import com.ll.finhabit.domain.finance.entity.UserKnowledgeProgress;
+import java.time.LocalDate;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class KnowledgeProgressCursorTest {
+
+    private static final LocalDate DAY1 = LocalDate.of(2025, 11, 1);
+    private static final LocalDate DAY2 = LocalDate.of(2025, 11, 2);
+
+    // (createdDate, id) 순으로 정렬된 레벨 카탈로그
+    private final List<DailyFinanceInfo> catalog =
+            List.of(card(1L, DAY1), card(2L, DAY1), card(5L, DAY2), card(3L, DAY2.plusDays(1)));
+
+    @Test
+    void startsFromFirstCardWithoutCursor() {
+        assertThat(FinanceService.nextAfter(catalog, null).id()).isEqualTo(1L);
+    }
+
+    @Test
+    void returnsCardRightAfterCursor() {
+        assertThat(FinanceService.nextAfter(catalog, cursor(DAY1, 2L)).id()).isEqualTo(5L);
+        assertThat(FinanceService.nextAfter(catalog, cursor(DAY1, 1L)).id()).isEqualTo(2L);
+    }
+
+    @Test
+    void cursorOfRemovedCardStillFindsNextPosition() {
+        // 커서가 가리키던 카드가 카탈로그에서 빠져도 위치 기준으로 다음 카드를 찾는다
+        assertThat(FinanceService.nextAfter(catalog, cursor(DAY2, 4L)).id()).isEqualTo(5L);
+    }
+
+    @Test
+    void returnsNullAtEndOfCatalog() {
+        assertThat(FinanceService.nextAfter(catalog, cursor(DAY2.plusDays(1), 3L))).isNull();
+    }
+
+    private static DailyFinanceInfo card(Long id, LocalDate createdDate) {
+        return new DailyFinanceInfo(id, id.intValue(), null, null, null, 1, createdDate);
+    }
+
+    private static UserKnowledgeProgress cursor(LocalDate lastCreatedDate, Long lastCardId) {
+        return UserKnowledgeProgress.builder()
+                .lastCreatedDate(lastCreatedDate)
+                .lastCardId(lastCardId)
+                .build();
+    }
+}
@@ -0,0 +1,129 @@
+package com.ll.finhabit.domain.home.controller;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.springframework.test.web.servlet.request.MockMvcRequestBuilders.get;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.header;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.jsonPath;
+import static org.springframework.test.web.servlet.result.MockMvcResultMatchers.status;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import org.hamcrest.Matchers;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.springframework.beans.factory.annotation.Autowired;
+import org.springframework.boot.test.autoconfigure.web.servlet.AutoConfigureMockMvc;
+import org.springframework.boot.test.context.SpringBootTest;
+import org.springframework.boot.testcontainers.service.connection.ServiceConnection;
+import org.springframework.jdbc.core.JdbcTemplate;
+import org.springframework.mock.web.MockHttpSession;
+import org.springframework.test.web.servlet.MockMvc;
+import org.testcontainers.containers.MySQLContainer;
+import org.testcontainers.junit.jupiter.Container;
+import org.testcontainers.junit.jupiter.Testcontainers;
+
+/**
+ * /api/home이 섹션을 모두 채워 응답하는지, 커넥션 풀보다 많은 홈 요청이 동시에 와도 커넥션을 기다리다 실패하지 않는지 확인한다. 풀을 4개로
+ * 줄여 섹션마다 커넥션을 잡던 병렬 조회라면 타임아웃이 나는 조건을 만든다. Docker가 없으면 건너뛴다.
+ */
+@SpringBootTest(
+        properties = {
+            "spring.datasource.hikari.maximum-pool-size=4",
+            "spring.datasource.hikari.connection-timeout=3000"
+        })
+@AutoConfigureMockMvc
+@Testcontainers(disabledWithoutDocker = true)
+class HomeControllerTest {
+
+    private static final long USER_ID = 1L;
+    private static final int CONCURRENT_REQUESTS = 16;
+
+    @Container @ServiceConnection
+    static final MySQLContainer<?> MYSQL = new MySQLContainer<>("mysql:8.0.43");
+
+    @Autowired private MockMvc mockMvc;
+    @Autowired private JdbcTemplate jdbcTemplate;
+
+    // 홈 요청이 오늘의 미션/카드/퀴즈를 배정하므로 같은 날 다시 요청해도 같은 결과가 나오도록 insert ignore
+    @BeforeEach
+    void seed() {
+        jdbcTemplate.update(
+                "insert ignore into users (id, nickname, email, password, level)"
+                        + " values (?, 'owner', 'owner@finhabit.shop', 'pw', 1)",
+                USER_ID);
+        jdbcTemplate.update(
+                "insert ignore into mission (mission_id, mission_content, mission_level,"
+                        + " total_count) values (1, '커피 줄이기', 1, 3)");
+        jdbcTemplate.update(
+                "insert ignore into quiz (id, quiz_id, question, option1, option2, option3,"
+                        + " answer) values (1, 1, '질문', '1', '2', '3', 1)");
+        jdbcTemplate.update(
+                "insert ignore into daily_finance (id, finance_id, quiz_id, card_title,"
+                        + " card_content, card_level, created_date)"
+                        + " values (1, 101, 1, '카드', 'c', 1, '2025-11-01')");
+        jdbcTemplate.update(
+                "insert ignore into category (category_id, category_name, type)"
+                        + " values (1, '식비', 'expense')");
+        jdbcTemplate.update(
+                "insert ignore into ledger (ledger_id, user_id, category_id, amount, merchant,"
+                        + " date, payment) values (1, ?, 1, 12000, '점심', ?, 'CARD')",
+                USER_ID,
+                LocalDate.now());
+    }
+
+    @Test
+    void homeReturnsEverySectionWithServerTiming() throws Exception {
+        mockMvc.perform(get("/api/home").session(loginSession()))
+                .andExpect(status().isOk())
+                .andExpect(jsonPath("$.mission.todayMission.missionId").value(1))
+                .andExpect(jsonPath("$.financeQuiz.todayFinance.financeId").value(101))
+                .andExpect(jsonPath("$.ledger.today.totalExpense").value(12000))
+                .andExpect(jsonPath("$.ledger.today.ledgers.length()").value(1))
+                .andExpect(jsonPath("$.notifications.length()").value(3))
+                .andExpect(header().string("Server-Timing", Matchers.containsString("ledger;dur=")))
+                .andExpect(header().string("Server-Timing", Matchers.containsString("total;dur=")));
+    }
+
+    @Test
+    void concurrentHomeRequestsDoNotExhaustConnectionPool() throws Exception {
+        // 오늘의 미션/카드/퀴즈 배정은 먼저 끝내 두고 조회만 동시에 보낸다
+        mockMvc.perform(get("/api/home").session(loginSession())).andExpect(status().isOk());
+
+        ExecutorService executor = Executors.newFixedThreadPool(CONCURRENT_REQUESTS);
+        try {
+            CountDownLatch start = new CountDownLatch(1);
+            List<Future<Integer>> statuses = new ArrayList<>();
+            for (int i = 0; i < CONCURRENT_REQUESTS; i++) {
+                statuses.add(
+                        executor.submit(
+                                () -> {
+                                    start.await();
+                                    return mockMvc.perform(
+                                                    get("/api/home").session(loginSession()))
+                                            .andReturn()
+                                            .getResponse()
+                                            .getStatus();
+                                }));
+            }
+            start.countDown();
+
+            for (Future<Integer> status : statuses) {
+                assertThat(status.get()).isEqualTo(200);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+    }
+
+    // LoginSessionService가 서블릿 세션 모드에서 읽는 속성
+    private static MockHttpSession loginSession() {
+        MockHttpSession session = new MockHttpSession();
+        session.setAttribute("LOGIN_USER_ID", USER_ID);
+        return session;
+    }
+}
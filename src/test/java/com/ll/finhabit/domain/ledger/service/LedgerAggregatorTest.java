@@ -0,0 +1,90 @@
+package com.ll.finhabit.domain.ledger.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.List;
+import java.util.Random;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+class LedgerAggregatorTest {
+
+    @ParameterizedTest
+    @ValueSource(ints = {1, 2, 3, 7, 12, 50})
+    void percentsAlwaysSumTo100(int categories) {
+        Random random = new Random(categories);
+        for (int round = 0; round < 1_000; round++) {
+            LedgerAggregator aggregator = new LedgerAggregator();
+            for (int c = 0; c < categories; c++) {
+                // 0원 카테고리도 섞는다
+                long amount = random.nextInt(4) == 0 ? 0 : random.nextInt(1_000_000);
+                aggregator.add(c, "c" + c, "expense", amount, 1);
+            }
+            if (aggregator.total() == 0) {
+                continue;
+            }
+
+            assertThat(sum(percents(aggregator))).isEqualTo(100);
+        }
+    }
+
+    @Test
+    void tiedRemaindersGoToEarlierCategory() {
+        LedgerAggregator aggregator =
+                new LedgerAggregator()
+                        .add(1, "식비", "expense", 1_000, 1)
+                        .add(2, "교통", "expense", 1_000, 1)
+                        .add(3, "쇼핑", "expense", 1_000, 1);
+
+        assertThat(percents(aggregator)).containsExactly(34, 33, 33);
+    }
+
+    @Test
+    void tiedRemaindersGoToLargerAmount() {
+        // 세 카테고리의 나머지가 모두 같으므로 금액이 큰 쪽, 그다음 먼저 등장한 쪽이 1을 받는다
+        LedgerAggregator aggregator =
+                new LedgerAggregator()
+                        .add(1, "식비", "expense", 100, 1)
+                        .add(2, "교통", "expense", 400, 1)
+                        .add(3, "쇼핑", "expense", 100, 1)
+                        .add(4, "기타", "expense", 0, 1);
+
+        assertThat(percents(aggregator)).containsExactly(17, 67, 16, 0);
+    }
+
+    @Test
+    void allZeroTotalGivesZeroPercents() {
+        LedgerAggregator aggregator =
+                new LedgerAggregator()
+                        .add(1, "식비", "expense", 0, 1)
+                        .add(2, "교통", "expense", 0, 2);
+
+        assertThat(percents(aggregator)).containsExactly(0, 0);
+    }
+
+    @Test
+    void sameCategoryIsMergedInFirstSeenOrder() {
+        LedgerAggregator aggregator =
+                new LedgerAggregator(1)
+                        .add(9, "교통", "expense", 300, 1)
+                        .add(3, "식비", "expense", 700, 1)
+                        .add(9, "교통", "expense", 200, 2);
+
+        List<LedgerAggregator.Entry> entries = aggregator.entries();
+        assertThat(entries).extracting(LedgerAggregator.Entry::categoryId).containsExactly(9L, 3L);
+        assertThat(entries.get(0).amount()).isEqualTo(500);
+        assertThat(entries.get(0).count()).isEqualTo(3);
+        assertThat(aggregator.amountOf(3)).isEqualTo(700);
+        assertThat(aggregator.amountOf(42)).isZero();
+        assertThat(aggregator.total()).isEqualTo(1_200);
+    }
+
+    private static int sum(List<Integer> percents) {
+        return percents.stream().mapToInt(Integer::intValue).sum();
+    }
+
+    private static List<Integer> percents(LedgerAggregator aggregator) {
+        return aggregator.entries().stream().map(LedgerAggregator.Entry::percent).toList();
+    }
+}
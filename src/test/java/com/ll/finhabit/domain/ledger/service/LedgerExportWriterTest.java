@@ -0,0 +1,126 @@
+package com.ll.finhabit.domain.ledger.service;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ll.finhabit.domain.ledger.dto.LedgerExportFormat;
+import com.ll.finhabit.domain.ledger.entity.Category;
+import com.ll.finhabit.domain.ledger.entity.Ledger;
+import com.ll.finhabit.domain.ledger.entity.PaymentType;
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.time.LocalDate;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+import org.springframework.http.converter.json.Jackson2ObjectMapperBuilder;
+
+class LedgerExportWriterTest {
+
+    private static final int LARGE_ROWS = 1_000_000;
+
+    private final LedgerExportWriter writer =
+            new LedgerExportWriter(Jackson2ObjectMapperBuilder.json().build());
+
+    @Test
+    void csvEscapesDelimitersAndFormulas() throws IOException {
+        Category category =
+                Category.builder().categoryId(1L).categoryName("식비").type("expense").build();
+        Ledger ledger =
+                Ledger.builder()
+                        .ledgerId(7L)
+                        .category(category)
+                        .amount(12_000)
+                        .merchant("=HYPERLINK(\"x\"), 김밥")
+                        .date(LocalDate.of(2025, 12, 1))
+                        .payment(PaymentType.CARD)
+                        .build();
+        ByteArrayOutputStream out = new ByteArrayOutputStream();
+
+        writer.write(List.of(ledger).iterator(), LedgerExportFormat.CSV, out, l -> {});
+
+        String[] lines = out.toString(StandardCharsets.UTF_8).split("\n");
+        assertThat(lines[0]).startsWith("﻿ledgerId,");
+        assertThat(lines[1])
+                .isEqualTo("7,2025-12-01,expense,식비,12000,\"'=HYPERLINK(\"\"x\"\"), 김밥\",CARD");
+    }
+
+    // 작은 힙(-Xmx32m)에서 100만 건을 내보내도 OOM 없이 끝나는지 확인: ./gradlew smallHeapTest
+    @Tag("small-heap")
+    @ParameterizedTest
+    @EnumSource(LedgerExportFormat.class)
+    void exportsOneMillionRowsWithConstantMemory(LedgerExportFormat format) throws IOException {
+        LineCountingOutputStream out = new LineCountingOutputStream();
+
+        long written = writer.write(new SyntheticLedgers(LARGE_ROWS), format, out, l -> {});
+
+        int headerLines = format == LedgerExportFormat.CSV ? 1 : 0;
+        assertThat(written).isEqualTo(LARGE_ROWS);
+        assertThat(out.lines).isEqualTo(LARGE_ROWS + headerLines);
+    }
+
+    // DB 커서처럼 한 건씩 만들어 내는 가계부 (전체를 메모리에 올리지 않는다)
+    private static final class SyntheticLedgers implements Iterator<Ledger> {
+
+        private final Category[] categories = {
+            Category.builder().categoryId(1L).categoryName("식비").type("expense").build(),
+            Category.builder().categoryId(2L).categoryName("교통").type("expense").build(),
+            Category.builder().categoryId(3L).categoryName("월급").type("income").build()
+        };
+        private final LocalDate start = LocalDate.of(2000, 1, 1);
+        private final int size;
+        private int next;
+
+        SyntheticLedgers(int size) {
+            this.size = size;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return next < size;
+        }
+
+        @Override
+        public Ledger next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            int i = next++;
+            return Ledger.builder()
+                    .ledgerId((long) i + 1)
+                    .category(categories[i % categories.length])
+                    .amount(1_000 + i % 99_000)
+                    .merchant("merchant-" + i % 500)
+                    .date(start.plusDays(i / 100))
+                    .payment(PaymentType.values()[i % PaymentType.values().length])
+                    .build();
+        }
+    }
+
+    // 내용은 버리고 줄 수만 센다
+    private static final class LineCountingOutputStream extends OutputStream {
+
+        private long lines;
+
+        @Override
+        public void write(int b) {
+            if (b == '\n') {
+                lines++;
+            }
+        }
+
+        @Override
+        public void write(byte[] b, int off, int len) {
+            for (int i = off; i < off + len; i++) {
+                if (b[i] == '\n') {
+                    lines++;
+                }
+            }
+        }
+    }
+}
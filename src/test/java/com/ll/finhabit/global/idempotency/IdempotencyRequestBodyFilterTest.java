@@ -0,0 +1,60 @@
+package com.ll.finhabit.global.idempotency;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import com.ll.finhabit.global.interceptor.IdempotencyInterceptor;
+import com.ll.finhabit.global.session.LoginSessionService;
+import jakarta.servlet.ServletRequest;
+import java.nio.charset.StandardCharsets;
+import org.junit.jupiter.api.Test;
+import org.springframework.mock.web.MockFilterChain;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+
+class IdempotencyRequestBodyFilterTest {
+
+    private final IdempotencyRequestBodyFilter filter = new IdempotencyRequestBodyFilter();
+
+    @Test
+    void bodyIsBufferedOnlyForRequestsTheInterceptorHandles() throws Exception {
+        assertThat(passedRequest(request("POST", "/api/ledger", "application/json", 1L)))
+                .isInstanceOf(CachedBodyHttpServletRequest.class);
+
+        // 로그인 전 요청, 제외 경로, 키 없는 요청
+        assertThat(passedRequest(request("POST", "/api/auth/signup", "application/json", null)))
+                .isNotInstanceOf(CachedBodyHttpServletRequest.class);
+        assertThat(passedRequest(request("POST", "/api/mission/1/check", "application/json", 1L)))
+                .isNotInstanceOf(CachedBodyHttpServletRequest.class);
+        MockHttpServletRequest withoutKey = request("POST", "/api/ledger", "application/json", 1L);
+        withoutKey.removeHeader(IdempotencyInterceptor.HEADER);
+        assertThat(passedRequest(withoutKey)).isNotInstanceOf(CachedBodyHttpServletRequest.class);
+    }
+
+    @Test
+    void csvImportIsNotBuffered() throws Exception {
+        MockHttpServletRequest csv = request("POST", "/api/ledger/import", "text/csv", 1L);
+
+        ServletRequest passed = passedRequest(csv);
+
+        assertThat(passed).isSameAs(csv);
+        assertThat(passed.getInputStream().readAllBytes()).isNotEmpty();
+    }
+
+    private ServletRequest passedRequest(MockHttpServletRequest request) throws Exception {
+        MockFilterChain chain = new MockFilterChain();
+        filter.doFilter(request, new MockHttpServletResponse(), chain);
+        return chain.getRequest();
+    }
+
+    private static MockHttpServletRequest request(
+            String method, String uri, String contentType, Long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        request.addHeader(IdempotencyInterceptor.HEADER, "key-1");
+        request.setContentType(contentType);
+        request.setContent("body".getBytes(StandardCharsets.UTF_8));
+        if (userId != null) {
+            request.setAttribute(LoginSessionService.USER_ID_ATTRIBUTE, userId);
+        }
+        return request;
+    }
+}
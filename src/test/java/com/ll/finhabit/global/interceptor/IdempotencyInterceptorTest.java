@@ -0,0 +1,211 @@
+package com.ll.finhabit.global.interceptor;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ll.finhabit.global.idempotency.CachedBodyHttpServletRequest;
+import com.ll.finhabit.global.idempotency.IdempotencyResponseBodyAdvice.CapturedResponse;
+import com.ll.finhabit.global.idempotency.InMemoryIdempotencyStore;
+import com.ll.finhabit.global.session.LoginSessionService;
+import jakarta.servlet.http.HttpServletRequest;
+import java.io.IOException;
+import java.nio.charset.StandardCharsets;
+import java.time.Duration;
+import org.junit.jupiter.api.Test;
+import org.springframework.http.HttpStatus;
+import org.springframework.mock.web.MockHttpServletRequest;
+import org.springframework.mock.web.MockHttpServletResponse;
+import org.springframework.web.server.ResponseStatusException;
+
+class IdempotencyInterceptorTest {
+
+    private static final String BODY = "{\"ledgerId\":1}";
+
+    private final IdempotencyInterceptor interceptor =
+            new IdempotencyInterceptor(
+                    new InMemoryIdempotencyStore(100, Duration.ofHours(1)),
+                    Duration.ofHours(1),
+                    Duration.ofMinutes(1));
+
+    @Test
+    void retryReplaysStoredResponseWithoutCallingHandler() throws Exception {
+        MockHttpServletRequest first = request("POST", "/api/ledger", "key-1", 1L);
+        assertThat(interceptor.preHandle(first, new MockHttpServletResponse(), null)).isTrue();
+        complete(first, HttpStatus.CREATED);
+
+        MockHttpServletResponse replayed = new MockHttpServletResponse();
+        boolean proceed =
+                interceptor.preHandle(
+                        request("POST", "/api/ledger", "key-1", 1L), replayed, null);
+
+        assertThat(proceed).isFalse();
+        assertThat(replayed.getStatus()).isEqualTo(201);
+        assertThat(replayed.getHeader(IdempotencyInterceptor.REPLAYED_HEADER)).isEqualTo("true");
+        assertThat(replayed.getContentType()).isEqualTo("application/json");
+        assertThat(replayed.getContentAsString(StandardCharsets.UTF_8)).isEqualTo(BODY);
+    }
+
+    @Test
+    void keysAreScopedPerUser() throws Exception {
+        MockHttpServletRequest first = request("POST", "/api/ledger", "key-1", 1L);
+        interceptor.preHandle(first, new MockHttpServletResponse(), null);
+        complete(first, HttpStatus.CREATED);
+
+        assertThat(
+                        interceptor.preHandle(
+                                request("POST", "/api/ledger", "key-1", 2L),
+                                new MockHttpServletResponse(),
+                                null))
+                .isTrue();
+    }
+
+    @Test
+    void retryWhileFirstRequestIsInFlightIsRejected() throws Exception {
+        interceptor.preHandle(
+                request("POST", "/api/ledger", "key-1", 1L), new MockHttpServletResponse(), null);
+
+        assertThatThrownBy(
+                        () ->
+                                interceptor.preHandle(
+                                        request("POST", "/api/ledger", "key-1", 1L),
+                                        new MockHttpServletResponse(),
+                                        null))
+                .isInstanceOfSatisfying(
+                        ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.CONFLICT));
+    }
+
+    @Test
+    void sameKeyOnDifferentEndpointIsRejected() throws Exception {
+        MockHttpServletRequest first = request("POST", "/api/ledger", "key-1", 1L);
+        interceptor.preHandle(first, new MockHttpServletResponse(), null);
+        complete(first, HttpStatus.CREATED);
+
+        assertThatThrownBy(
+                        () ->
+                                interceptor.preHandle(
+                                        request("DELETE", "/api/ledger/1", "key-1", 1L),
+                                        new MockHttpServletResponse(),
+                                        null))
+                .isInstanceOfSatisfying(
+                        ResponseStatusException.class,
+                        e ->
+                                assertThat(e.getStatusCode())
+                                        .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY));
+    }
+
+    @Test
+    void sameKeyWithDifferentBodyIsRejected() throws Exception {
+        MockHttpServletRequest first = request("POST", "/api/ledger", "key-1", 1L);
+        interceptor.preHandle(
+                withBody(first, "{\"amount\":1000}"), new MockHttpServletResponse(), null);
+        complete(first, HttpStatus.CREATED);
+
+        assertThat(
+                        interceptor.preHandle(
+                                withBody(
+                                        request("POST", "/api/ledger", "key-1", 1L),
+                                        "{\"amount\":1000}"),
+                                new MockHttpServletResponse(),
+                                null))
+                .isFalse();
+        assertThatThrownBy(
+                        () ->
+                                interceptor.preHandle(
+                                        withBody(
+                                                request("POST", "/api/ledger", "key-1", 1L),
+                                                "{\"amount\":9000}"),
+                                        new MockHttpServletResponse(),
+                                        null))
+                .isInstanceOfSatisfying(
+                        ResponseStatusException.class,
+                        e ->
+                                assertThat(e.getStatusCode())
+                                        .isEqualTo(HttpStatus.UNPROCESSABLE_ENTITY));
+    }
+
+    @Test
+    void failedRequestReleasesKeyForRetry() throws Exception {
+        MockHttpServletRequest first = request("POST", "/api/ledger", "key-1", 1L);
+        interceptor.preHandle(first, new MockHttpServletResponse(), null);
+        complete(first, HttpStatus.BAD_REQUEST);
+
+        assertThat(
+                        interceptor.preHandle(
+                                request("POST", "/api/ledger", "key-1", 1L),
+                                new MockHttpServletResponse(),
+                                null))
+                .isTrue();
+    }
+
+    @Test
+    void requestsWithoutKeyOrReadOnlyMethodArePassedThrough() throws Exception {
+        assertThat(
+                        interceptor.preHandle(
+                                request("POST", "/api/ledger", null, 1L),
+                                new MockHttpServletResponse(),
+                                null))
+                .isTrue();
+        assertThat(
+                        interceptor.preHandle(
+                                request("GET", "/api/ledger", "key-1", 1L),
+                                new MockHttpServletResponse(),
+                                null))
+                .isTrue();
+    }
+
+    @Test
+    void anonymousAndExcludedRequestsArePassedThrough() throws Exception {
+        MockHttpServletRequest anonymous = request("POST", "/api/auth/signup", "key-1", null);
+        MockHttpServletRequest missionCheck =
+                request("POST", "/api/mission/1/check", "key-1", 1L);
+
+        assertThat(interceptor.preHandle(anonymous, new MockHttpServletResponse(), null)).isTrue();
+        assertThat(interceptor.preHandle(missionCheck, new MockHttpServletResponse(), null))
+                .isTrue();
+        assertThat(anonymous.getAttribute(IdempotencyInterceptor.STORE_KEY_ATTRIBUTE)).isNull();
+        assertThat(missionCheck.getAttribute(IdempotencyInterceptor.STORE_KEY_ATTRIBUTE)).isNull();
+    }
+
+    @Test
+    void csvBodyThatWasNotBufferedIsRejected() {
+        MockHttpServletRequest csv = request("POST", "/api/ledger/import", "key-1", 1L);
+        csv.setContentType("text/csv");
+        csv.setContent("categoryId,amount,merchant\n1,1000,카페".getBytes(StandardCharsets.UTF_8));
+
+        assertThatThrownBy(() -> interceptor.preHandle(csv, new MockHttpServletResponse(), null))
+                .isInstanceOfSatisfying(
+                        ResponseStatusException.class,
+                        e -> assertThat(e.getStatusCode()).isEqualTo(HttpStatus.BAD_REQUEST));
+    }
+
+    // 컨트롤러 응답 + IdempotencyResponseBodyAdvice가 하는 일을 흉내 내고 afterCompletion 호출
+    private void complete(MockHttpServletRequest request, HttpStatus status) {
+        MockHttpServletResponse response = new MockHttpServletResponse();
+        response.setStatus(status.value());
+        request.setAttribute(
+                IdempotencyInterceptor.RESPONSE_ATTRIBUTE,
+                new CapturedResponse("application/json", BODY.getBytes(StandardCharsets.UTF_8)));
+        interceptor.afterCompletion(request, response, null, null);
+    }
+
+    // IdempotencyRequestBodyFilter가 하는 일: 본문을 미리 읽어 둔 래퍼로 감싼다
+    private static HttpServletRequest withBody(MockHttpServletRequest request, String body)
+            throws IOException {
+        request.setContentType("application/json");
+        request.setContent(body.getBytes(StandardCharsets.UTF_8));
+        return new CachedBodyHttpServletRequest(request);
+    }
+
+    private static MockHttpServletRequest request(
+            String method, String uri, String key, Long userId) {
+        MockHttpServletRequest request = new MockHttpServletRequest(method, uri);
+        if (key != null) {
+            request.addHeader(IdempotencyInterceptor.HEADER, key);
+        }
+        if (userId != null) {
+            request.setAttribute(LoginSessionService.USER_ID_ATTRIBUTE, userId);
+        }
+        return request;
+    }
+}
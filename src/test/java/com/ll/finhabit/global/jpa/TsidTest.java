@@ -0,0 +1,32 @@
+package com.ll.finhabit.global.jpa;
+
+import static org.assertj.core.api.Assertions.assertThat;
+
+import java.util.HashSet;
+import java.util.Set;
+import org.junit.jupiter.api.Test;
+
+class TsidTest {
+
+    private static final long JS_MAX_SAFE_INTEGER = (1L << 53) - 1;
+
+    @Test
+    void idsAreUniqueIncreasingAndJavaScriptSafe() {
+        int count = 200_000; // 한 밀리초의 순번(최대 64개)을 여러 번 넘기도록 충분히 많이
+        Set<Long> seen = new HashSet<>(count * 2);
+        long previous = 0;
+
+        for (int i = 0; i < count; i++) {
+            long id = Tsid.next();
+            assertThat(id).isGreaterThan(previous).isLessThanOrEqualTo(JS_MAX_SAFE_INTEGER);
+            assertThat(seen.add(id)).isTrue();
+            previous = id;
+        }
+    }
+
+    @Test
+    void idsAreAboveExistingAutoIncrementRange() {
+        // 2025-01-01 이후 발급분은 최소 (경과 ms << 12) 이상: 기존 AUTO_INCREMENT 값(수백만 이하)과 겹치지 않는다
+        assertThat(Tsid.next()).isGreaterThan(1L << 40);
+    }
+}
@@ -0,0 +1,71 @@
+package com.ll.finhabit.global.session;
+
+import static org.assertj.core.api.Assertions.assertThat;
+import static org.assertj.core.api.Assertions.assertThatThrownBy;
+
+import com.ll.finhabit.global.session.SessionTokenCodec.SessionToken;
+import java.util.Base64;
+import java.util.List;
+import org.junit.jupiter.api.Test;
+
+class SessionTokenCodecTest {
+
+    private static final String OLD_KEY = "k1:" + secret('a');
+    private static final String NEW_KEY = "k2:" + secret('b');
+    private static final long NOW = 1_760_000_000L;
+
+    @Test
+    void issuedTokenVerifiesToSameUser() {
+        SessionTokenCodec codec = new SessionTokenCodec(List.of(NEW_KEY));
+
+        SessionToken token = codec.verify(codec.issue(123_456_789L, NOW + 60), NOW);
+
+        assertThat(token).isEqualTo(new SessionToken(123_456_789L, NOW + 60));
+    }
+
+    @Test
+    void expiredTokenIsRejected() {
+        SessionTokenCodec codec = new SessionTokenCodec(List.of(NEW_KEY));
+
+        assertThat(codec.verify(codec.issue(1L, NOW), NOW)).isNull();
+    }
+
+    @Test
+    void tamperedTokenIsRejected() {
+        SessionTokenCodec codec = new SessionTokenCodec(List.of(NEW_KEY));
+        String token = codec.issue(1L, NOW + 60);
+
+        // 사용자 ID만 바꾸고 서명은 그대로
+        String otherUser = token.replaceFirst("^k2\\.1\\.", "k2.2.");
+
+        assertThat(otherUser).isNotEqualTo(token);
+        assertThat(codec.verify(otherUser, NOW)).isNull();
+        assertThat(codec.verify(token.substring(0, token.length() - 1), NOW)).isNull();
+        assertThat(codec.verify("k2.1", NOW)).isNull();
+        assertThat(codec.verify(token + ".x", NOW)).isNull();
+    }
+
+    @Test
+    void rotatedKeysStillVerifyUntilRemoved() {
+        String issuedWithOldKey = new SessionTokenCodec(List.of(OLD_KEY)).issue(7L, NOW + 60);
+
+        SessionTokenCodec rotated = new SessionTokenCodec(List.of(NEW_KEY, OLD_KEY));
+        assertThat(rotated.verify(issuedWithOldKey, NOW)).isNotNull();
+        assertThat(rotated.issue(7L, NOW + 60)).startsWith("k2.");
+
+        SessionTokenCodec oldKeyRemoved = new SessionTokenCodec(List.of(NEW_KEY));
+        assertThat(oldKeyRemoved.verify(issuedWithOldKey, NOW)).isNull();
+    }
+
+    @Test
+    void shortSecretIsRejected() {
+        String shortKey = "k1:" + Base64.getEncoder().encodeToString(new byte[16]);
+
+        assertThatThrownBy(() -> new SessionTokenCodec(List.of(shortKey)))
+                .isInstanceOf(IllegalStateException.class);
+    }
+
+    private static String secret(char fill) {
+        return Base64.getEncoder().encodeToString(String.valueOf(fill).repeat(32).getBytes());
+    }
+}